@@ -0,0 +1,22 @@
+package com.branches.bulkhead;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+
+@Getter
+@RequiredArgsConstructor
+public enum BulkheadGroup {
+    REPAIR_WRITES("repair-writes"),
+    WRITES("writes"),
+    READS("reads");
+
+    private final String tag;
+
+    public static BulkheadGroup of(String method, String uri) {
+        HttpMethod httpMethod = HttpMethod.valueOf(method);
+        if (httpMethod == HttpMethod.GET || httpMethod == HttpMethod.HEAD || httpMethod == HttpMethod.OPTIONS) return READS;
+
+        return uri.startsWith("/v1/repairs") ? REPAIR_WRITES : WRITES;
+    }
+}
@@ -0,0 +1,57 @@
+package com.branches.bulkhead;
+
+import com.branches.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class BulkheadInterceptor implements HandlerInterceptor {
+    private static final String ACQUIRED_BULKHEAD_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".ACQUIRED";
+    private final Map<BulkheadGroup, Bulkhead> bulkheads;
+    private final Map<BulkheadGroup, Counter> rejections = new EnumMap<>(BulkheadGroup.class);
+
+    public BulkheadInterceptor(Map<BulkheadGroup, Bulkhead> bulkheads, MeterRegistry meterRegistry) {
+        this.bulkheads = new EnumMap<>(bulkheads);
+
+        this.bulkheads.forEach((group, bulkhead) -> {
+            Gauge.builder("oficina.bulkhead.available.permits", bulkhead, Bulkhead::availablePermits)
+                    .tag("group", group.getTag())
+                    .register(meterRegistry);
+            Gauge.builder("oficina.bulkhead.max.concurrent.calls", bulkhead, Bulkhead::getMaxConcurrentCalls)
+                    .tag("group", group.getTag())
+                    .register(meterRegistry);
+            rejections.put(group, Counter.builder("oficina.bulkhead.rejections")
+                    .tag("group", group.getTag())
+                    .register(meterRegistry));
+        });
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        BulkheadGroup group = BulkheadGroup.of(request.getMethod(), request.getRequestURI());
+        Bulkhead bulkhead = bulkheads.get(group);
+
+        if (!bulkhead.tryAcquire()) {
+            rejections.get(group).increment();
+            throw new ServiceUnavailableException("Too many concurrent requests, try again later");
+        }
+
+        request.setAttribute(ACQUIRED_BULKHEAD_ATTRIBUTE, bulkhead);
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ACQUIRED_BULKHEAD_ATTRIBUTE) instanceof Bulkhead bulkhead) {
+            request.removeAttribute(ACQUIRED_BULKHEAD_ATTRIBUTE);
+            bulkhead.release();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.branches.config;
+
+import com.branches.bulkhead.Bulkhead;
+import com.branches.bulkhead.BulkheadGroup;
+import com.branches.bulkhead.BulkheadInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "oficina.bulkhead.enabled", matchIfMissing = true)
+public class BulkheadConfig {
+    @Bean
+    public BulkheadInterceptor bulkheadInterceptor(@Value("${spring.datasource.hikari.maximum-pool-size}") int poolSize,
+                                                   @Value("${oficina.bulkhead.max-wait}") Duration maxWait,
+                                                   @Value("${oficina.bulkhead.pool-share.repair-writes}") double repairWritesShare,
+                                                   @Value("${oficina.bulkhead.pool-share.writes}") double writesShare,
+                                                   @Value("${oficina.bulkhead.pool-share.reads}") double readsShare,
+                                                   MeterRegistry meterRegistry) {
+        Map<BulkheadGroup, Bulkhead> bulkheads = Map.of(
+                BulkheadGroup.REPAIR_WRITES, new Bulkhead(permits(poolSize, repairWritesShare), maxWait),
+                BulkheadGroup.WRITES, new Bulkhead(permits(poolSize, writesShare), maxWait),
+                BulkheadGroup.READS, new Bulkhead(permits(poolSize, readsShare), maxWait)
+        );
+
+        return new BulkheadInterceptor(bulkheads, meterRegistry);
+    }
+
+    @Bean
+    public WebMvcConfigurer bulkheadWebMvcConfigurer(BulkheadInterceptor bulkheadInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(bulkheadInterceptor).addPathPatterns("/v1/**");
+            }
+        };
+    }
+
+    private static int permits(int poolSize, double poolShare) {
+        return Math.max(1, (int) Math.floor(poolSize * poolShare));
+    }
+}
@@ -0,0 +1,80 @@
+package com.branches.config;
+
+import com.branches.model.Address;
+import com.branches.model.Category;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@EnableCaching
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    public static final String REPAIR_DETAILS_CACHE = "repairDetails";
+    public static final String CLIENT_OVERVIEW_CACHE = "clientOverview";
+    private static final List<String> REFERENCE_DATA_REGIONS = List.of(
+            Category.class.getName(),
+            Address.class.getName(),
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME
+    );
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(@Value("${oficina.cache.reference-data.ttl}") Duration ttl,
+                                                @Value("${oficina.cache.reference-data.maximum-size}") long maximumSize) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(URI.create("oficina:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        CaffeineConfiguration<Object, Object> referenceDataConfiguration = new CaffeineConfiguration<>();
+        referenceDataConfiguration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        referenceDataConfiguration.setMaximumSize(OptionalLong.of(maximumSize));
+        referenceDataConfiguration.setStatisticsEnabled(true);
+        REFERENCE_DATA_REGIONS.forEach(region -> cacheManager.createCache(region, referenceDataConfiguration));
+
+        CaffeineConfiguration<Object, Object> timestampsConfiguration = new CaffeineConfiguration<>();
+        timestampsConfiguration.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestampsConfiguration);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public org.springframework.cache.CacheManager cacheManager(CacheProperties cacheProperties,
+                                                               @Value("${oficina.cache.client-overview.ttl}") Duration clientOverviewTtl,
+                                                               @Value("${oficina.cache.client-overview.maximum-size}") long clientOverviewMaximumSize) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        caffeineCacheManager.registerCustomCache(CLIENT_OVERVIEW_CACHE, Caffeine.newBuilder()
+                .expireAfterWrite(clientOverviewTtl)
+                .maximumSize(clientOverviewMaximumSize)
+                .recordStats()
+                .build());
+
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
@@ -0,0 +1,29 @@
+package com.branches.config;
+
+import com.branches.logging.SlowQueryLogger;
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class LoggingConfig {
+    @Bean
+    public static BeanPostProcessor slowQueryLoggingPostProcessor(@Value("${oficina.logging.slow-query.threshold}") Duration threshold,
+                                                                  @Value("${oficina.logging.slow-query.sample-rate}") double sampleRate) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource dataSource)) return bean;
+
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new SlowQueryLogger(threshold, sampleRate))
+                        .build();
+            }
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.branches.controller;
 import com.branches.request.ClientPostRequest;
 import com.branches.request.ClientPutRequest;
 import com.branches.response.*;
+import com.branches.service.ClientOverviewService;
 import com.branches.service.ClientService;
 import com.branches.service.RepairService;
 import com.branches.service.VehicleService;
@@ -21,6 +22,7 @@ public class ClientController {
     private final ClientService service;
     private final VehicleService vehicleService;
     private final RepairService repairService;
+    private final ClientOverviewService clientOverviewService;
 
     @GetMapping
     public ResponseEntity<List<ClientGetResponse>> findAll(@RequestParam(required = false) String firstName) {
@@ -36,6 +38,13 @@ public class ClientController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<ClientOverviewGetResponse> findOverviewById(@PathVariable Long id, @RequestParam(required = false) Long afterId, @RequestParam(defaultValue = "20") int limit) {
+        ClientOverviewGetResponse response = clientOverviewService.findByClientId(id, afterId, limit);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{clientId}/vehicles")
     public ResponseEntity<List<VehicleDefaultResponse>> findVehiclesByClientId(@PathVariable Long clientId) {
         List<VehicleDefaultResponse> response = vehicleService.findByClientId(clientId);
@@ -4,13 +4,17 @@ import com.branches.request.EmployeePostRequest;
 import com.branches.request.EmployeePutRequest;
 import com.branches.response.EmployeeGetResponse;
 import com.branches.response.EmployeePostResponse;
+import com.branches.response.EmployeeUtilizationGetResponse;
+import com.branches.response.EmployeeUtilizationResponse;
 import com.branches.service.EmployeeService;
+import com.branches.service.EmployeeUtilizationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -18,6 +22,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EmployeeController {
     private final EmployeeService service;
+    private final EmployeeUtilizationService utilizationService;
 
     @GetMapping
     public ResponseEntity<List<EmployeeGetResponse>> findAll(@RequestParam(required = false) String firstName) {
@@ -33,6 +38,20 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/utilization")
+    public ResponseEntity<List<EmployeeUtilizationResponse>> findAllUtilizations(@RequestParam LocalDate from, @RequestParam LocalDate to) {
+        List<EmployeeUtilizationResponse> response = utilizationService.findAll(from, to);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/utilization")
+    public ResponseEntity<EmployeeUtilizationGetResponse> findUtilizationById(@PathVariable Long id, @RequestParam LocalDate from, @RequestParam LocalDate to) {
+        EmployeeUtilizationGetResponse response = utilizationService.findByEmployeeId(id, from, to);
+
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     public ResponseEntity<EmployeePostResponse> save(@Valid @RequestBody EmployeePostRequest postRequest) {
         EmployeePostResponse response = service.save(postRequest);
@@ -4,6 +4,8 @@ import com.branches.request.PiecePostRequest;
 import com.branches.request.PiecePostStockRequest;
 import com.branches.response.PieceGetResponse;
 import com.branches.response.PiecePostResponse;
+import com.branches.response.PieceReorderSuggestionResponse;
+import com.branches.service.PieceReorderService;
 import com.branches.service.PieceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import java.util.List;
 @RestController
 public class PieceController {
     private final PieceService service;
+    private final PieceReorderService reorderService;
 
     @GetMapping
     public ResponseEntity<List<PieceGetResponse>> findAll(@RequestParam(required = false) String name) {
@@ -26,6 +29,13 @@ public class PieceController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/reorder-suggestions")
+    public ResponseEntity<List<PieceReorderSuggestionResponse>> findReorderSuggestions(@RequestParam(defaultValue = "20") int limit) {
+        List<PieceReorderSuggestionResponse> response = reorderService.findSuggestions(limit);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PieceGetResponse> findById(@PathVariable Long id) {
         PieceGetResponse response = service.findById(id);
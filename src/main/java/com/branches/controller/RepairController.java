@@ -4,15 +4,24 @@ import com.branches.request.RepairEmployeePostRequest;
 import com.branches.request.RepairPiecePostRequest;
 import com.branches.request.RepairPostRequest;
 import com.branches.response.*;
+import com.branches.service.RepairDetailService;
 import com.branches.service.RepairEmployeeService;
+import com.branches.service.RepairExportService;
 import com.branches.service.RepairPieceService;
 import com.branches.service.RepairService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -20,9 +29,12 @@ import java.util.List;
 @RequestMapping("v1/repairs")
 @RequiredArgsConstructor
 public class RepairController {
+    private static final int MAX_BATCH_SIZE = 100;
     private final RepairService service;
     private final RepairEmployeeService repairEmployeeService;
     private final RepairPieceService repairPieceService;
+    private final RepairDetailService repairDetailService;
+    private final RepairExportService repairExportService;
 
     @GetMapping
     public ResponseEntity<List<RepairGetResponse>> findAll(@RequestParam(required = false) LocalDate dateRepair) {
@@ -31,6 +43,24 @@ public class RepairController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<RepairPageGetResponse> findAllPaginated(@RequestParam(required = false) LocalDate dateRepair, @RequestParam(required = false) Long afterId, @RequestParam int limit) {
+        RepairPageGetResponse response = service.findAllPaginated(dateRepair, afterId, limit);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response) throws IOException {
+        RepairExportFormat exportFormat = RepairExportFormat.of(format);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("repairs." + exportFormat.getExtension()).build().toString());
+
+        repairExportService.export(exportFormat, response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<RepairGetResponse> findById(@PathVariable Long id) {
         RepairGetResponse response = service.findById(id);
@@ -38,6 +68,13 @@ public class RepairController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<RepairDetailGetResponse> findDetailById(@PathVariable Long id) {
+        RepairDetailGetResponse response = repairDetailService.findByRepairId(id);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{repairId}/employees")
     public ResponseEntity<List<RepairEmployeePostResponse>> findEmployeesByRepairId(@PathVariable Long repairId){
         List<RepairEmployeePostResponse> response = repairEmployeeService.findAllByRepairId(repairId);
@@ -52,6 +89,13 @@ public class RepairController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{repairId}/reservations")
+    public ResponseEntity<List<PieceReservationResponse>> findReservationsByRepairId(@PathVariable Long repairId) {
+        List<PieceReservationResponse> response = repairPieceService.findAllReservationsByRepairId(repairId);
+
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     public ResponseEntity<RepairPostResponse> save(@Valid @RequestBody RepairPostRequest postRequest) {
         RepairPostResponse response = service.save(postRequest);
@@ -73,6 +117,34 @@ public class RepairController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/{repairId}/employees/batch")
+    public ResponseEntity<List<RepairEmployeePostResponse>> addEmployees(@PathVariable Long repairId, @RequestBody @NotEmpty(message = "The request body cannot be empty") @Size(max = MAX_BATCH_SIZE, message = "The request body cannot have more than {max} items") List<@Valid RepairEmployeePostRequest> postRequests) {
+        List<RepairEmployeePostResponse> response = repairEmployeeService.saveAll(repairId, postRequests);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/{repairId}/pieces/batch")
+    public ResponseEntity<List<RepairPiecePostResponse>> addPieces(@PathVariable Long repairId, @RequestBody @NotEmpty(message = "The request body cannot be empty") @Size(max = MAX_BATCH_SIZE, message = "The request body cannot have more than {max} items") List<@Valid RepairPiecePostRequest> postRequests) {
+        List<RepairPiecePostResponse> response = repairPieceService.saveAll(repairId, postRequests);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/{repairId}/reservations")
+    public ResponseEntity<PieceReservationResponse> reservePiece(@PathVariable Long repairId, @Valid @RequestBody RepairPiecePostRequest postRequest) {
+        PieceReservationResponse response = repairPieceService.reserve(repairId, postRequest);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/{repairId}/reservations/confirm")
+    public ResponseEntity<List<RepairPiecePostResponse>> confirmReservations(@PathVariable Long repairId) {
+        List<RepairPiecePostResponse> response = repairPieceService.confirmReservations(repairId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteById(@PathVariable Long id) {
         service.deleteById(id);
@@ -93,4 +165,11 @@ public class RepairController {
 
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping("/{repairId}/reservations/{pieceId}")
+    public ResponseEntity<Void> removesReservationByPieceId(@PathVariable Long repairId, @PathVariable Long pieceId) {
+        repairPieceService.deleteReservationByRepairIdAndPieceId(repairId, pieceId);
+
+        return ResponseEntity.noContent().build();
+    }
 }
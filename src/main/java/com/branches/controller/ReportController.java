@@ -0,0 +1,44 @@
+package com.branches.controller;
+
+import com.branches.response.RevenueByCategoryResponse;
+import com.branches.response.RevenueByPieceResponse;
+import com.branches.response.RevenueGranularity;
+import com.branches.response.RevenuePeriodResponse;
+import com.branches.service.RevenueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("v1/reports")
+@RequiredArgsConstructor
+public class ReportController {
+    private final RevenueService revenueService;
+
+    @GetMapping("/revenue")
+    public ResponseEntity<List<RevenuePeriodResponse>> findRevenue(@RequestParam LocalDate from, @RequestParam LocalDate to, @RequestParam(defaultValue = "day") String granularity) {
+        List<RevenuePeriodResponse> response = revenueService.findAllByPeriod(from, to, RevenueGranularity.of(granularity));
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/revenue/pieces")
+    public ResponseEntity<List<RevenueByPieceResponse>> findRevenueByPiece(@RequestParam LocalDate from, @RequestParam LocalDate to) {
+        List<RevenueByPieceResponse> response = revenueService.findAllByPiece(from, to);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/revenue/labor")
+    public ResponseEntity<List<RevenueByCategoryResponse>> findRevenueByCategory(@RequestParam LocalDate from, @RequestParam LocalDate to) {
+        List<RevenueByCategoryResponse> response = revenueService.findAllByCategory(from, to);
+
+        return ResponseEntity.ok(response);
+    }
+}
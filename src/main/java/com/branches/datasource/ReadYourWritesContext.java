@@ -0,0 +1,24 @@
+package com.branches.datasource;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+public final class ReadYourWritesContext {
+    private static final String PRIMARY_WRITE_ATTRIBUTE = ReadYourWritesContext.class.getName() + ".PRIMARY_WRITE";
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void markPrimaryWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return;
+
+        attributes.setAttribute(PRIMARY_WRITE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    public static boolean hasWrittenToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        return attributes != null && attributes.getAttribute(PRIMARY_WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.branches.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class WriteTrackingDataSource extends DelegatingDataSource {
+    public WriteTrackingDataSource(DataSource primary) {
+        super(primary);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        markPrimaryWriteIfReadWriteTransaction();
+
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        markPrimaryWriteIfReadWriteTransaction();
+
+        return super.getConnection(username, password);
+    }
+
+    private static void markPrimaryWriteIfReadWriteTransaction() {
+        if (TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWritesContext.markPrimaryWrite();
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.branches.exception;
 
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.format.DateTimeParseException;
 import java.util.List;
@@ -27,6 +30,13 @@ public class GlobalErrorHandlerAdvice {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<DefaultErrorMessage> handlerServiceUnavailableException(ServiceUnavailableException e) {
+        DefaultErrorMessage error = new DefaultErrorMessage(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getReason());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorMessage> handlerArgumentNotValidException(MethodArgumentNotValidException e) {
         List<String> errors = e.getFieldErrors().stream().map(FieldError::getDefaultMessage).toList();
@@ -36,6 +46,15 @@ public class GlobalErrorHandlerAdvice {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ValidationErrorMessage> handlerMethodValidationException(HandlerMethodValidationException e) {
+        List<String> errors = e.getAllErrors().stream().map(MessageSourceResolvable::getDefaultMessage).toList();
+
+        ValidationErrorMessage errorResponse = new ValidationErrorMessage(HttpStatus.BAD_REQUEST.value(), "Are fields invalid", Map.of("errors", errors));
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(DateTimeParseException.class)
     public ResponseEntity<DefaultErrorMessage> handlerDateTimeParseException() {
         DefaultErrorMessage error = new DefaultErrorMessage(HttpStatus.BAD_REQUEST.value(), "Date format is invalid");
@@ -12,7 +12,7 @@ import org.springframework.context.annotation.Primary;
 import java.util.List;
 
 @Primary
-@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = MoneyMapper.class)
 public interface CategoryMapper {
 
     List<CategoryGetResponse> toCategoryGetResponseList(List<Category> categoryList);
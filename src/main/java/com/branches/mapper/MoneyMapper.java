@@ -0,0 +1,14 @@
+package com.branches.mapper;
+
+import com.branches.model.Money;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import java.math.BigDecimal;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface MoneyMapper {
+    default Money toMoney(BigDecimal value) {
+        return value == null ? null : Money.of(value);
+    }
+}
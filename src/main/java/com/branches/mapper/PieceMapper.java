@@ -12,9 +12,10 @@ import org.springframework.context.annotation.Primary;
 import java.util.List;
 
 @Primary
-@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = MoneyMapper.class)
 public interface PieceMapper {
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "stockVersion", ignore = true)
     Piece toPiece(PiecePostRequest postRequest);
 
     List<PieceGetResponse> toPieceGetResponseList(List<Piece> response);
@@ -0,0 +1,17 @@
+package com.branches.mapper;
+
+import com.branches.model.PieceReservation;
+import com.branches.response.PieceReservationResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+
+@Primary
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface PieceReservationMapper {
+    PieceReservationResponse toPieceReservationResponse(PieceReservation pieceReservation);
+
+    List<PieceReservationResponse> toPieceReservationResponseList(List<PieceReservation> pieceReservationList);
+}
@@ -1,9 +1,13 @@
 package com.branches.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 @Entity(name = "endereco")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @Builder
 @With
@@ -20,6 +24,6 @@ public class Address {
     private String district;
     @Column(name = "cidade")
     private String city;
-    @Column(name = "uf", columnDefinition = "CHAR")
+    @Column(name = "uf", columnDefinition = "CHAR(2)")
     private String state;
 }
@@ -1,12 +1,16 @@
 package com.branches.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity(name = "categoria")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,6 +22,6 @@ public class Category {
     private Long id;
     @Column(name = "nome")
     private String name;
-    @Column(name = "preco_hora",columnDefinition = "DECIMAL")
-    private double hourlyPrice;
+    @Column(name = "preco_hora", columnDefinition = "DECIMAL(10, 2)")
+    private Money hourlyPrice;
 }
@@ -14,7 +14,8 @@ import java.util.List;
 @Entity(name = "pessoa")
 public class Person {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "pessoa_id")
+    @TableGenerator(name = "pessoa_id", table = "gerador_id", pkColumnName = "nome_sequencia", valueColumnName = "proximo_valor", pkColumnValue = "pessoa", allocationSize = 50)
     @Column(name = "idpessoa")
     @EqualsAndHashCode.Include
     private Long id;
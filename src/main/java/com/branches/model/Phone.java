@@ -11,7 +11,8 @@ import lombok.*;
 @AllArgsConstructor
 public class Phone {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "telefone_id")
+    @TableGenerator(name = "telefone_id", table = "gerador_id", pkColumnName = "nome_sequencia", valueColumnName = "proximo_valor", pkColumnValue = "telefone", allocationSize = 50)
     @Column(name = "idtelefone")
     private Long id;
     @Column(name = "numero")
@@ -16,8 +16,10 @@ public class Piece {
     private Long id;
     @Column(name = "nome")
     private String name;
-    @Column(name = "preco_unitario", columnDefinition = "DECIMAL")
-    private double unitValue;
+    @Column(name = "preco_unitario", columnDefinition = "DECIMAL(10, 2)")
+    private Money unitValue;
     @Column(name = "estoque")
     private int stock;
+    @Column(name = "versao_estoque")
+    private long stockVersion;
 }
@@ -0,0 +1,16 @@
+package com.branches.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity(name = "consumo_peca")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PieceConsumption {
+    @EmbeddedId
+    private PieceConsumptionId id;
+    @Column(name = "quantidade")
+    private long quantity;
+}
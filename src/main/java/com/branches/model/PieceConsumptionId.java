@@ -0,0 +1,23 @@
+package com.branches.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PieceConsumptionId implements Serializable {
+    @Column(name = "dia")
+    private LocalDate day;
+    @Column(name = "pecaid")
+    private Long pieceId;
+}
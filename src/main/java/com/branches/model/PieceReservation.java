@@ -0,0 +1,33 @@
+package com.branches.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity(name = "reserva_peca")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_reserva_peca_reparacao_peca", columnNames = {"reparacaoid", "pecaid"}))
+@Data
+@With
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PieceReservation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reserva_peca_id")
+    @TableGenerator(name = "reserva_peca_id", table = "gerador_id", pkColumnName = "nome_sequencia", valueColumnName = "proximo_valor", pkColumnValue = "reserva_peca", allocationSize = 50)
+    @Column(name = "idreserva_peca")
+    @EqualsAndHashCode.Include
+    private Long id;
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "reparacaoid")
+    private Repair repair;
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "pecaid")
+    private Piece piece;
+    @Column(name = "quantidade")
+    private int quantity;
+    @Column(name = "expira_em")
+    private LocalDateTime expiresAt;
+}
@@ -13,7 +13,8 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class Repair {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reparacao_id")
+    @TableGenerator(name = "reparacao_id", table = "gerador_id", pkColumnName = "nome_sequencia", valueColumnName = "proximo_valor", pkColumnValue = "reparacao", allocationSize = 50)
     @Column(name = "idreparacao")
     private Long id;
     @ManyToOne
@@ -22,8 +23,8 @@ public class Repair {
     @ManyToOne
     @JoinColumn(name = "fk_veiculo_reparacao", referencedColumnName = "idveiculo")
     private Vehicle vehicle;
-    @Column(name = "valor_total", columnDefinition = "DECIMAL")
-    private double totalValue;
+    @Column(name = "valor_total", columnDefinition = "DECIMAL(10, 2)")
+    private Money totalValue;
     @Column(name = "data_finalizacao")
     private LocalDate endDate;
 }
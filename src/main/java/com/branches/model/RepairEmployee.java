@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity(name = "reparacao_funcionario")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_reparacao_funcionario_reparacao_funcionario", columnNames = {"reparacaoid", "funcionarioid"}))
 @Data
 @Builder
 @With
@@ -12,7 +13,8 @@ import lombok.*;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class RepairEmployee {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reparacao_funcionario_id")
+    @TableGenerator(name = "reparacao_funcionario_id", table = "gerador_id", pkColumnName = "nome_sequencia", valueColumnName = "proximo_valor", pkColumnValue = "reparacao_funcionario", allocationSize = 50)
     @Column(name = "idreparacao_funcionario")
     @EqualsAndHashCode.Include
     private Long id;
@@ -22,8 +24,11 @@ public class RepairEmployee {
     @ManyToOne
     @JoinColumn(name = "funcionarioid")
     private Employee employee;
+    @ManyToOne
+    @JoinColumn(name = "categoriaid")
+    private Category category;
     @Column(name = "horas_trabalhadas")
     private int hoursWorked;
-    @Column(name = "valor_total", columnDefinition = "DECIMAL")
-    private double totalValue;
+    @Column(name = "valor_total", columnDefinition = "DECIMAL(10, 2)")
+    private Money totalValue;
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity(name = "reparacao_peca")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_reparacao_peca_reparacao_peca", columnNames = {"reparacaoid", "pecaid"}))
 @Data
 @With
 @Builder
@@ -12,7 +13,8 @@ import lombok.*;
 @AllArgsConstructor
 public class RepairPiece {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reparacao_peca_id")
+    @TableGenerator(name = "reparacao_peca_id", table = "gerador_id", pkColumnName = "nome_sequencia", valueColumnName = "proximo_valor", pkColumnValue = "reparacao_peca", allocationSize = 50)
     @Column(name = "idreparacao_peca")
     @EqualsAndHashCode.Include
     private Long id;
@@ -24,6 +26,6 @@ public class RepairPiece {
     private Piece piece;
     @Column(name = "quantidade")
     private int quantity;
-    @Column(name = "valor_total", columnDefinition = "DECIMAL")
-    private double totalValue;
+    @Column(name = "valor_total", columnDefinition = "DECIMAL(10, 2)")
+    private Money totalValue;
 }
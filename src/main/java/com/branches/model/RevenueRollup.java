@@ -0,0 +1,18 @@
+package com.branches.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity(name = "receita_diaria")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueRollup {
+    @EmbeddedId
+    private RevenueRollupId id;
+    @Column(name = "quantidade")
+    private long quantity;
+    @Column(name = "valor_total", columnDefinition = "DECIMAL(12, 2)")
+    private Money totalValue;
+}
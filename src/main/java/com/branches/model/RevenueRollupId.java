@@ -0,0 +1,28 @@
+package com.branches.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueRollupId implements Serializable {
+    @Column(name = "dia")
+    private LocalDate day;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo_origem")
+    private RevenueSource source;
+    @Column(name = "origemid")
+    private Long sourceId;
+}
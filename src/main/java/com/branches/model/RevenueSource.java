@@ -0,0 +1,5 @@
+package com.branches.model;
+
+public enum RevenueSource {
+    peca, mao_de_obra
+}
@@ -0,0 +1,6 @@
+package com.branches.reorder;
+
+import java.time.LocalDate;
+
+public record ConsumptionEntry(Long pieceId, LocalDate day, long quantity) {
+}
@@ -0,0 +1,107 @@
+package com.branches.reorder;
+
+import com.branches.repository.PieceConsumptionRepository;
+import com.branches.repository.PieceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+public class PieceReorderEngine {
+    private static final int HALF_LIVES_OF_HISTORY = 5;
+    private final PieceRepository pieceRepository;
+    private final PieceConsumptionRepository pieceConsumptionRepository;
+    private final Duration halfLife;
+    private final Duration history;
+    private final Object rebuildLock = new Object();
+    private volatile StockoutQueue queue;
+    private List<Consumer<StockoutQueue>> writesDuringRebuild;
+
+    public PieceReorderEngine(PieceRepository pieceRepository, PieceConsumptionRepository pieceConsumptionRepository, @Value("${oficina.reorder.half-life}") Duration halfLife) {
+        this.pieceRepository = pieceRepository;
+        this.pieceConsumptionRepository = pieceConsumptionRepository;
+        this.halfLife = halfLife;
+        this.history = halfLife.multipliedBy(HALF_LIVES_OF_HISTORY);
+        this.queue = new StockoutQueue(halfLife, Clock.systemDefaultZone());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                writesDuringRebuild = new ArrayList<>();
+            }
+
+            try {
+                StockoutQueue rebuilt = new StockoutQueue(halfLife, Clock.systemDefaultZone());
+
+                for (StockEntry entry : pieceRepository.findAllStockEntries()) rebuilt.put(entry.id(), entry.stock(), entry.stockVersion());
+
+                LocalDate today = LocalDate.now();
+                for (ConsumptionEntry entry : pieceConsumptionRepository.findAllConsumptionsBetween(today.minusDays(history.toDays()), today)) {
+                    rebuilt.recordConsumption(entry.pieceId(), (int) entry.quantity(), entry.day().atStartOfDay(ZoneId.systemDefault()).toInstant());
+                }
+
+                synchronized (this) {
+                    writesDuringRebuild.forEach(write -> write.accept(rebuilt));
+                    queue = rebuilt;
+                }
+            } finally {
+                synchronized (this) {
+                    writesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    public List<StockoutForecast> soonest(int limit, double horizonDays) {
+        return queue.soonest(limit, horizonDays);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public void putAfterCommit(Long id, int stock, long stockVersion) {
+        afterCommit(() -> write(target -> target.put(id, stock, stockVersion)));
+    }
+
+    public void recordConsumptionAfterCommit(Long id, int quantity, int stockAfter, long stockVersion) {
+        afterCommit(() -> write(target -> target.recordConsumption(id, quantity, stockAfter, stockVersion)));
+    }
+
+    public void removeAfterCommit(Long id) {
+        afterCommit(() -> write(target -> target.remove(id)));
+    }
+
+    private synchronized void write(Consumer<StockoutQueue> write) {
+        write.accept(queue);
+
+        if (writesDuringRebuild != null) writesDuringRebuild.add(write);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
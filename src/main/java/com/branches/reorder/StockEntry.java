@@ -0,0 +1,4 @@
+package com.branches.reorder;
+
+public record StockEntry(Long id, int stock, long stockVersion) {
+}
@@ -0,0 +1,4 @@
+package com.branches.reorder;
+
+public record StockoutForecast(long pieceId, int stock, double dailyConsumption, double daysUntilStockout) {
+}
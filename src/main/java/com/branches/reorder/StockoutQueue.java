@@ -0,0 +1,306 @@
+package com.branches.reorder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public class StockoutQueue {
+    private static final double MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+    private static final double MAX_WEIGHT = 1e250;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int EMPTY = -1;
+    private final double decayPerMilli;
+    private final Clock clock;
+    private long landmark;
+    private long[] tableIds = new long[INITIAL_CAPACITY * 2];
+    private int[] tableSlots = filledWithEmpty(INITIAL_CAPACITY * 2);
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] stocks = new int[INITIAL_CAPACITY];
+    private long[] stockVersions = new long[INITIAL_CAPACITY];
+    private double[] weightedConsumptions = new double[INITIAL_CAPACITY];
+    private int[] heapPositions = new int[INITIAL_CAPACITY];
+    private int[] heap = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public StockoutQueue(Duration halfLife, Clock clock) {
+        this.decayPerMilli = Math.log(2) / halfLife.toMillis();
+        this.clock = clock;
+        this.landmark = clock.millis();
+    }
+
+    public synchronized void put(long id, int stock, long stockVersion) {
+        int slot = slotOf(id);
+
+        if (slot == EMPTY) slot = add(id);
+
+        applyStock(slot, stock, stockVersion);
+        reposition(slot);
+    }
+
+    public synchronized void recordConsumption(long id, int quantity, int stockAfter, long stockVersion) {
+        int slot = slotOf(id);
+
+        if (slot == EMPTY) slot = add(id);
+
+        applyStock(slot, stockAfter, stockVersion);
+        addConsumption(slot, quantity, clock.millis());
+    }
+
+    public synchronized void recordConsumption(long id, int quantity, Instant consumedAt) {
+        int slot = slotOf(id);
+
+        if (slot == EMPTY) return;
+
+        addConsumption(slot, quantity, consumedAt.toEpochMilli());
+    }
+
+    public synchronized void remove(long id) {
+        int slot = slotOf(id);
+
+        if (slot == EMPTY) return;
+
+        removeFromHeap(slot);
+        removeFromTable(id);
+
+        int last = --size;
+        if (slot != last) moveSlot(last, slot);
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(tableSlots, EMPTY);
+        size = 0;
+        landmark = clock.millis();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized List<StockoutForecast> soonest(int limit, double horizonDays) {
+        List<StockoutForecast> forecasts = new ArrayList<>(Math.min(limit, size));
+        double decayFactor = Math.exp(-decayPerMilli * (clock.millis() - landmark)) * decayPerMilli * MILLIS_PER_DAY;
+
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((a, b) -> compare(heap[a], heap[b]));
+        if (size > 0) frontier.add(0);
+
+        while (!frontier.isEmpty() && forecasts.size() < limit) {
+            int position = frontier.poll();
+            int slot = heap[position];
+
+            if (weightedConsumptions[slot] <= 0) break;
+
+            double dailyConsumption = weightedConsumptions[slot] * decayFactor;
+            double daysUntilStockout = Math.max(stocks[slot], 0) / dailyConsumption;
+
+            if (daysUntilStockout > horizonDays) break;
+
+            forecasts.add(new StockoutForecast(ids[slot], stocks[slot], dailyConsumption, daysUntilStockout));
+
+            if (2 * position + 1 < size) frontier.add(2 * position + 1);
+            if (2 * position + 2 < size) frontier.add(2 * position + 2);
+        }
+
+        return forecasts;
+    }
+
+    // snapshots can arrive out of order, an older one must not overwrite the stock of a newer one
+    private void applyStock(int slot, int stock, long stockVersion) {
+        if (stockVersion < stockVersions[slot]) return;
+
+        stocks[slot] = stock;
+        stockVersions[slot] = stockVersion;
+    }
+
+    private void addConsumption(int slot, int quantity, long consumedAtMillis) {
+        if (quantity <= 0) return;
+
+        weightedConsumptions[slot] += quantity * Math.exp(decayPerMilli * (consumedAtMillis - landmark));
+
+        if (weightedConsumptions[slot] > MAX_WEIGHT) moveLandmark(consumedAtMillis);
+
+        reposition(slot);
+    }
+
+    private void moveLandmark(long newLandmark) {
+        double factor = Math.exp(-decayPerMilli * (newLandmark - landmark));
+
+        for (int slot = 0; slot < size; slot++) weightedConsumptions[slot] *= factor;
+
+        landmark = newLandmark;
+    }
+
+    private int compare(int slotA, int slotB) {
+        int byKey = Double.compare(stockoutKey(slotA), stockoutKey(slotB));
+
+        return byKey != 0 ? byKey : Long.compare(ids[slotA], ids[slotB]);
+    }
+
+    private double stockoutKey(int slot) {
+        if (weightedConsumptions[slot] <= 0) return Double.POSITIVE_INFINITY;
+
+        return Math.max(stocks[slot], 0) / weightedConsumptions[slot];
+    }
+
+    private int add(long id) {
+        if (size == ids.length) grow();
+
+        int slot = size++;
+        ids[slot] = id;
+        stocks[slot] = 0;
+        stockVersions[slot] = Long.MIN_VALUE;
+        weightedConsumptions[slot] = 0;
+        heapPositions[slot] = slot;
+        heap[slot] = slot;
+        putInTable(id, slot);
+
+        return slot;
+    }
+
+    private void moveSlot(int from, int to) {
+        ids[to] = ids[from];
+        stocks[to] = stocks[from];
+        stockVersions[to] = stockVersions[from];
+        weightedConsumptions[to] = weightedConsumptions[from];
+        heapPositions[to] = heapPositions[from];
+        heap[heapPositions[to]] = to;
+        putInTable(ids[to], to);
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+
+        ids = Arrays.copyOf(ids, capacity);
+        stocks = Arrays.copyOf(stocks, capacity);
+        stockVersions = Arrays.copyOf(stockVersions, capacity);
+        weightedConsumptions = Arrays.copyOf(weightedConsumptions, capacity);
+        heapPositions = Arrays.copyOf(heapPositions, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+
+        long[] oldTableIds = tableIds;
+        int[] oldTableSlots = tableSlots;
+        tableIds = new long[capacity * 2];
+        tableSlots = filledWithEmpty(capacity * 2);
+
+        for (int i = 0; i < oldTableSlots.length; i++) {
+            if (oldTableSlots[i] != EMPTY) putInTable(oldTableIds[i], oldTableSlots[i]);
+        }
+    }
+
+    private void reposition(int slot) {
+        int position = heapPositions[slot];
+
+        if (!siftUp(position)) siftDown(position);
+    }
+
+    private void removeFromHeap(int slot) {
+        int position = heapPositions[slot];
+        int last = size - 1;
+
+        if (position == last) return;
+
+        swap(position, last);
+        heap[last] = slot;
+        heapPositions[slot] = last;
+
+        int lastBeforeRemoval = size;
+        size = last;
+        if (!siftUp(position)) siftDown(position);
+        size = lastBeforeRemoval;
+    }
+
+    private boolean siftUp(int position) {
+        boolean moved = false;
+
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+
+            if (compare(heap[position], heap[parent]) >= 0) break;
+
+            swap(position, parent);
+            position = parent;
+            moved = true;
+        }
+
+        return moved;
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+
+            if (left < size && compare(heap[left], heap[smallest]) < 0) smallest = left;
+            if (right < size && compare(heap[right], heap[smallest]) < 0) smallest = right;
+
+            if (smallest == position) return;
+
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int positionA, int positionB) {
+        int slotA = heap[positionA];
+        int slotB = heap[positionB];
+
+        heap[positionA] = slotB;
+        heap[positionB] = slotA;
+        heapPositions[slotB] = positionA;
+        heapPositions[slotA] = positionB;
+    }
+
+    private int slotOf(long id) {
+        for (int i = indexFor(id); ; i = (i + 1) & (tableIds.length - 1)) {
+            if (tableSlots[i] == EMPTY) return EMPTY;
+            if (tableIds[i] == id) return tableSlots[i];
+        }
+    }
+
+    private void putInTable(long id, int slot) {
+        int i = indexFor(id);
+
+        while (tableSlots[i] != EMPTY && tableIds[i] != id) i = (i + 1) & (tableIds.length - 1);
+
+        tableIds[i] = id;
+        tableSlots[i] = slot;
+    }
+
+    private void removeFromTable(long id) {
+        int mask = tableIds.length - 1;
+        int i = indexFor(id);
+
+        while (tableIds[i] != id || tableSlots[i] == EMPTY) i = (i + 1) & mask;
+
+        tableSlots[i] = EMPTY;
+
+        for (int next = (i + 1) & mask; tableSlots[next] != EMPTY; next = (next + 1) & mask) {
+            int home = indexFor(tableIds[next]);
+            boolean canMoveToHole = i <= next ? home <= i || home > next : home <= i && home > next;
+
+            if (!canMoveToHole) continue;
+
+            tableIds[i] = tableIds[next];
+            tableSlots[i] = tableSlots[next];
+            tableSlots[next] = EMPTY;
+            i = next;
+        }
+    }
+
+    private int indexFor(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+
+        return (int) (hash ^ (hash >>> 32)) & (tableIds.length - 1);
+    }
+
+    private static int[] filledWithEmpty(int length) {
+        int[] array = new int[length];
+        Arrays.fill(array, EMPTY);
+
+        return array;
+    }
+}
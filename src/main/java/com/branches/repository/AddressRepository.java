@@ -1,10 +1,14 @@
 package com.branches.repository;
 
 import com.branches.model.Address;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface AddressRepository extends JpaRepository<Address, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Address> findByStreetAndDistrictAndCityAndState(String street, String district, String city, String state);
 }
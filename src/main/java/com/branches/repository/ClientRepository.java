@@ -1,15 +1,32 @@
 package com.branches.repository;
 
 import com.branches.model.Client;
+import com.branches.search.SearchEntry;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
-    List<Client> findAllByPerson_NameContaining(String personName);
+    @Query("SELECT new com.branches.search.SearchEntry(c.id, p.name, p.lastName) FROM cliente c JOIN c.person p")
+    List<SearchEntry> findAllSearchEntries();
+
+    @Override
+    @EntityGraph(attributePaths = {"person.address", "person.phones"})
+    List<Client> findAll();
+
+    @EntityGraph(attributePaths = {"person.address", "person.phones"})
+    List<Client> findAllByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"person.address", "person.phones"})
+    @Query("SELECT c FROM cliente c WHERE c.id = :id")
+    Optional<Client> findWithPhonesById(@Param("id") Long id);
 
     Optional<Client> findByEmail(String email);
 
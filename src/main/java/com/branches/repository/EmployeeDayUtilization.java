@@ -0,0 +1,7 @@
+package com.branches.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record EmployeeDayUtilization(LocalDate day, Long hoursWorked, BigDecimal totalValue, Long repairsCount) {
+}
@@ -1,12 +1,30 @@
 package com.branches.repository;
 
 import com.branches.model.Employee;
+import com.branches.search.SearchEntry;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
-    List<Employee> findAllByPerson_NameContaining(String name);
+    @Query("SELECT new com.branches.search.SearchEntry(e.id, p.name, p.lastName) FROM funcionario e JOIN e.person p")
+    List<SearchEntry> findAllSearchEntries();
+
+    @Override
+    @EntityGraph(attributePaths = {"person.address", "person.phones", "category"})
+    List<Employee> findAll();
+
+    @EntityGraph(attributePaths = {"person.address", "person.phones", "category"})
+    List<Employee> findAllByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"person.address", "person.phones", "category"})
+    @Query("SELECT e FROM funcionario e WHERE e.id = :id")
+    Optional<Employee> findWithPhonesById(@Param("id") Long id);
 }
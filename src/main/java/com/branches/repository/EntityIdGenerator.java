@@ -0,0 +1,21 @@
+package com.branches.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EntityIdGenerator {
+    private final EntityManager entityManager;
+
+    public Long nextId(Class<?> entityType) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityType);
+
+        return (Long) ((IdentifierGenerator) persister.getGenerator()).generate(session, null);
+    }
+}
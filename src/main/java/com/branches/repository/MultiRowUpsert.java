@@ -0,0 +1,56 @@
+package com.branches.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+final class MultiRowUpsert {
+    private MultiRowUpsert() {
+    }
+
+    static String summed(String column) {
+        return "%1$s = %1$s + VALUES(%1$s)".formatted(column);
+    }
+
+    static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    // row is the SQL of one VALUES tuple, each '?' in it is bound to the next value of the row
+    static int execute(EntityManager entityManager, String table, List<String> columns, String row, List<String> assignments, List<List<Object>> rows) {
+        if (rows.isEmpty()) return 0;
+
+        StringJoiner values = new StringJoiner(", ");
+        int position = 1;
+        for (int i = 0; i < rows.size(); i++) {
+            StringBuilder tuple = new StringBuilder("(");
+            for (char character : row.toCharArray()) {
+                if (character == '?') tuple.append('?').append(position++);
+                else tuple.append(character);
+            }
+            values.add(tuple.append(')'));
+        }
+
+        String sql = "INSERT INTO %s (%s) VALUES %s ON DUPLICATE KEY UPDATE %s".formatted(
+                table,
+                String.join(", ", columns),
+                values,
+                String.join(", ", assignments));
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(table);
+
+        position = 1;
+        for (List<Object> rowValues : rows) {
+            for (Object value : rowValues) query.setParameter(position++, value);
+        }
+
+        entityManager.flush();
+
+        return query.executeUpdate();
+    }
+}
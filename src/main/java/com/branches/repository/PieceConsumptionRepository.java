@@ -0,0 +1,30 @@
+package com.branches.repository;
+
+import com.branches.model.PieceConsumption;
+import com.branches.model.PieceConsumptionId;
+import com.branches.reorder.ConsumptionEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PieceConsumptionRepository extends JpaRepository<PieceConsumption, PieceConsumptionId> {
+    @Query("""
+            SELECT new com.branches.reorder.ConsumptionEntry(c.id.pieceId, c.id.day, c.quantity)
+            FROM consumo_peca c
+            WHERE c.id.day BETWEEN :from AND :to""")
+    List<ConsumptionEntry> findAllConsumptionsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "consumo_peca"))
+    @Query(value = """
+            INSERT INTO consumo_peca (dia, pecaid, quantidade) VALUES (:day, :pieceId, :quantity)
+            ON DUPLICATE KEY UPDATE quantidade = quantidade + :quantity""", nativeQuery = true)
+    int upsert(@Param("day") LocalDate day, @Param("pieceId") Long pieceId, @Param("quantity") long quantity);
+}
@@ -1,10 +1,40 @@
 package com.branches.repository;
 
 import com.branches.model.Piece;
+import com.branches.reorder.StockEntry;
+import com.branches.search.SearchEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PieceRepository extends JpaRepository<Piece, Long> {
-    List<Piece> findAllByNameContaining(String name);
+    // active reservations of the piece held by other repairs, or by every repair when repairId is null
+    String RESERVED_BY_OTHERS = "SELECT COALESCE(SUM(r.quantidade), 0) FROM reserva_peca r WHERE r.pecaid = :id AND (:repairId IS NULL OR r.reparacaoid <> :repairId) AND r.expira_em > :now";
+
+    @Query("SELECT new com.branches.search.SearchEntry(p.id, p.name, '') FROM peca p")
+    List<SearchEntry> findAllSearchEntries();
+
+    @Query("SELECT new com.branches.reorder.StockEntry(p.id, p.stock, p.stockVersion) FROM peca p")
+    List<StockEntry> findAllStockEntries();
+
+    // declaring the "peca" space keeps the native updates from evicting the cached categories and addresses; the caller refreshes the pieces it touched
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "peca"))
+    @Query(value = "UPDATE peca SET estoque = estoque + :quantity, versao_estoque = versao_estoque + 1 WHERE idpeca = :id", nativeQuery = true)
+    int addsStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "peca"))
+    @Query(value = "UPDATE peca SET estoque = estoque - :quantity, versao_estoque = versao_estoque + 1 WHERE idpeca = :id AND estoque - (" + RESERVED_BY_OTHERS + ") >= :quantity", nativeQuery = true)
+    int removesStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("repairId") Long repairId, @Param("now") LocalDateTime now);
+
+    @Query(value = RESERVED_BY_OTHERS, nativeQuery = true)
+    int findReservedByOthers(@Param("id") Long id, @Param("repairId") Long repairId, @Param("now") LocalDateTime now);
 }
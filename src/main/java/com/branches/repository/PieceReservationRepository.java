@@ -0,0 +1,62 @@
+package com.branches.repository;
+
+import com.branches.model.PieceReservation;
+import com.branches.reservation.ReservedQuantity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PieceReservationRepository extends JpaRepository<PieceReservation, Long> {
+    // active reservations of the piece held by every repair
+    String RESERVED = "SELECT COALESCE(SUM(r.quantidade), 0) FROM reserva_peca r WHERE r.pecaid = :pieceId AND r.expira_em > :now";
+
+    @EntityGraph(attributePaths = "piece")
+    @Query("SELECT r FROM reserva_peca r WHERE r.repair.id = :repairId AND r.piece.id = :pieceId")
+    Optional<PieceReservation> findByRepair_IdAndPiece_Id(@Param("repairId") Long repairId, @Param("pieceId") Long pieceId);
+
+    @EntityGraph(attributePaths = "piece")
+    @Query("SELECT r FROM reserva_peca r WHERE r.repair.id = :repairId")
+    List<PieceReservation> findAllByRepair_Id(@Param("repairId") Long repairId);
+
+    @EntityGraph(attributePaths = "piece")
+    @Query("SELECT r FROM reserva_peca r WHERE r.repair.id = :repairId AND r.expiresAt > :now ORDER BY r.id")
+    List<PieceReservation> findAllActiveByRepair_Id(@Param("repairId") Long repairId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.branches.reservation.ReservedQuantity(r.piece.id, SUM(r.quantity)) FROM reserva_peca r WHERE r.expiresAt > :now GROUP BY r.piece.id")
+    List<ReservedQuantity> findAllReservedQuantities(@Param("now") LocalDateTime now);
+
+    // inserts or adds to the reservation only when the stock of the piece minus its active reservations covers the quantity;
+    // an expired reservation of the repair is renewed with the new quantity only
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reserva_peca"))
+    @Query(value = "INSERT INTO reserva_peca (idreserva_peca, reparacaoid, pecaid, quantidade, expira_em) " +
+            "SELECT :id, :repairId, p.idpeca, :quantity, :expiresAt FROM peca p WHERE p.idpeca = :pieceId AND p.estoque - (" + RESERVED + ") >= :quantity " +
+            "ON DUPLICATE KEY UPDATE quantidade = CASE WHEN reserva_peca.expira_em > :now THEN reserva_peca.quantidade ELSE 0 END + :quantity, expira_em = :expiresAt", nativeQuery = true)
+    int upsertIfAvailable(@Param("id") Long id, @Param("repairId") Long repairId, @Param("pieceId") Long pieceId, @Param("quantity") int quantity, @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT p.estoque - (" + RESERVED + ") FROM peca p WHERE p.idpeca = :pieceId", nativeQuery = true)
+    int findAvailable(@Param("pieceId") Long pieceId, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE reserva_peca r SET r.quantity = r.quantity - :quantity WHERE r.id = :id AND r.quantity = :expectedQuantity")
+    int removesQuantity(@Param("id") Long id, @Param("expectedQuantity") int expectedQuantity, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM reserva_peca r WHERE r.id = :id AND r.quantity = :expectedQuantity")
+    int deleteByIdAndQuantity(@Param("id") Long id, @Param("expectedQuantity") int expectedQuantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM reserva_peca r WHERE r.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -2,13 +2,46 @@ package com.branches.repository;
 
 import com.branches.model.Repair;
 import com.branches.model.RepairEmployee;
+import com.branches.response.EmployeeUtilizationResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface RepairEmployeeRepository extends JpaRepository<RepairEmployee, Long> {
+public interface RepairEmployeeRepository extends JpaRepository<RepairEmployee, Long>, RepairEmployeeRepositoryCustom {
+    @EntityGraph(attributePaths = {"employee.person.address", "employee.category", "category"})
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"), @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")})
     List<RepairEmployee> findAllByRepair(Repair repair);
 
-    Optional<RepairEmployee> findByRepair_IdAndEmployee_Id(Long repairId, Long employeeId);
+    @EntityGraph(attributePaths = {"employee.person.address", "employee.category", "category"})
+    @Query("SELECT re FROM reparacao_funcionario re WHERE re.repair.id = :repairId AND re.employee.id = :employeeId")
+    Optional<RepairEmployee> findByRepair_IdAndEmployee_Id(@Param("repairId") Long repairId, @Param("employeeId") Long employeeId);
+
+    @EntityGraph(attributePaths = {"employee.person.address", "employee.category", "category"})
+    @Query("SELECT re FROM reparacao_funcionario re WHERE re.repair.id = :repairId AND re.employee.id IN :employeeIds")
+    List<RepairEmployee> findAllByRepair_IdAndEmployee_IdIn(@Param("repairId") Long repairId, @Param("employeeIds") Collection<Long> employeeIds);
+
+    @Query("""
+            SELECT new com.branches.repository.EmployeeDayUtilization(r.endDate, SUM(re.hoursWorked), COALESCE(SUM(CAST(re.totalValue AS BigDecimal)), 0), COUNT(re.id))
+            FROM reparacao_funcionario re JOIN re.repair r
+            WHERE re.employee.id = :employeeId AND r.endDate BETWEEN :from AND :to
+            GROUP BY r.endDate
+            ORDER BY r.endDate""")
+    List<EmployeeDayUtilization> findAllDayUtilizationsByEmployeeIdAndEndDateBetween(@Param("employeeId") Long employeeId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.branches.response.EmployeeUtilizationResponse(e.id, p.name, p.lastName, c.name, SUM(re.hoursWorked), COALESCE(SUM(CAST(re.totalValue AS BigDecimal)), 0), COUNT(re.id))
+            FROM reparacao_funcionario re JOIN re.repair r JOIN re.employee e JOIN e.person p LEFT JOIN re.category c
+            WHERE r.endDate BETWEEN :from AND :to
+            GROUP BY e.id, p.name, p.lastName, c.id, c.name
+            ORDER BY e.id, c.id""")
+    List<EmployeeUtilizationResponse> findAllUtilizationsByEndDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
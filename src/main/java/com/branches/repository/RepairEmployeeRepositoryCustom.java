@@ -0,0 +1,10 @@
+package com.branches.repository;
+
+import com.branches.model.RepairEmployee;
+
+import java.util.List;
+
+public interface RepairEmployeeRepositoryCustom {
+    // only the id, repair, employee and hours of the additions are used, the category and value are read in the same statement
+    int upsertAll(List<RepairEmployee> additions);
+}
@@ -0,0 +1,34 @@
+package com.branches.repository;
+
+import com.branches.model.RepairEmployee;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class RepairEmployeeRepositoryCustomImpl implements RepairEmployeeRepositoryCustom {
+    private static final List<String> COLUMNS = List.of("idreparacao_funcionario", "reparacaoid", "funcionarioid", "horas_trabalhadas", "valor_total", "categoriaid");
+    // a new line is priced with the current category of the employee
+    private static final String ROW = "?, ?, ?, ?, " +
+            "? * (SELECT c.preco_hora FROM funcionario f JOIN categoria c ON c.idcategoria = f.fk_categoria_funcionario WHERE f.idfuncionario = ?), " +
+            "(SELECT f.fk_categoria_funcionario FROM funcionario f WHERE f.idfuncionario = ?)";
+    // an existing line keeps the category it was first priced with, and the added hours are priced with that category;
+    // categoriaid is assigned last so the other assignments still read the category the line had
+    private static final List<String> ASSIGNMENTS = List.of(
+            MultiRowUpsert.summed("horas_trabalhadas"),
+            "valor_total = valor_total + CASE WHEN categoriaid IS NULL OR categoriaid = VALUES(categoriaid) THEN VALUES(valor_total) " +
+                    "ELSE VALUES(horas_trabalhadas) * (SELECT c.preco_hora FROM categoria c WHERE c.idcategoria = reparacao_funcionario.categoriaid) END",
+            "categoriaid = COALESCE(categoriaid, VALUES(categoriaid))");
+    private final EntityManager entityManager;
+
+    @Override
+    public int upsertAll(List<RepairEmployee> additions) {
+        List<List<Object>> rows = additions.stream()
+                .map(addition -> List.<Object>of(addition.getId(), addition.getRepair().getId(), addition.getEmployee().getId(), addition.getHoursWorked(),
+                        addition.getHoursWorked(), addition.getEmployee().getId(), addition.getEmployee().getId()))
+                .toList();
+
+        return MultiRowUpsert.execute(entityManager, "reparacao_funcionario", COLUMNS, ROW, ASSIGNMENTS, rows);
+    }
+}
@@ -2,16 +2,30 @@ package com.branches.repository;
 
 import com.branches.model.Repair;
 import com.branches.model.RepairPiece;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RepairPieceRepository extends JpaRepository<RepairPiece, Long> {
+public interface RepairPieceRepository extends JpaRepository<RepairPiece, Long>, RepairPieceRepositoryCustom {
+    @EntityGraph(attributePaths = "piece")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"), @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")})
     List<RepairPiece> findAllByRepair(Repair repair);
 
-    Optional<RepairPiece> findByRepair_IdAndPiece_Id(Long repairId, Long pieceId);
+    @EntityGraph(attributePaths = "piece")
+    @Query("SELECT rp FROM reparacao_peca rp WHERE rp.repair.id = :repairId AND rp.piece.id = :pieceId")
+    Optional<RepairPiece> findByRepair_IdAndPiece_Id(@Param("repairId") Long repairId, @Param("pieceId") Long pieceId);
 
+    @EntityGraph(attributePaths = "piece")
+    @Query("SELECT rp FROM reparacao_peca rp WHERE rp.repair.id = :repairId AND rp.piece.id IN :pieceIds")
+    List<RepairPiece> findAllByRepair_IdAndPiece_IdIn(@Param("repairId") Long repairId, @Param("pieceIds") Collection<Long> pieceIds);
 }
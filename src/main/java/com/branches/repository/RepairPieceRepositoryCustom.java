@@ -0,0 +1,9 @@
+package com.branches.repository;
+
+import com.branches.model.RepairPiece;
+
+import java.util.List;
+
+public interface RepairPieceRepositoryCustom {
+    int upsertAll(List<RepairPiece> additions);
+}
@@ -0,0 +1,23 @@
+package com.branches.repository;
+
+import com.branches.model.RepairPiece;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class RepairPieceRepositoryCustomImpl implements RepairPieceRepositoryCustom {
+    private static final List<String> COLUMNS = List.of("idreparacao_peca", "reparacaoid", "pecaid", "quantidade", "valor_total");
+    private static final List<String> ASSIGNMENTS = List.of(MultiRowUpsert.summed("quantidade"), MultiRowUpsert.summed("valor_total"));
+    private final EntityManager entityManager;
+
+    @Override
+    public int upsertAll(List<RepairPiece> additions) {
+        List<List<Object>> rows = additions.stream()
+                .map(addition -> List.<Object>of(addition.getId(), addition.getRepair().getId(), addition.getPiece().getId(), addition.getQuantity(), addition.getTotalValue().toBigDecimal()))
+                .toList();
+
+        return MultiRowUpsert.execute(entityManager, "reparacao_peca", COLUMNS, MultiRowUpsert.placeholders(COLUMNS.size()), ASSIGNMENTS, rows);
+    }
+}
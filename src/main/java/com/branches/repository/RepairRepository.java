@@ -2,15 +2,57 @@ package com.branches.repository;
 
 import com.branches.model.Client;
 import com.branches.model.Repair;
+import com.branches.response.RepairOverviewResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface RepairRepository extends JpaRepository<Repair, Long> {
+public interface RepairRepository extends JpaRepository<Repair, Long>, RepairRepositoryCustom {
+    @Override
+    @EntityGraph(attributePaths = {"client.person.address", "vehicle.client.person.address"})
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"), @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")})
+    List<Repair> findAll();
+
+    @EntityGraph(attributePaths = {"client.person.address", "vehicle.client.person.address"})
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"), @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")})
     List<Repair> findByEndDateGreaterThanEqual(LocalDate date);
 
+    @EntityGraph(attributePaths = {"client.person.address", "vehicle.client.person.address"})
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"), @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")})
     List<Repair> findAllByClient(Client client);
+
+    @EntityGraph(attributePaths = {"client.person.address", "vehicle.client.person.address"})
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"), @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")})
+    List<Repair> findAllByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @EntityGraph(attributePaths = {"client.person.address", "vehicle.client.person.address"})
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"), @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")})
+    List<Repair> findAllByIdGreaterThanAndEndDateGreaterThanEqualOrderByIdAsc(Long afterId, LocalDate date, Limit limit);
+
+    @Query("""
+            SELECT new com.branches.response.RepairOverviewResponse(r.id, r.vehicle.id, r.totalValue, r.endDate)
+            FROM reparacao r
+            WHERE r.client.id = :clientId AND r.id > :afterId
+            ORDER BY r.id""")
+    List<RepairOverviewResponse> findAllOverviewsByClientIdAndIdGreaterThan(@Param("clientId") Long clientId, @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT COALESCE(SUM(CAST(r.totalValue AS BigDecimal)), 0) FROM reparacao r WHERE r.client.id = :clientId")
+    BigDecimal sumTotalValueByClientId(@Param("clientId") Long clientId);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "reparacao"))
+    @Query(value = "UPDATE reparacao SET valor_total = valor_total + :valueToSum WHERE idreparacao = :id", nativeQuery = true)
+    int updateTotalValue(@Param("id") Long id, @Param("valueToSum") BigDecimal valueToSum);
 }
@@ -0,0 +1,9 @@
+package com.branches.repository;
+
+import com.branches.model.Repair;
+
+import java.util.stream.Stream;
+
+public interface RepairRepositoryCustom {
+    Stream<Repair> streamAllByOrderByIdAsc(int fetchSize);
+}
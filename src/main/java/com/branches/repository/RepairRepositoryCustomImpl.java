@@ -0,0 +1,30 @@
+package com.branches.repository;
+
+import com.branches.model.Repair;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class RepairRepositoryCustomImpl implements RepairRepositoryCustom {
+    private final EntityManager entityManager;
+
+    @Override
+    public Stream<Repair> streamAllByOrderByIdAsc(int fetchSize) {
+        EntityGraph<Repair> graph = entityManager.createEntityGraph(Repair.class);
+        graph.addSubgraph("client").addSubgraph("person").addAttributeNodes("address");
+        graph.addSubgraph("vehicle").addSubgraph("client").addSubgraph("person").addAttributeNodes("address");
+
+        return entityManager.createQuery("SELECT r FROM reparacao r ORDER BY r.id", Repair.class)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, graph)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .getResultStream();
+    }
+}
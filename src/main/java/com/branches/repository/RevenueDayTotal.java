@@ -0,0 +1,9 @@
+package com.branches.repository;
+
+import com.branches.model.RevenueSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RevenueDayTotal(LocalDate day, RevenueSource source, BigDecimal totalValue) {
+}
@@ -0,0 +1,50 @@
+package com.branches.repository;
+
+import com.branches.model.RevenueRollup;
+import com.branches.model.RevenueRollupId;
+import com.branches.response.RevenueByCategoryResponse;
+import com.branches.response.RevenueByPieceResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RevenueRollupRepository extends JpaRepository<RevenueRollup, RevenueRollupId> {
+    @Query("""
+            SELECT new com.branches.repository.RevenueDayTotal(r.id.day, r.id.source, COALESCE(SUM(CAST(r.totalValue AS BigDecimal)), 0))
+            FROM receita_diaria r
+            WHERE r.id.day BETWEEN :from AND :to
+            GROUP BY r.id.day, r.id.source
+            ORDER BY r.id.day""")
+    List<RevenueDayTotal> findAllDayTotalsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.branches.response.RevenueByPieceResponse(r.id.sourceId, p.name, SUM(r.quantity), COALESCE(SUM(CAST(r.totalValue AS BigDecimal)), 0))
+            FROM receita_diaria r LEFT JOIN peca p ON p.id = r.id.sourceId
+            WHERE r.id.source = com.branches.model.RevenueSource.peca AND r.id.day BETWEEN :from AND :to
+            GROUP BY r.id.sourceId, p.name
+            ORDER BY r.id.sourceId""")
+    List<RevenueByPieceResponse> findAllPieceTotalsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.branches.response.RevenueByCategoryResponse(r.id.sourceId, c.name, SUM(r.quantity), COALESCE(SUM(CAST(r.totalValue AS BigDecimal)), 0))
+            FROM receita_diaria r LEFT JOIN categoria c ON c.id = r.id.sourceId
+            WHERE r.id.source = com.branches.model.RevenueSource.mao_de_obra AND r.id.day BETWEEN :from AND :to
+            GROUP BY r.id.sourceId, c.name
+            ORDER BY r.id.sourceId""")
+    List<RevenueByCategoryResponse> findAllCategoryTotalsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "receita_diaria"))
+    @Query(value = """
+            INSERT INTO receita_diaria (dia, tipo_origem, origemid, quantidade, valor_total) VALUES (:day, :source, :sourceId, :quantity, :valueToAdd)
+            ON DUPLICATE KEY UPDATE quantidade = quantidade + :quantity, valor_total = valor_total + :valueToAdd""", nativeQuery = true)
+    int upsert(@Param("day") LocalDate day, @Param("source") String source, @Param("sourceId") Long sourceId, @Param("quantity") long quantity, @Param("valueToAdd") BigDecimal valueToAdd);
+}
@@ -2,12 +2,27 @@ package com.branches.repository;
 
 import com.branches.model.Client;
 import com.branches.model.Vehicle;
+import com.branches.response.VehicleOverviewResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"), @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")})
     List<Vehicle> findAllByClient(Client client);
+
+    @Query("""
+            SELECT new com.branches.response.VehicleOverviewResponse(v.id, v.vehicleType, v.brand, v.model, COUNT(r.id), COALESCE(SUM(CAST(r.totalValue AS BigDecimal)), 0))
+            FROM veiculo v LEFT JOIN reparacao r ON r.vehicle = v
+            WHERE v.client.id = :clientId
+            GROUP BY v.id, v.vehicleType, v.brand, v.model
+            ORDER BY v.id""")
+    List<VehicleOverviewResponse> findAllOverviewsByClientId(@Param("clientId") Long clientId);
 }
@@ -1,11 +1,14 @@
 package com.branches.request;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Builder;
 import lombok.Data;
 
+import java.math.BigDecimal;
+
 @Data
 @Builder
 public class CategoryPostRequest {
@@ -13,5 +16,6 @@ public class CategoryPostRequest {
     private String name;
     @NotNull(message = "The field hourlyPrice is required")
     @PositiveOrZero(message = "'hourlyPrice' must be equal to or greater than 0")
-    private Double hourlyPrice;
+    @Digits(integer = 8, fraction = 2, message = "'hourlyPrice' must have at most 8 integer digits and 2 decimal places")
+    private BigDecimal hourlyPrice;
 }
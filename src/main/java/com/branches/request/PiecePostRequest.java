@@ -1,11 +1,14 @@
 package com.branches.request;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Builder;
 import lombok.Data;
 
+import java.math.BigDecimal;
+
 @Data
 @Builder
 public class PiecePostRequest {
@@ -13,7 +16,8 @@ public class PiecePostRequest {
     private String name;
     @NotNull(message = "The field unitValue is required")
     @PositiveOrZero(message = "'unitValue' must be equal to or greater than 0")
-    private Double unitValue;
+    @Digits(integer = 8, fraction = 2, message = "'unitValue' must have at most 8 integer digits and 2 decimal places")
+    private BigDecimal unitValue;
     @PositiveOrZero(message = "'stock' must be equal to or greater than 0")
     private int stock;
 }
@@ -0,0 +1,4 @@
+package com.branches.reservation;
+
+public record ReservedQuantity(Long pieceId, long quantity) {
+}
@@ -0,0 +1,51 @@
+package com.branches.reservation;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class ReservedStock {
+    private final ConcurrentMap<Long, Integer> reservedByPieceId = new ConcurrentHashMap<>();
+
+    public int reserved(long pieceId) {
+        return reservedByPieceId.getOrDefault(pieceId, 0);
+    }
+
+    public int tryReserve(long pieceId, int stock, int quantity) {
+        int[] available = new int[1];
+
+        reservedByPieceId.compute(pieceId, (id, reserved) -> {
+            int current = reserved == null ? 0 : reserved;
+            available[0] = stock - current;
+
+            return available[0] >= quantity && quantity > 0 ? current + quantity : reserved;
+        });
+
+        return available[0];
+    }
+
+    public void release(long pieceId, int quantity) {
+        reservedByPieceId.computeIfPresent(pieceId, (id, reserved) -> reserved > quantity ? reserved - quantity : null);
+    }
+
+    public Map<Long, Integer> snapshot() {
+        return Map.copyOf(reservedByPieceId);
+    }
+
+    // adds to each piece the difference between the reserved quantities read from the table and the snapshot taken
+    // right after reading them, so the reservations and releases applied since the snapshot are kept
+    public void reconcile(Collection<ReservedQuantity> reservedQuantities, Map<Long, Integer> snapshot) {
+        Map<Long, Integer> differenceByPieceId = new HashMap<>();
+
+        for (ReservedQuantity entry : reservedQuantities) differenceByPieceId.merge(entry.pieceId(), (int) entry.quantity(), Integer::sum);
+        snapshot.forEach((pieceId, reserved) -> differenceByPieceId.merge(pieceId, -reserved, Integer::sum));
+
+        differenceByPieceId.forEach((pieceId, difference) -> reservedByPieceId.compute(pieceId, (id, reserved) -> {
+            int reconciled = (reserved == null ? 0 : reserved) + difference;
+
+            return reconciled > 0 ? reconciled : null;
+        }));
+    }
+}
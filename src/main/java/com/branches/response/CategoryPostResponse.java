@@ -1,5 +1,6 @@
 package com.branches.response;
 
+import com.branches.model.Money;
 import lombok.Builder;
 import lombok.Data;
 
@@ -8,5 +9,5 @@ import lombok.Data;
 public class CategoryPostResponse {
     private Long id;
     private String name;
-    private double hourlyPrice;
+    private Money hourlyPrice;
 }
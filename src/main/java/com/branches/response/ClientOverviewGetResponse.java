@@ -0,0 +1,20 @@
+package com.branches.response;
+
+import com.branches.model.Money;
+import com.branches.model.Person;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ClientOverviewGetResponse {
+    private Long id;
+    private Person person;
+    private String email;
+    private List<VehicleOverviewResponse> vehicles;
+    private Money totalValue;
+    private List<RepairOverviewResponse> repairs;
+    private Long nextRepairsCursor;
+}
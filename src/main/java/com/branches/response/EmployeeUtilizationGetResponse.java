@@ -0,0 +1,20 @@
+package com.branches.response;
+
+import com.branches.model.Money;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class EmployeeUtilizationGetResponse {
+    private Long employeeId;
+    private String name;
+    private String lastName;
+    private String category;
+    private Long hoursWorked;
+    private Money totalValue;
+    private Long repairsCount;
+    private List<WeekUtilizationResponse> weeks;
+}
@@ -0,0 +1,25 @@
+package com.branches.response;
+
+import com.branches.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class EmployeeUtilizationResponse {
+    private Long employeeId;
+    private String name;
+    private String lastName;
+    private String category;
+    private Long hoursWorked;
+    private Money totalValue;
+    private Long repairsCount;
+
+    public EmployeeUtilizationResponse(Long employeeId, String name, String lastName, String category, Long hoursWorked, BigDecimal totalValue, Long repairsCount) {
+        this(employeeId, name, lastName, category, hoursWorked, Money.of(totalValue), repairsCount);
+    }
+}
@@ -1,5 +1,6 @@
 package com.branches.response;
 
+import com.branches.model.Money;
 import lombok.Builder;
 import lombok.Data;
 
@@ -8,6 +9,6 @@ import lombok.Data;
 public class PiecePostResponse {
     private Long id;
     private String name;
-    private double unitValue;
+    private Money unitValue;
     private int stock;
 }
@@ -0,0 +1,15 @@
+package com.branches.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PieceReorderSuggestionResponse {
+    private Long pieceId;
+    private String name;
+    private Integer stock;
+    private Double dailyConsumption;
+    private Double daysUntilStockout;
+    private Integer suggestedQuantity;
+}
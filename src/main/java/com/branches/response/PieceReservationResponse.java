@@ -0,0 +1,19 @@
+package com.branches.response;
+
+import com.branches.model.Piece;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Data;
+import lombok.With;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@With
+public class PieceReservationResponse {
+    private Piece piece;
+    private int quantity;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,14 @@
+package com.branches.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RepairDetailGetResponse {
+    private RepairGetResponse repair;
+    private List<RepairPiecePostResponse> pieces;
+    private List<RepairEmployeePostResponse> employees;
+}
@@ -1,5 +1,6 @@
 package com.branches.response;
 
+import com.branches.model.Money;
 import lombok.Builder;
 import lombok.Data;
 import lombok.With;
@@ -10,5 +11,5 @@ import lombok.With;
 public class RepairEmployeePostResponse {
     private EmployeeByRepairResponse employee;
     private int hoursWorked;
-    private double totalValue;
+    private Money totalValue;
 }
@@ -0,0 +1,23 @@
+package com.branches.response;
+
+import com.branches.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RepairExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String extension;
+    private final String contentType;
+
+    public static RepairExportFormat of(String format) {
+        for (RepairExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format)) return exportFormat;
+        }
+
+        throw new BadRequestException("'format' must be one of 'ndjson' or 'csv'");
+    }
+}
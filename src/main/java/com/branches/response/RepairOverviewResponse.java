@@ -0,0 +1,20 @@
+package com.branches.response;
+
+import com.branches.model.Money;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class RepairOverviewResponse {
+    private Long id;
+    private Long vehicleId;
+    private Money totalValue;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+    private LocalDate endDate;
+}
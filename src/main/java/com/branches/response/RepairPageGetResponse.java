@@ -0,0 +1,13 @@
+package com.branches.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RepairPageGetResponse {
+    private List<RepairGetResponse> content;
+    private Long nextCursor;
+}
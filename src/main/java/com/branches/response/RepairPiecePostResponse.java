@@ -1,5 +1,6 @@
 package com.branches.response;
 
+import com.branches.model.Money;
 import com.branches.model.Piece;
 import lombok.Builder;
 import lombok.Data;
@@ -11,5 +12,5 @@ import lombok.With;
 public class RepairPiecePostResponse {
     private Piece piece;
     private int quantity;
-    private double totalValue;
+    private Money totalValue;
 }
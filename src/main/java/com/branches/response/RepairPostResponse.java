@@ -1,5 +1,6 @@
 package com.branches.response;
 
+import com.branches.model.Money;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 import lombok.Data;
@@ -12,7 +13,7 @@ public class RepairPostResponse {
     private Long id;
     private ClientDefaultResponse client;
     private VehicleDefaultResponse vehicle;
-    private double totalValue;
+    private Money totalValue;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
     private LocalDate endDate;
 }
@@ -0,0 +1,22 @@
+package com.branches.response;
+
+import com.branches.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class RevenueByCategoryResponse {
+    private Long categoryId;
+    private String name;
+    private Long hoursWorked;
+    private Money totalValue;
+
+    public RevenueByCategoryResponse(Long categoryId, String name, Long hoursWorked, BigDecimal totalValue) {
+        this(categoryId, name, hoursWorked, Money.of(totalValue));
+    }
+}
@@ -0,0 +1,22 @@
+package com.branches.response;
+
+import com.branches.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class RevenueByPieceResponse {
+    private Long pieceId;
+    private String name;
+    private Long quantity;
+    private Money totalValue;
+
+    public RevenueByPieceResponse(Long pieceId, String name, Long quantity, BigDecimal totalValue) {
+        this(pieceId, name, quantity, Money.of(totalValue));
+    }
+}
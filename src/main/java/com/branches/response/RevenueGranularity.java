@@ -0,0 +1,30 @@
+package com.branches.response;
+
+import com.branches.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+@Getter
+@RequiredArgsConstructor
+public enum RevenueGranularity {
+    DAY("day", DateTimeFormatter.ISO_LOCAL_DATE),
+    MONTH("month", DateTimeFormatter.ofPattern("yyyy-MM"));
+
+    private final String value;
+    private final DateTimeFormatter formatter;
+
+    public String periodOf(LocalDate day) {
+        return formatter.format(day);
+    }
+
+    public static RevenueGranularity of(String granularity) {
+        for (RevenueGranularity revenueGranularity : values()) {
+            if (revenueGranularity.value.equalsIgnoreCase(granularity)) return revenueGranularity;
+        }
+
+        throw new BadRequestException("'granularity' must be one of 'day' or 'month'");
+    }
+}
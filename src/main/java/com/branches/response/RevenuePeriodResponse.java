@@ -0,0 +1,14 @@
+package com.branches.response;
+
+import com.branches.model.Money;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RevenuePeriodResponse {
+    private String period;
+    private Money piecesValue;
+    private Money laborValue;
+    private Money totalValue;
+}
@@ -0,0 +1,25 @@
+package com.branches.response;
+
+import com.branches.model.Money;
+import com.branches.model.VehicleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class VehicleOverviewResponse {
+    private Long id;
+    private VehicleType vehicleType;
+    private String brand;
+    private String model;
+    private Long repairsCount;
+    private Money totalValue;
+
+    public VehicleOverviewResponse(Long id, VehicleType vehicleType, String brand, String model, Long repairsCount, BigDecimal totalValue) {
+        this(id, vehicleType, brand, model, repairsCount, Money.of(totalValue));
+    }
+}
@@ -0,0 +1,18 @@
+package com.branches.response;
+
+import com.branches.model.Money;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class WeekUtilizationResponse {
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+    private LocalDate weekStart;
+    private Long hoursWorked;
+    private Money totalValue;
+    private Long repairsCount;
+}
@@ -0,0 +1,198 @@
+package com.branches.search;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class NameSearchIndex {
+    private static final int GRAM_SIZE = 3;
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::score)
+            .thenComparingInt(Match::length)
+            .thenComparingLong(Match::id);
+    private final int maxResults;
+    private final Object rebuildLock = new Object();
+    private volatile Postings postings = new Postings();
+    private List<Consumer<Postings>> writesDuringRebuild;
+
+    public NameSearchIndex(int maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    public List<Long> search(String query) {
+        String normalizedQuery = normalize(query);
+
+        Postings current = postings;
+        PriorityQueue<Match> topMatches = new PriorityQueue<>(RANKING.reversed());
+
+        for (Long id : current.candidates(normalizedQuery)) {
+            String key = current.keysById.get(id);
+
+            if (key == null || !key.contains(normalizedQuery)) continue;
+
+            topMatches.offer(new Match(id, score(key, normalizedQuery), key.length()));
+
+            if (topMatches.size() > maxResults) topMatches.poll();
+        }
+
+        return topMatches.stream()
+                .sorted(RANKING)
+                .map(Match::id)
+                .toList();
+    }
+
+    public void put(Long id, String... nameParts) {
+        String key = key(nameParts);
+
+        write(target -> target.put(id, key));
+    }
+
+    public void remove(Long id) {
+        write(target -> target.remove(id));
+    }
+
+    public void rebuild(Supplier<? extends Collection<SearchEntry>> entries) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                writesDuringRebuild = new ArrayList<>();
+            }
+
+            try {
+                Postings rebuilt = new Postings();
+
+                for (SearchEntry entry : entries.get()) rebuilt.put(entry.id(), key(entry.name(), entry.lastName()));
+
+                synchronized (this) {
+                    writesDuringRebuild.forEach(write -> write.accept(rebuilt));
+                    postings = rebuilt;
+                }
+            } finally {
+                synchronized (this) {
+                    writesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    public void putAfterCommit(Long id, String... nameParts) {
+        afterCommit(() -> put(id, nameParts));
+    }
+
+    public void removeAfterCommit(Long id) {
+        afterCommit(() -> remove(id));
+    }
+
+    public int size() {
+        return postings.keysById.size();
+    }
+
+    public static <T> List<T> inRankOrder(List<Long> rankedIds, Collection<T> found, Function<T, Long> idExtractor) {
+        Map<Long, T> foundById = found.stream().collect(Collectors.toMap(idExtractor, Function.identity()));
+
+        return rankedIds.stream()
+                .map(foundById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    static String normalize(String text) {
+        if (text == null) return "";
+
+        return Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    private static String key(String... nameParts) {
+        return normalize(Stream.of(nameParts).filter(Objects::nonNull).collect(Collectors.joining(" ")));
+    }
+
+    private static Set<String> grams(String key) {
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 0; i + GRAM_SIZE <= key.length(); i++) grams.add(key.substring(i, i + GRAM_SIZE));
+
+        return grams;
+    }
+
+    private static int score(String key, String normalizedQuery) {
+        if (key.equals(normalizedQuery)) return 0;
+        if (key.startsWith(normalizedQuery)) return 1;
+        if (key.contains(" " + normalizedQuery)) return 2;
+        return 3;
+    }
+
+    private synchronized void write(Consumer<Postings> write) {
+        write.accept(postings);
+
+        if (writesDuringRebuild != null) writesDuringRebuild.add(write);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Match(Long id, int score, int length) {
+    }
+
+    private static class Postings {
+        private final Map<Long, String> keysById = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> idsByGram = new ConcurrentHashMap<>();
+
+        private void put(Long id, String key) {
+            remove(id);
+
+            keysById.put(id, key);
+
+            for (String gram : grams(key)) idsByGram.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+
+        private void remove(Long id) {
+            String key = keysById.remove(id);
+
+            if (key == null) return;
+
+            for (String gram : grams(key)) {
+                idsByGram.computeIfPresent(gram, (g, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        private Collection<Long> candidates(String normalizedQuery) {
+            if (normalizedQuery.length() < GRAM_SIZE) return keysById.keySet();
+
+            Set<Long> smallestPosting = null;
+
+            for (String gram : grams(normalizedQuery)) {
+                Set<Long> posting = idsByGram.get(gram);
+
+                if (posting == null) return Set.of();
+
+                if (smallestPosting == null || posting.size() < smallestPosting.size()) smallestPosting = posting;
+            }
+
+            return smallestPosting;
+        }
+    }
+}
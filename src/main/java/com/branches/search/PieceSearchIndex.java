@@ -0,0 +1,27 @@
+package com.branches.search;
+
+import com.branches.repository.PieceRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PieceSearchIndex extends NameSearchIndex implements SmartInitializingSingleton {
+    private final PieceRepository repository;
+
+    public PieceSearchIndex(PieceRepository repository, @Value("${oficina.search.max-results}") int maxResults) {
+        super(maxResults);
+        this.repository = repository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    @Scheduled(fixedDelayString = "${oficina.search.resync-interval}", initialDelayString = "${oficina.search.resync-interval}")
+    public void load() {
+        rebuild(repository::findAllSearchEntries);
+    }
+}
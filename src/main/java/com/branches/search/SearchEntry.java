@@ -0,0 +1,4 @@
+package com.branches.search;
+
+public record SearchEntry(Long id, String name, String lastName) {
+}
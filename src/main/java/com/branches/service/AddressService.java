@@ -2,6 +2,7 @@ package com.branches.service;
 
 import com.branches.model.Address;
 import com.branches.repository.AddressRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -9,6 +10,7 @@ import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Timed("oficina.service")
 public class AddressService {
     private final AddressRepository repository;
 
@@ -7,13 +7,16 @@ import com.branches.repository.CategoryRepository;
 import com.branches.request.CategoryPostRequest;
 import com.branches.response.CategoryGetResponse;
 import com.branches.response.CategoryPostResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("oficina.service")
 public class CategoryService {
     private final CategoryRepository repository;
     private final CategoryMapper mapper;
@@ -23,12 +26,14 @@ public class CategoryService {
                 .orElseThrow(() -> new NotFoundException("Category with id '%s' not Found".formatted(id)));
     }
 
+    @Transactional(readOnly = true)
     public List<CategoryGetResponse> findAll(String name) {
         List<Category> response = name == null ? repository.findAll() : repository.findAllByNameContaining((name));
 
         return mapper.toCategoryGetResponseList(response);
     }
 
+    @Transactional(readOnly = true)
     public CategoryGetResponse findById(Long id) {
         Category foundCategory = findByIdOrThrowsNotFoundException(id);
 
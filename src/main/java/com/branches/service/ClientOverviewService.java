@@ -0,0 +1,66 @@
+package com.branches.service;
+
+import com.branches.config.CacheConfig;
+import com.branches.exception.BadRequestException;
+import com.branches.exception.NotFoundException;
+import com.branches.model.Client;
+import com.branches.model.Money;
+import com.branches.repository.ClientRepository;
+import com.branches.repository.RepairRepository;
+import com.branches.repository.VehicleRepository;
+import com.branches.response.ClientOverviewGetResponse;
+import com.branches.response.RepairOverviewResponse;
+import com.branches.response.VehicleOverviewResponse;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Timed("oficina.service")
+public class ClientOverviewService {
+    public static final int DEFAULT_REPAIRS_LIMIT = 20;
+    private static final int MAX_REPAIRS_LIMIT = 100;
+    private final ClientRepository clientRepository;
+    private final VehicleRepository vehicleRepository;
+    private final RepairRepository repairRepository;
+
+    @Cacheable(cacheNames = CacheConfig.CLIENT_OVERVIEW_CACHE, key = "#clientId", condition = "#afterId == null && #limit == T(com.branches.service.ClientOverviewService).DEFAULT_REPAIRS_LIMIT")
+    @Transactional(readOnly = true)
+    public ClientOverviewGetResponse findByClientId(Long clientId, Long afterId, int limit) {
+        if (limit < 1 || limit > MAX_REPAIRS_LIMIT) throw new BadRequestException("'limit' must be between 1 and %s".formatted(MAX_REPAIRS_LIMIT));
+
+        Client client = clientRepository.findWithPhonesById(clientId)
+                .orElseThrow(() -> new NotFoundException("Client with id '%s' not Found".formatted(clientId)));
+
+        List<VehicleOverviewResponse> vehicles = vehicleRepository.findAllOverviewsByClientId(clientId);
+
+        Long cursor = afterId == null ? 0L : afterId;
+        List<RepairOverviewResponse> repairs = repairRepository.findAllOverviewsByClientIdAndIdGreaterThan(clientId, cursor, Limit.of(limit + 1));
+
+        Money totalValue = Money.of(repairRepository.sumTotalValueByClientId(clientId));
+
+        boolean hasNext = repairs.size() > limit;
+        List<RepairOverviewResponse> page = hasNext ? repairs.subList(0, limit) : repairs;
+
+        return ClientOverviewGetResponse.builder()
+                .id(client.getId())
+                .person(client.getPerson())
+                .email(client.getEmail())
+                .vehicles(vehicles)
+                .totalValue(totalValue)
+                .repairs(List.copyOf(page))
+                .nextRepairsCursor(hasNext ? page.getLast().getId() : null)
+                .build();
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.CLIENT_OVERVIEW_CACHE, key = "#client.id", condition = "#client != null")
+    public void evict(Client client) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.branches.service;
 
+import com.branches.config.CacheConfig;
 import com.branches.exception.BadRequestException;
 import com.branches.exception.NotFoundException;
 import com.branches.mapper.ClientMapper;
@@ -11,7 +12,11 @@ import com.branches.request.ClientPostRequest;
 import com.branches.request.ClientPutRequest;
 import com.branches.response.ClientGetResponse;
 import com.branches.response.ClientPostResponse;
+import com.branches.search.ClientSearchIndex;
+import com.branches.search.NameSearchIndex;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +24,7 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("oficina.service")
 public class ClientService {
     private final ClientRepository repository;
     private final PersonMapper personMapper;
@@ -26,15 +32,26 @@ public class ClientService {
     private final AddressService addressService;
     private final PhoneService phoneService;
     private final PersonService personService;
+    private final ClientSearchIndex searchIndex;
+    private final ClientOverviewService clientOverviewService;
 
+    @Transactional(readOnly = true)
     public List<ClientGetResponse> findAll(String firstName) {
-        List<Client> response = firstName == null ? repository.findAll() : repository.findAllByPerson_NameContaining(firstName);
+        List<Client> response = firstName == null ? repository.findAll() : findAllByName(firstName);
 
         return mapper.toClientGetResponseList(response);
     }
 
+    private List<Client> findAllByName(String name) {
+        List<Long> rankedIds = searchIndex.search(name);
+
+        return NameSearchIndex.inRankOrder(rankedIds, repository.findAllByIdIn(rankedIds), Client::getId);
+    }
+
+    @Transactional(readOnly = true)
     public ClientGetResponse findById(Long id) {
-        Client clientFound = findByIdOrThrowsNotFoundException(id);
+        Client clientFound = repository.findWithPhonesById(id)
+                .orElseThrow(() -> new NotFoundException("Client with id '%s' not Found".formatted(id)));
 
         return mapper.toClientGetResponse(clientFound);
     }
@@ -58,10 +75,12 @@ public class ClientService {
                 .build();
 
         Client client = repository.save(clientToSave);
+        searchIndex.putAfterCommit(client.getId(), person.getName(), person.getLastName());
 
         return mapper.toClientPostResponse(client);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, allEntries = true)
     @Transactional
     public void update(Long id, ClientPutRequest putRequest) {
         if (!id.equals(putRequest.getId())) throw new BadRequestException("The ID in the request body (%s) does not match the ID in the URL (%s)".formatted(putRequest.getId(), id));
@@ -83,12 +102,17 @@ public class ClientService {
                 .build();
 
         repository.save(clientToUpdate);
+        searchIndex.putAfterCommit(id, personUpdated.getName(), personUpdated.getLastName());
+        clientOverviewService.evict(clientNotUpdated);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, allEntries = true)
     public void deleteById(Long id) {
         Client clientToDelete = findByIdOrThrowsNotFoundException(id);
 
         repository.delete(clientToDelete);
+        searchIndex.removeAfterCommit(id);
+        clientOverviewService.evict(clientToDelete);
     }
 
     public void assertEmailDoesNotExists(String email) {
@@ -1,5 +1,6 @@
 package com.branches.service;
 
+import com.branches.config.CacheConfig;
 import com.branches.exception.BadRequestException;
 import com.branches.exception.NotFoundException;
 import com.branches.mapper.EmployeeMapper;
@@ -10,14 +11,22 @@ import com.branches.request.EmployeePostRequest;
 import com.branches.request.EmployeePutRequest;
 import com.branches.response.EmployeeGetResponse;
 import com.branches.response.EmployeePostResponse;
+import com.branches.search.EmployeeSearchIndex;
+import com.branches.search.NameSearchIndex;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("oficina.service")
 public class EmployeeService {
     private final EmployeeRepository repository;
     private final EmployeeMapper mapper;
@@ -26,15 +35,25 @@ public class EmployeeService {
     private final AddressService addressService;
     private final PhoneService phoneService;
     private final PersonService personService;
+    private final EmployeeSearchIndex searchIndex;
 
+    @Transactional(readOnly = true)
     public List<EmployeeGetResponse> findAll(String firstName) {
-        List<Employee> response = firstName == null ? repository.findAll() : repository.findAllByPerson_NameContaining(firstName);
+        List<Employee> response = firstName == null ? repository.findAll() : findAllByName(firstName);
 
         return mapper.toEmployeeGetResponseList(response);
     }
 
+    private List<Employee> findAllByName(String name) {
+        List<Long> rankedIds = searchIndex.search(name);
+
+        return NameSearchIndex.inRankOrder(rankedIds, repository.findAllByIdIn(rankedIds), Employee::getId);
+    }
+
+    @Transactional(readOnly = true)
     public EmployeeGetResponse findById(Long id) {
-        Employee foundEmployee = findByIdOrThrowsNotFoundException(id);
+        Employee foundEmployee = repository.findWithPhonesById(id)
+                .orElseThrow(() -> new NotFoundException("Employee with id '%s' not Found".formatted(id)));
 
         return mapper.toEmployeeGetResponse(foundEmployee);
     }
@@ -44,6 +63,20 @@ public class EmployeeService {
                 .orElseThrow(() -> new NotFoundException("Employee with id '%s' not Found".formatted(id)));
     }
 
+    public List<Employee> findAllByIdOrThrowsNotFoundException(Collection<Long> ids) {
+        List<Employee> foundEmployees = repository.findAllByIdIn(ids);
+
+        Set<Long> foundIds = foundEmployees.stream().map(Employee::getId).collect(Collectors.toSet());
+        ids.stream()
+                .filter(id -> !foundIds.contains(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new NotFoundException("Employee with id '%s' not Found".formatted(id));
+                });
+
+        return foundEmployees;
+    }
+
     @Transactional
     public EmployeePostResponse save(EmployeePostRequest postRequest) {
         Category category = categoryService.findByIdOrThrowsNotFoundException(postRequest.getCategoryId());
@@ -58,10 +91,12 @@ public class EmployeeService {
                 .build();
 
         Employee employee = repository.save(employeeToSave);
+        searchIndex.putAfterCommit(employee.getId(), person.getName(), person.getLastName());
 
         return mapper.toEmployeePostResponse(employee);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, allEntries = true)
     @Transactional
     public void update(Long id, EmployeePutRequest putRequest) {
         if (!id.equals(putRequest.getId())) throw new BadRequestException("The ID in the request body (%s) does not match the ID in the URL (%s)".formatted(putRequest.getId(), id));
@@ -83,11 +118,14 @@ public class EmployeeService {
                 .build();
 
         repository.save(employeeToUpdate);
+        searchIndex.putAfterCommit(id, personUpdated.getName(), personUpdated.getLastName());
     }
 
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, allEntries = true)
     public void deleteById(Long id) {
         Employee exceptionToDelete = findByIdOrThrowsNotFoundException(id);
 
         repository.delete(exceptionToDelete);
+        searchIndex.removeAfterCommit(id);
     }
 }
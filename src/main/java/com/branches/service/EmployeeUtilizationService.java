@@ -0,0 +1,79 @@
+package com.branches.service;
+
+import com.branches.exception.BadRequestException;
+import com.branches.model.Employee;
+import com.branches.model.Money;
+import com.branches.repository.EmployeeDayUtilization;
+import com.branches.repository.RepairEmployeeRepository;
+import com.branches.response.EmployeeUtilizationGetResponse;
+import com.branches.response.EmployeeUtilizationResponse;
+import com.branches.response.WeekUtilizationResponse;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Timed("oficina.service")
+public class EmployeeUtilizationService {
+    private final RepairEmployeeRepository repository;
+    private final EmployeeService employeeService;
+
+    @Transactional(readOnly = true)
+    public List<EmployeeUtilizationResponse> findAll(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        return repository.findAllUtilizationsByEndDateBetween(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeeUtilizationGetResponse findByEmployeeId(Long employeeId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        Employee employee = employeeService.findByIdOrThrowsNotFoundException(employeeId);
+
+        Map<LocalDate, WeekUtilizationResponse> weeksByStart = new LinkedHashMap<>();
+        for (EmployeeDayUtilization day : repository.findAllDayUtilizationsByEmployeeIdAndEndDateBetween(employeeId, from, to)) {
+            WeekUtilizationResponse week = weeksByStart.computeIfAbsent(day.day().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), this::newEmptyWeek);
+
+            week.setHoursWorked(week.getHoursWorked() + day.hoursWorked());
+            week.setTotalValue(week.getTotalValue().plus(Money.of(day.totalValue())));
+            week.setRepairsCount(week.getRepairsCount() + day.repairsCount());
+        }
+
+        List<WeekUtilizationResponse> weeks = new ArrayList<>(weeksByStart.values());
+
+        return EmployeeUtilizationGetResponse.builder()
+                .employeeId(employee.getId())
+                .name(employee.getPerson().getName())
+                .lastName(employee.getPerson().getLastName())
+                .category(employee.getCategory() == null ? null : employee.getCategory().getName())
+                .hoursWorked(weeks.stream().mapToLong(WeekUtilizationResponse::getHoursWorked).sum())
+                .totalValue(weeks.stream().map(WeekUtilizationResponse::getTotalValue).reduce(Money.ZERO, Money::plus))
+                .repairsCount(weeks.stream().mapToLong(WeekUtilizationResponse::getRepairsCount).sum())
+                .weeks(weeks)
+                .build();
+    }
+
+    private WeekUtilizationResponse newEmptyWeek(LocalDate weekStart) {
+        return WeekUtilizationResponse.builder()
+                .weekStart(weekStart)
+                .hoursWorked(0L)
+                .totalValue(Money.ZERO)
+                .repairsCount(0L)
+                .build();
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) throw new BadRequestException("'from' must not be after 'to'");
+    }
+}
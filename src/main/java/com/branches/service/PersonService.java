@@ -4,6 +4,7 @@ import com.branches.model.Address;
 import com.branches.model.Person;
 import com.branches.model.Phone;
 import com.branches.repository.PersonRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,6 +13,7 @@ import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Timed("oficina.service")
 public class PersonService {
     private final PersonRepository repository;
     private final AddressService addressService;
@@ -3,6 +3,7 @@ package com.branches.service;
 import com.branches.exception.BadRequestException;
 import com.branches.model.Phone;
 import com.branches.repository.PhoneRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,6 +11,7 @@ import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Timed("oficina.service")
 public class PhoneService {
     private final PhoneRepository repository;
 
@@ -0,0 +1,70 @@
+package com.branches.service;
+
+import com.branches.exception.BadRequestException;
+import com.branches.model.Piece;
+import com.branches.reorder.PieceReorderEngine;
+import com.branches.reorder.StockoutForecast;
+import com.branches.repository.PieceRepository;
+import com.branches.response.PieceReorderSuggestionResponse;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("oficina.service")
+public class PieceReorderService {
+    private static final int MAX_LIMIT = 100;
+    private final PieceReorderEngine reorderEngine;
+    private final PieceRepository repository;
+    private final double horizonDays;
+    private final double coverageDays;
+
+    public PieceReorderService(PieceReorderEngine reorderEngine, PieceRepository repository,
+                               @Value("${oficina.reorder.horizon}") Duration horizon,
+                               @Value("${oficina.reorder.coverage}") Duration coverage) {
+        this.reorderEngine = reorderEngine;
+        this.repository = repository;
+        this.horizonDays = horizon.toDays();
+        this.coverageDays = coverage.toDays();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PieceReorderSuggestionResponse> findSuggestions(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) throw new BadRequestException("'limit' must be between 1 and %s".formatted(MAX_LIMIT));
+
+        List<StockoutForecast> forecasts = reorderEngine.soonest(limit, horizonDays);
+        if (forecasts.isEmpty()) return List.of();
+
+        Map<Long, Piece> piecesById = repository.findAllById(forecasts.stream().map(StockoutForecast::pieceId).toList()).stream()
+                .collect(Collectors.toMap(Piece::getId, Function.identity()));
+
+        return forecasts.stream()
+                .filter(forecast -> piecesById.containsKey(forecast.pieceId()))
+                .map(forecast -> toSuggestion(forecast, piecesById.get(forecast.pieceId())))
+                .toList();
+    }
+
+    private PieceReorderSuggestionResponse toSuggestion(StockoutForecast forecast, Piece piece) {
+        int quantityToCover = (int) Math.ceil(forecast.dailyConsumption() * coverageDays);
+
+        return PieceReorderSuggestionResponse.builder()
+                .pieceId(piece.getId())
+                .name(piece.getName())
+                .stock(forecast.stock())
+                .dailyConsumption(rounded(forecast.dailyConsumption()))
+                .daysUntilStockout(rounded(forecast.daysUntilStockout()))
+                .suggestedQuantity(Math.max(quantityToCover - forecast.stock(), 0))
+                .build();
+    }
+
+    private static double rounded(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,154 @@
+package com.branches.service;
+
+import com.branches.exception.BadRequestException;
+import com.branches.exception.NotFoundException;
+import com.branches.model.Piece;
+import com.branches.model.PieceReservation;
+import com.branches.model.Repair;
+import com.branches.repository.EntityIdGenerator;
+import com.branches.repository.PieceReservationRepository;
+import com.branches.reservation.ReservedQuantity;
+import com.branches.reservation.ReservedStock;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Timed("oficina.service")
+public class PieceReservationService {
+    private final PieceReservationRepository repository;
+    private final EntityIdGenerator idGenerator;
+    private final Duration ttl;
+    private final ReservedStock reservedStock = new ReservedStock();
+
+    public PieceReservationService(PieceReservationRepository repository, EntityIdGenerator idGenerator, @Value("${oficina.reservation.ttl}") Duration ttl) {
+        this.repository = repository;
+        this.idGenerator = idGenerator;
+        this.ttl = ttl;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<ReservedQuantity> reservedQuantities = repository.findAllReservedQuantities(LocalDateTime.now());
+
+        reservedStock.reconcile(reservedQuantities, reservedStock.snapshot());
+    }
+
+    @Transactional(readOnly = true)
+    public List<PieceReservation> findAllActiveByRepair(Repair repair) {
+        return repository.findAllActiveByRepair_Id(repair.getId(), LocalDateTime.now());
+    }
+
+    @Transactional
+    public PieceReservation reserve(Repair repair, Piece piece, int quantity) {
+        // the quantities in memory only turn down the reservations that clearly do not fit, the insert checks the stock and the reservations in the table
+        int available = reservedStock.tryReserve(piece.getId(), piece.getStock(), quantity);
+
+        if (available < quantity) throw insufficientStockException(piece, available, quantity);
+
+        afterRollback(() -> reservedStock.release(piece.getId(), quantity));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl).truncatedTo(ChronoUnit.SECONDS);
+        int insertedRows = repository.upsertIfAvailable(idGenerator.nextId(PieceReservation.class), repair.getId(), piece.getId(), quantity, expiresAt, now);
+
+        if (insertedRows == 0) throw insufficientStockException(piece, repository.findAvailable(piece.getId(), now), quantity);
+
+        return findByRepairIdAndPieceIdOrThrowsNotFoundException(repair.getId(), piece.getId());
+    }
+
+    private static BadRequestException insufficientStockException(Piece piece, int available, int quantity) {
+        return new BadRequestException("'" + piece.getName() + "' has insufficient stock." +
+                " Available: " + Math.max(available, 0) + ", Requested: " + quantity);
+    }
+
+    @Transactional
+    public void consume(Repair repair, Piece piece, int quantity) {
+        consumeAll(repair, Map.of(piece.getId(), quantity));
+    }
+
+    @Transactional
+    public void consumeAll(Repair repair, Map<Long, Integer> quantityByPieceId) {
+        for (PieceReservation ownReservation : repository.findAllByRepair_Id(repair.getId())) {
+            int quantity = quantityByPieceId.getOrDefault(ownReservation.getPiece().getId(), 0);
+
+            if (quantity > 0) release(ownReservation, Math.min(quantity, ownReservation.getQuantity()));
+        }
+    }
+
+    @Transactional
+    public void release(Repair repair, Piece piece) {
+        PieceReservation reservation = findByRepairIdAndPieceIdOrThrowsNotFoundException(repair.getId(), piece.getId());
+
+        release(reservation, reservation.getQuantity());
+    }
+
+    @Transactional
+    public void removeRepair(Repair repair) {
+        repository.findAllByRepair_Id(repair.getId()).forEach(reservation -> release(reservation, reservation.getQuantity()));
+    }
+
+    @Scheduled(fixedDelayString = "${oficina.reservation.sweep-interval}", initialDelayString = "${oficina.reservation.sweep-interval}")
+    @Transactional
+    public void removeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+
+        repository.deleteAllExpired(now);
+
+        // every instance runs the sweep, so each one also picks up the reservations made, released or expired through the others;
+        // only the difference to the snapshot is applied, so what this instance reserves or releases until the commit is kept
+        List<ReservedQuantity> reservedQuantities = repository.findAllReservedQuantities(now);
+        Map<Long, Integer> snapshot = reservedStock.snapshot();
+        onCompletion(TransactionSynchronization.STATUS_COMMITTED, () -> reservedStock.reconcile(reservedQuantities, snapshot));
+    }
+
+    private PieceReservation findByRepairIdAndPieceIdOrThrowsNotFoundException(Long repairId, Long pieceId) {
+        return repository.findByRepair_IdAndPiece_Id(repairId, pieceId)
+                .orElseThrow(() -> new NotFoundException("The piece was not reserved for the repair"));
+    }
+
+    private void release(PieceReservation reservation, int quantity) {
+        int updatedRows = quantity >= reservation.getQuantity()
+                ? repository.deleteByIdAndQuantity(reservation.getId(), reservation.getQuantity())
+                : repository.removesQuantity(reservation.getId(), reservation.getQuantity(), quantity);
+
+        if (updatedRows == 0) throw new BadRequestException("The reservation of '%s' was changed concurrently, try again".formatted(reservation.getPiece().getName()));
+
+        releaseAfterCommit(reservation.getPiece().getId(), quantity);
+    }
+
+    private void releaseAfterCommit(Long pieceId, int quantity) {
+        onCompletion(TransactionSynchronization.STATUS_COMMITTED, () -> reservedStock.release(pieceId, quantity));
+    }
+
+    private static void afterRollback(Runnable action) {
+        onCompletion(TransactionSynchronization.STATUS_ROLLED_BACK, action);
+    }
+
+    private static void onCompletion(int expectedStatus, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (expectedStatus == TransactionSynchronization.STATUS_COMMITTED) action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == expectedStatus) action.run();
+            }
+        });
+    }
+}
@@ -4,28 +4,50 @@ import com.branches.exception.BadRequestException;
 import com.branches.exception.NotFoundException;
 import com.branches.mapper.PieceMapper;
 import com.branches.model.Piece;
+import com.branches.reorder.PieceReorderEngine;
+import com.branches.repository.PieceConsumptionRepository;
 import com.branches.repository.PieceRepository;
 import com.branches.request.PiecePostRequest;
 import com.branches.request.PiecePostStockRequest;
 import com.branches.response.PieceGetResponse;
 import com.branches.response.PiecePostResponse;
+import com.branches.search.NameSearchIndex;
+import com.branches.search.PieceSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Service
+@Timed("oficina.service")
 public class PieceService {
     private final PieceRepository repository;
+    private final PieceConsumptionRepository consumptionRepository;
     private final PieceMapper mapper;
+    private final PieceSearchIndex searchIndex;
+    private final PieceReorderEngine reorderEngine;
+    private final EntityManager entityManager;
 
+    @Transactional(readOnly = true)
     public List<PieceGetResponse> findAll(String name) {
-        List<Piece> response = name == null ? repository.findAll() : repository.findAllByNameContaining(name);
+        List<Piece> response = name == null ? repository.findAll() : findAllByName(name);
 
         return mapper.toPieceGetResponseList(response);
     }
 
+    private List<Piece> findAllByName(String name) {
+        List<Long> rankedIds = searchIndex.search(name);
+
+        return NameSearchIndex.inRankOrder(rankedIds, repository.findAllById(rankedIds), Piece::getId);
+    }
+
+    @Transactional(readOnly = true)
     public PieceGetResponse findById(Long id) {
         Piece foundPiece = findByIdOrThrowsNotFoundException(id);
 
@@ -41,33 +63,83 @@ public class PieceService {
         Piece pieceToSave = mapper.toPiece(postRequest);
 
         Piece response = repository.save(pieceToSave);
+        searchIndex.putAfterCommit(response.getId(), response.getName());
+        reorderEngine.putAfterCommit(response.getId(), response.getStock(), response.getStockVersion());
 
         return mapper.toPiecePostResponse(response);
     }
 
+    @Transactional
     public PiecePostResponse addStock(Long pieceId, PiecePostStockRequest postStockRequest) {
-        Piece piece = findByIdOrThrowsNotFoundException(pieceId);
+        int updatedRows = repository.addsStock(pieceId, postStockRequest.getQuantity());
 
-        int newStock = piece.getStock() + postStockRequest.getQuantity();
-        piece.setStock(newStock);
+        if (updatedRows == 0) throw new NotFoundException("Piece with id '%s' not Found".formatted(pieceId));
 
-        Piece response = repository.save(piece);
+        Piece response = refreshed(pieceId);
+        reorderEngine.putAfterCommit(response.getId(), response.getStock(), response.getStockVersion());
 
         return mapper.toPiecePostResponse(response);
     }
 
+    @Transactional
     public Piece removesStock(Piece piece, int quantity) {
-        int stock = piece.getStock();
+        return removesStock(piece, quantity, null);
+    }
+
+    @Transactional
+    public Piece removesStock(Piece piece, int quantity, Long repairId) {
+        LocalDateTime now = LocalDateTime.now();
+        int updatedRows = repository.removesStock(piece.getId(), quantity, repairId, now);
+
+        Piece updatedPiece = refreshed(piece.getId());
+
+        if (updatedRows == 0) throw insufficientStockException(updatedPiece, repository.findReservedByOthers(piece.getId(), repairId, now), quantity);
+
+        consumptionRepository.upsert(now.toLocalDate(), piece.getId(), quantity);
+        reorderEngine.recordConsumptionAfterCommit(updatedPiece.getId(), quantity, updatedPiece.getStock(), updatedPiece.getStockVersion());
+
+        return updatedPiece;
+    }
 
-        if (stock < quantity) throw new BadRequestException("'" + piece.getName() + "' has insufficient stock." +
-                " Available: " + stock + ", Requested: " + quantity);
+    @Transactional
+    public List<Piece> removesStock(Map<Long, Integer> quantityByPieceId) {
+        return removesStock(quantityByPieceId, null);
+    }
+
+    @Transactional
+    public List<Piece> removesStock(Map<Long, Integer> quantityByPieceId, Long repairId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        quantityByPieceId.forEach((pieceId, quantity) -> {
+            int updatedRows = repository.removesStock(pieceId, quantity, repairId, now);
+
+            if (updatedRows == 0) throw insufficientStockException(refreshed(pieceId), repository.findReservedByOthers(pieceId, repairId, now), quantity);
+
+            consumptionRepository.upsert(now.toLocalDate(), pieceId, quantity);
+        });
 
-        piece.setStock(stock - quantity);
+        List<Piece> updatedPieces = repository.findAllById(quantityByPieceId.keySet());
+        updatedPieces.forEach(entityManager::refresh);
+        updatedPieces.forEach(piece -> reorderEngine.recordConsumptionAfterCommit(piece.getId(), quantityByPieceId.get(piece.getId()), piece.getStock(), piece.getStockVersion()));
+
+        return updatedPieces;
+    }
+
+    private Piece refreshed(Long id) {
+        Piece piece = findByIdOrThrowsNotFoundException(id);
+        entityManager.refresh(piece);
+
+        return piece;
+    }
 
-        return repository.save(piece);
+    private BadRequestException insufficientStockException(Piece piece, int reserved, int quantity) {
+        return new BadRequestException("'" + piece.getName() + "' has insufficient stock." +
+                " Available: " + Math.max(piece.getStock() - reserved, 0) + ", Requested: " + quantity);
     }
 
     public void deleteById(Long id) {
         repository.delete(findByIdOrThrowsNotFoundException(id));
+        searchIndex.removeAfterCommit(id);
+        reorderEngine.removeAfterCommit(id);
     }
 }
@@ -0,0 +1,28 @@
+package com.branches.service;
+
+import com.branches.config.CacheConfig;
+import com.branches.response.RepairDetailGetResponse;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Timed("oficina.service")
+public class RepairDetailService {
+    private final RepairService repairService;
+    private final RepairPieceService repairPieceService;
+    private final RepairEmployeeService repairEmployeeService;
+
+    @Cacheable(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, key = "#repairId")
+    @Transactional(readOnly = true)
+    public RepairDetailGetResponse findByRepairId(Long repairId) {
+        return RepairDetailGetResponse.builder()
+                .repair(repairService.findById(repairId))
+                .pieces(repairPieceService.findAllByRepairId(repairId))
+                .employees(repairEmployeeService.findAllByRepairId(repairId))
+                .build();
+    }
+}
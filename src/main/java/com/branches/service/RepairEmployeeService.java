@@ -1,29 +1,39 @@
 package com.branches.service;
 
+import com.branches.config.CacheConfig;
 import com.branches.exception.NotFoundException;
 import com.branches.mapper.RepairEmployeeMapper;
-import com.branches.model.Category;
 import com.branches.model.Employee;
+import com.branches.model.Money;
 import com.branches.model.Repair;
 import com.branches.model.RepairEmployee;
+import com.branches.repository.EntityIdGenerator;
 import com.branches.repository.RepairEmployeeRepository;
 import com.branches.request.RepairEmployeePostRequest;
 import com.branches.response.RepairEmployeePostResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("oficina.service")
 public class RepairEmployeeService {
     private final RepairEmployeeRepository repository;
     private final RepairService repairService;
     private final EmployeeService employeeService;
     private final RepairEmployeeMapper mapper;
+    private final EntityIdGenerator idGenerator;
+    private final ClientOverviewService clientOverviewService;
+    private final RevenueService revenueService;
 
+    @Transactional(readOnly = true)
     public List<RepairEmployeePostResponse> findAllByRepairId(Long repairId) {
         Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
 
@@ -41,42 +51,76 @@ public class RepairEmployeeService {
         return repository.findByRepair_IdAndEmployee_Id(repairId, employeeId);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, key = "#repairId")
     @Transactional
     public RepairEmployeePostResponse save(Long repairId, RepairEmployeePostRequest postRequest) {
         Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
 
         Employee employee = employeeService.findByIdOrThrowsNotFoundException(postRequest.getEmployeeId());
-        Category category = employee.getCategory();
 
-        Integer hoursWorked = postRequest.getHoursWorked();
-        RepairEmployee repairEmployeeToSave = RepairEmployee.builder().repair(repair).employee(employee).hoursWorked(hoursWorked).totalValue(category.getHourlyPrice() * hoursWorked).build();
+        RepairEmployee repairEmployeeSaved = upsertLines(repair, List.of(employee), Map.of(employee.getId(), postRequest.getHoursWorked())).getFirst();
 
-        Optional<RepairEmployee> optionalRepairEmployee = findByRepairIdAndEmployeeId(repairId, employee.getId());
-        optionalRepairEmployee.ifPresent(foundRepairEmployee -> {
-            int totalHoursWorked = foundRepairEmployee.getHoursWorked() + repairEmployeeToSave.getHoursWorked();
+        return mapper.toRepairEmployeePostResponse(repairEmployeeSaved);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, key = "#repairId")
+    @Transactional
+    public List<RepairEmployeePostResponse> saveAll(Long repairId, List<RepairEmployeePostRequest> postRequests) {
+        Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
 
-            repairEmployeeToSave.setId(foundRepairEmployee.getId());
-            repairEmployeeToSave.setHoursWorked(totalHoursWorked);
-            repairEmployeeToSave.setTotalValue(totalHoursWorked * category.getHourlyPrice());
-        });
+        Map<Long, Integer> hoursWorkedByEmployeeId = postRequests.stream()
+                .collect(Collectors.toMap(RepairEmployeePostRequest::getEmployeeId, RepairEmployeePostRequest::getHoursWorked, Integer::sum, LinkedHashMap::new));
 
-        RepairEmployee repairEmployeeSaved = repository.save(repairEmployeeToSave);
+        List<Employee> employees = employeeService.findAllByIdOrThrowsNotFoundException(hoursWorkedByEmployeeId.keySet());
 
-        repairService.updateTotalValue(repair.getId(), repairEmployeeSaved.getTotalValue());
+        List<RepairEmployee> savedRepairEmployees = upsertLines(repair, employees, hoursWorkedByEmployeeId);
 
-        return mapper.toRepairEmployeePostResponse(repairEmployeeSaved);
+        return mapper.toRepairEmployeePostResponseList(savedRepairEmployees);
+    }
+
+    private List<RepairEmployee> upsertLines(Repair repair, List<Employee> employees, Map<Long, Integer> hoursWorkedByEmployeeId) {
+        List<RepairEmployee> additions = employees.stream()
+                .map(employee -> RepairEmployee.builder().id(idGenerator.nextId(RepairEmployee.class)).repair(repair).employee(employee).hoursWorked(hoursWorkedByEmployeeId.get(employee.getId())).build())
+                .toList();
+
+        repository.upsertAll(additions);
+
+        // the category of each line is chosen by the upsert, so the hours are priced from the lines read back
+        Map<Long, RepairEmployee> savedByEmployeeId = repository.findAllByRepair_IdAndEmployee_IdIn(repair.getId(), hoursWorkedByEmployeeId.keySet()).stream()
+                .collect(Collectors.toMap(repairEmployee -> repairEmployee.getEmployee().getId(), Function.identity()));
+
+        List<RepairEmployee> savedRepairEmployees = new ArrayList<>();
+        Money valueToAdd = Money.ZERO;
+        for (Employee employee : employees) {
+            int hoursWorkedToAdd = hoursWorkedByEmployeeId.get(employee.getId());
+            RepairEmployee saved = savedByEmployeeId.get(employee.getId());
+            Money lineValueToAdd = saved.getCategory().getHourlyPrice().times(hoursWorkedToAdd);
+
+            savedRepairEmployees.add(saved);
+            revenueService.addLabor(repair, saved.getCategory(), hoursWorkedToAdd, lineValueToAdd);
+
+            valueToAdd = valueToAdd.plus(lineValueToAdd);
+        }
+
+        repairService.updateTotalValue(repair.getId(), valueToAdd);
+        clientOverviewService.evict(repair.getClient());
+
+        return savedRepairEmployees;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, key = "#repairId")
     @Transactional
     public void deleteByRepairIdAndEmployeeId(Long repairId, Long employeeId) {
         Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
         Employee employee = employeeService.findByIdOrThrowsNotFoundException(employeeId);
 
         RepairEmployee repairEmployeeToDelete = findByRepairAndEmployeeOrThrowsNotFoundException(repair, employee);
-        double totalValue = repairEmployeeToDelete.getTotalValue();
+        Money totalValue = repairEmployeeToDelete.getTotalValue();
 
         repository.deleteById(repairEmployeeToDelete.getId());
+        revenueService.addLabor(repair, repairEmployeeToDelete.getCategory(), -repairEmployeeToDelete.getHoursWorked(), totalValue.negate());
 
-        repairService.updateTotalValue(repair.getId(), -totalValue);
+        repairService.updateTotalValue(repair.getId(), totalValue.negate());
+        clientOverviewService.evict(repair.getClient());
     }
 }
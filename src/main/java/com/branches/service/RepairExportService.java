@@ -0,0 +1,104 @@
+package com.branches.service;
+
+import com.branches.mapper.RepairMapper;
+import com.branches.model.Repair;
+import com.branches.repository.RepairRepository;
+import com.branches.response.ClientDefaultResponse;
+import com.branches.response.RepairExportFormat;
+import com.branches.response.RepairGetResponse;
+import com.branches.response.VehicleDefaultResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@Timed("oficina.service")
+public class RepairExportService {
+    static final int CLEAR_INTERVAL = 500;
+    private static final String CSV_HEADER = "id,client_id,client_name,client_last_name,client_email,vehicle_id,vehicle_type,vehicle_brand,vehicle_model,total_value,end_date";
+    private static final DateTimeFormatter END_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private final RepairRepository repository;
+    private final RepairMapper mapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter jsonWriter;
+    private final int fetchSize;
+
+    public RepairExportService(RepairRepository repository, RepairMapper mapper, EntityManager entityManager, ObjectMapper objectMapper, @Value("${oficina.export.fetch-size}") int fetchSize) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.jsonWriter = objectMapper.writerFor(RepairGetResponse.class);
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(RepairExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == RepairExportFormat.CSV) writer.write(CSV_HEADER + "\n");
+
+        int rows = 0;
+        try (Stream<Repair> repairs = repository.streamAllByOrderByIdAsc(fetchSize)) {
+            Iterator<Repair> iterator = repairs.iterator();
+
+            while (iterator.hasNext()) {
+                RepairGetResponse repair = mapper.toRepairGetResponse(iterator.next());
+
+                writer.write(format == RepairExportFormat.CSV ? toCsvLine(repair) : jsonWriter.writeValueAsString(repair));
+                writer.write('\n');
+
+                if (++rows % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // after the first flushed block the 200 is already on the wire and the error can't go into the body,
+            // rethrowing makes the container drop the connection without the final chunk so the download ends truncated
+            log.error("Repair export in {} aborted after {} rows", format, rows, e);
+            throw e;
+        }
+
+        writer.flush();
+    }
+
+    private static String toCsvLine(RepairGetResponse repair) {
+        ClientDefaultResponse client = repair.getClient();
+        VehicleDefaultResponse vehicle = repair.getVehicle();
+
+        return String.join(",",
+                csv(repair.getId()),
+                csv(client == null ? null : client.getId()),
+                csv(client == null || client.getPerson() == null ? null : client.getPerson().getName()),
+                csv(client == null || client.getPerson() == null ? null : client.getPerson().getLastName()),
+                csv(client == null ? null : client.getEmail()),
+                csv(vehicle == null ? null : vehicle.getId()),
+                csv(vehicle == null ? null : vehicle.getVehicleType()),
+                csv(vehicle == null ? null : vehicle.getBrand()),
+                csv(vehicle == null ? null : vehicle.getModel()),
+                csv(repair.getTotalValue()),
+                csv(repair.getEndDate() == null ? null : END_DATE_FORMATTER.format(repair.getEndDate()))
+        );
+    }
+
+    private static String csv(Object value) {
+        if (value == null) return "";
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) return text;
+
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,29 +1,45 @@
 package com.branches.service;
 
+import com.branches.config.CacheConfig;
+import com.branches.exception.BadRequestException;
 import com.branches.exception.NotFoundException;
+import com.branches.mapper.PieceReservationMapper;
 import com.branches.mapper.RepairPieceMapper;
+import com.branches.model.Money;
 import com.branches.model.Piece;
+import com.branches.model.PieceReservation;
 import com.branches.model.Repair;
 import com.branches.model.RepairPiece;
+import com.branches.repository.EntityIdGenerator;
 import com.branches.repository.RepairPieceRepository;
 import com.branches.request.RepairPiecePostRequest;
+import com.branches.response.PieceReservationResponse;
 import com.branches.response.RepairPiecePostResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("oficina.service")
 public class RepairPieceService {
     private final RepairPieceRepository repository;
     private final RepairPieceMapper mapper;
     private final PieceService pieceService;
     private final RepairService repairService;
+    private final EntityIdGenerator idGenerator;
+    private final ClientOverviewService clientOverviewService;
+    private final RevenueService revenueService;
+    private final PieceReservationService reservationService;
+    private final PieceReservationMapper reservationMapper;
 
-
+    @Transactional(readOnly = true)
     public List<RepairPiecePostResponse> findAllByRepairId(Long repairId) {
         Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
 
@@ -41,40 +57,121 @@ public class RepairPieceService {
         return repository.findByRepair_IdAndPiece_Id(repairId, pieceId);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, key = "#repairId")
     @Transactional
     public RepairPiecePostResponse save(Long repairId, RepairPiecePostRequest postRequest) {
         Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
         Piece pieceNotUpdated = pieceService.findByIdOrThrowsNotFoundException(postRequest.getPieceId());
 
         Integer quantityToAdd = postRequest.getQuantity();
-        Piece piece = pieceService.removesStock(pieceNotUpdated, quantityToAdd);
-        RepairPiece repairPieceToSave = RepairPiece.builder().repair(repair).piece(piece).quantity(quantityToAdd).totalValue(piece.getUnitValue() * quantityToAdd).build();
-        Optional<RepairPiece> optionalRepairPiece = findByRepairIdAndPieceId(repair.getId(), piece.getId());
-        optionalRepairPiece.ifPresent(foundRepairPiece -> {
-            int totalQuantity = foundRepairPiece.getQuantity() + quantityToAdd;
+        reservationService.consume(repair, pieceNotUpdated, quantityToAdd);
+        Piece piece = pieceService.removesStock(pieceNotUpdated, quantityToAdd, repairId);
 
-            repairPieceToSave.setId(foundRepairPiece.getId());
-            repairPieceToSave.setQuantity(totalQuantity);
-            repairPieceToSave.setTotalValue(totalQuantity * piece.getUnitValue());
-        });
+        RepairPiece savedRepairPiece = upsertLines(repair, List.of(piece), Map.of(piece.getId(), quantityToAdd)).getFirst();
 
+        return mapper.toRepairPiecePostResponse(savedRepairPiece);
+    }
 
-        RepairPiece savedRepairPiece = repository.save(repairPieceToSave);
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, key = "#repairId")
+    @Transactional
+    public List<RepairPiecePostResponse> saveAll(Long repairId, List<RepairPiecePostRequest> postRequests) {
+        Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
 
-        repairService.updateTotalValue(repair.getId(), quantityToAdd * piece.getUnitValue());
+        Map<Long, Integer> quantityByPieceId = postRequests.stream()
+                .collect(Collectors.toMap(RepairPiecePostRequest::getPieceId, RepairPiecePostRequest::getQuantity, Integer::sum, LinkedHashMap::new));
 
-        return mapper.toRepairPiecePostResponse(savedRepairPiece);
+        return addPieces(repair, quantityByPieceId);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, key = "#repairId")
+    @Transactional
+    public List<RepairPiecePostResponse> confirmReservations(Long repairId) {
+        Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
+
+        Map<Long, Integer> quantityByPieceId = reservationService.findAllActiveByRepair(repair).stream()
+                .collect(Collectors.toMap(reservation -> reservation.getPiece().getId(), PieceReservation::getQuantity, Integer::sum, LinkedHashMap::new));
+
+        if (quantityByPieceId.isEmpty()) throw new BadRequestException("The repair has no active reservations");
+
+        return addPieces(repair, quantityByPieceId);
+    }
+
+    private List<RepairPiecePostResponse> addPieces(Repair repair, Map<Long, Integer> quantityByPieceId) {
+        reservationService.consumeAll(repair, quantityByPieceId);
+        List<Piece> pieces = pieceService.removesStock(quantityByPieceId, repair.getId());
+
+        List<RepairPiece> savedRepairPieces = upsertLines(repair, pieces, quantityByPieceId);
+
+        return mapper.toRepairPiecePostResponseList(savedRepairPieces);
     }
 
+    private List<RepairPiece> upsertLines(Repair repair, List<Piece> pieces, Map<Long, Integer> quantityByPieceId) {
+        List<RepairPiece> additions = new ArrayList<>();
+        Money valueToAdd = Money.ZERO;
+        for (Piece piece : pieces) {
+            int quantityToAdd = quantityByPieceId.get(piece.getId());
+            Money lineValueToAdd = piece.getUnitValue().times(quantityToAdd);
+
+            additions.add(RepairPiece.builder().id(idGenerator.nextId(RepairPiece.class)).repair(repair).piece(piece).quantity(quantityToAdd).totalValue(lineValueToAdd).build());
+            revenueService.addPiece(repair, piece, quantityToAdd, lineValueToAdd);
+
+            valueToAdd = valueToAdd.plus(lineValueToAdd);
+        }
+
+        repository.upsertAll(additions);
+
+        repairService.updateTotalValue(repair.getId(), valueToAdd);
+        clientOverviewService.evict(repair.getClient());
+
+        // the lines are read back because a concurrent request may have created or added to the same lines
+        Map<Long, RepairPiece> savedByPieceId = repository.findAllByRepair_IdAndPiece_IdIn(repair.getId(), quantityByPieceId.keySet()).stream()
+                .collect(Collectors.toMap(repairPiece -> repairPiece.getPiece().getId(), Function.identity()));
+
+        return pieces.stream()
+                .map(piece -> savedByPieceId.get(piece.getId()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PieceReservationResponse> findAllReservationsByRepairId(Long repairId) {
+        Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
+
+        List<PieceReservation> response = reservationService.findAllActiveByRepair(repair);
+
+        return reservationMapper.toPieceReservationResponseList(response);
+    }
+
+    @Transactional
+    public PieceReservationResponse reserve(Long repairId, RepairPiecePostRequest postRequest) {
+        Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
+        Piece piece = pieceService.findByIdOrThrowsNotFoundException(postRequest.getPieceId());
+
+        PieceReservation response = reservationService.reserve(repair, piece, postRequest.getQuantity());
+
+        return reservationMapper.toPieceReservationResponse(response);
+    }
+
+    @Transactional
+    public void deleteReservationByRepairIdAndPieceId(Long repairId, Long pieceId) {
+        Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
+        Piece piece = pieceService.findByIdOrThrowsNotFoundException(pieceId);
+
+        reservationService.release(repair, piece);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, key = "#repairId")
+    @Transactional
     public void deleteByRepairIdAndPieceId(Long repairId, Long pieceId) {
         Repair repair = repairService.findByIdOrThrowsNotFoundException(repairId);
         Piece piece = pieceService.findByIdOrThrowsNotFoundException(pieceId);
 
 
         RepairPiece repairPiece = findByRepairAndPieceOrThrowsNotFoundException(repair, piece);
-        double totalValue = repairPiece.getTotalValue();
+        Money totalValue = repairPiece.getTotalValue();
         repository.deleteById(repairPiece.getId());
+        revenueService.addPiece(repair, piece, -repairPiece.getQuantity(), totalValue.negate());
 
-        repairService.updateTotalValue(repairId, -totalValue);
+        repairService.updateTotalValue(repairId, totalValue.negate());
+        clientOverviewService.evict(repair.getClient());
     }
 }
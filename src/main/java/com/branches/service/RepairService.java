@@ -1,13 +1,21 @@
 package com.branches.service;
 
+import com.branches.config.CacheConfig;
+import com.branches.exception.BadRequestException;
 import com.branches.exception.NotFoundException;
 import com.branches.mapper.RepairMapper;
 import com.branches.model.*;
 import com.branches.repository.RepairRepository;
 import com.branches.request.RepairPostRequest;
 import com.branches.response.RepairGetResponse;
+import com.branches.response.RepairPageGetResponse;
 import com.branches.response.RepairPostResponse;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,18 +24,47 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("oficina.service")
 public class RepairService {
+    private static final int MAX_PAGE_LIMIT = 100;
     private final RepairRepository repository;
     private final RepairMapper mapper;
     private final ClientService clientService;
     private final VehicleService vehicleService;
+    private final ClientOverviewService clientOverviewService;
+    private final RevenueService revenueService;
+    private final PieceReservationService reservationService;
+    private final EntityManager entityManager;
 
+    @Transactional(readOnly = true)
     public List<RepairGetResponse> findAll(LocalDate dateRepair) {
         List<Repair> response = dateRepair == null ? repository.findAll() : repository.findByEndDateGreaterThanEqual(dateRepair);
 
         return mapper.toRepairGetResponseList(response);
     }
 
+    @Transactional(readOnly = true)
+    public RepairPageGetResponse findAllPaginated(LocalDate dateRepair, Long afterId, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) throw new BadRequestException("'limit' must be between 1 and %s".formatted(MAX_PAGE_LIMIT));
+
+        Long cursor = afterId == null ? 0L : afterId;
+        Limit limitWithLookahead = Limit.of(limit + 1);
+
+        List<Repair> response = dateRepair == null
+                ? repository.findAllByIdGreaterThanOrderByIdAsc(cursor, limitWithLookahead)
+                : repository.findAllByIdGreaterThanAndEndDateGreaterThanEqualOrderByIdAsc(cursor, dateRepair, limitWithLookahead);
+
+        boolean hasNext = response.size() > limit;
+        List<Repair> page = hasNext ? response.subList(0, limit) : response;
+        Long nextCursor = hasNext ? page.getLast().getId() : null;
+
+        return RepairPageGetResponse.builder()
+                .content(mapper.toRepairGetResponseList(page))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
     public RepairGetResponse findById(Long id) {
         Repair foundRepair = findByIdOrThrowsNotFoundException(id);
 
@@ -39,6 +76,7 @@ public class RepairService {
                 .orElseThrow(() -> new NotFoundException("Repair with id '%s' not Found".formatted(id)));
     }
 
+    @Transactional(readOnly = true)
     public List<RepairGetResponse> findAllByClientId(Long clientId) {
         Client client = clientService.findByIdOrThrowsNotFoundException(clientId);
 
@@ -55,26 +93,35 @@ public class RepairService {
         Repair repairToSave = Repair.builder()
                 .client(client)
                 .vehicle(vehicle)
-                .totalValue(0D)
+                .totalValue(Money.ZERO)
                 .endDate(postRequest.getEndDate())
                 .build();
 
         Repair savedRepair = repository.save(repairToSave);
+        clientOverviewService.evict(client);
 
         return mapper.toRepairPostResponse(savedRepair);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, key = "#id")
+    @Transactional
     public void deleteById(Long id) {
         Repair repairToDelete = findByIdOrThrowsNotFoundException(id);
 
+        revenueService.removeRepair(repairToDelete);
+        reservationService.removeRepair(repairToDelete);
         repository.delete(repairToDelete);
+        clientOverviewService.evict(repairToDelete.getClient());
     }
 
-    public void updateTotalValue(Long repairId, Double valueToSum) {
-        Repair repair = findByIdOrThrowsNotFoundException(repairId);
+    @Transactional
+    public void updateTotalValue(Long repairId, Money valueToSum) {
+        int updatedRows = repository.updateTotalValue(repairId, valueToSum.toBigDecimal());
 
-        repair.setTotalValue(repair.getTotalValue() + valueToSum);
+        if (updatedRows == 0) throw new NotFoundException("Repair with id '%s' not Found".formatted(repairId));
 
-        repository.save(repair);
+        // only the repair already loaded in this transaction is stale, the rest of the persistence context stays managed
+        Repair loadedRepair = entityManager.getReference(Repair.class, repairId);
+        if (Hibernate.isInitialized(loadedRepair)) entityManager.refresh(loadedRepair);
     }
 }
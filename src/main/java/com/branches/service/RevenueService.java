@@ -0,0 +1,106 @@
+package com.branches.service;
+
+import com.branches.exception.BadRequestException;
+import com.branches.model.*;
+import com.branches.repository.RepairEmployeeRepository;
+import com.branches.repository.RepairPieceRepository;
+import com.branches.repository.RevenueDayTotal;
+import com.branches.repository.RevenueRollupRepository;
+import com.branches.response.RevenueByCategoryResponse;
+import com.branches.response.RevenueByPieceResponse;
+import com.branches.response.RevenueGranularity;
+import com.branches.response.RevenuePeriodResponse;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Timed("oficina.service")
+public class RevenueService {
+    private final RevenueRollupRepository repository;
+    private final RepairPieceRepository repairPieceRepository;
+    private final RepairEmployeeRepository repairEmployeeRepository;
+
+    @Transactional(readOnly = true)
+    public List<RevenuePeriodResponse> findAllByPeriod(LocalDate from, LocalDate to, RevenueGranularity granularity) {
+        validateRange(from, to);
+
+        Map<String, RevenuePeriodResponse> responseByPeriod = new LinkedHashMap<>();
+        for (RevenueDayTotal dayTotal : repository.findAllDayTotalsBetween(from, to)) {
+            RevenuePeriodResponse period = responseByPeriod.computeIfAbsent(granularity.periodOf(dayTotal.day()), this::newEmptyPeriod);
+            Money value = Money.of(dayTotal.totalValue());
+
+            if (dayTotal.source() == RevenueSource.peca) period.setPiecesValue(period.getPiecesValue().plus(value));
+            else period.setLaborValue(period.getLaborValue().plus(value));
+
+            period.setTotalValue(period.getTotalValue().plus(value));
+        }
+
+        return new ArrayList<>(responseByPeriod.values());
+    }
+
+    private RevenuePeriodResponse newEmptyPeriod(String period) {
+        return RevenuePeriodResponse.builder()
+                .period(period)
+                .piecesValue(Money.ZERO)
+                .laborValue(Money.ZERO)
+                .totalValue(Money.ZERO)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<RevenueByPieceResponse> findAllByPiece(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        return repository.findAllPieceTotalsBetween(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RevenueByCategoryResponse> findAllByCategory(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        return repository.findAllCategoryTotalsBetween(from, to);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) throw new BadRequestException("'from' must not be after 'to'");
+    }
+
+    public void addPiece(Repair repair, Piece piece, int quantity, Money value) {
+        if (piece == null) return;
+
+        add(repair, RevenueSource.peca, piece.getId(), quantity, value);
+    }
+
+    public void addLabor(Repair repair, Category category, int hoursWorked, Money value) {
+        if (category == null) return;
+
+        add(repair, RevenueSource.mao_de_obra, category.getId(), hoursWorked, value);
+    }
+
+    public void removeRepair(Repair repair) {
+        if (repair.getEndDate() == null) return;
+
+        for (RepairPiece repairPiece : repairPieceRepository.findAllByRepair(repair)) {
+            addPiece(repair, repairPiece.getPiece(), -repairPiece.getQuantity(), repairPiece.getTotalValue().negate());
+        }
+
+        for (RepairEmployee repairEmployee : repairEmployeeRepository.findAllByRepair(repair)) {
+            addLabor(repair, repairEmployee.getCategory(), -repairEmployee.getHoursWorked(), repairEmployee.getTotalValue().negate());
+        }
+    }
+
+    private void add(Repair repair, RevenueSource source, Long sourceId, int quantity, Money value) {
+        if (repair.getEndDate() == null) return;
+
+        repository.upsert(repair.getEndDate(), source.name(), sourceId, quantity, value.toBigDecimal());
+    }
+}
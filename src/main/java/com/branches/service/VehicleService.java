@@ -1,5 +1,6 @@
 package com.branches.service;
 
+import com.branches.config.CacheConfig;
 import com.branches.exception.NotFoundException;
 import com.branches.mapper.VehicleMapper;
 import com.branches.model.Client;
@@ -9,18 +10,24 @@ import com.branches.request.VehiclePostRequest;
 import com.branches.response.VehicleDefaultResponse;
 import com.branches.response.VehicleGetResponse;
 import com.branches.response.VehiclePostResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("oficina.service")
 public class VehicleService {
     private final VehicleRepository repository;
     private final VehicleMapper mapper;
     private final ClientService clientService;
+    private final ClientOverviewService clientOverviewService;
 
+    @Transactional(readOnly = true)
     public List<VehicleGetResponse> findAll() {
         return mapper.toVehicleGetResponseList(
                 repository.findAll()
@@ -39,25 +46,30 @@ public class VehicleService {
         vehicleToSave.setClient(clientFound);
 
         Vehicle response = repository.save(vehicleToSave);
+        clientOverviewService.evict(clientFound);
 
         return mapper.toVehiclePostResponse(response);
     }
 
+    @Transactional(readOnly = true)
     public List<VehicleDefaultResponse> findByClientId(Long clientId) {
         List<Vehicle> foundVehicles = repository.findAllByClient(clientService.findByIdOrThrowsNotFoundException(clientId));
 
         return mapper.toVehicleClientGetResponseList(foundVehicles);
     }
 
+    @Transactional(readOnly = true)
     public VehicleGetResponse findById(Long id) {
         Vehicle foundVehicle = findByIdOrThrowsNotFoundException(id);
 
         return mapper.toVehicleGetResponse(foundVehicle);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.REPAIR_DETAILS_CACHE, allEntries = true)
     public void deleteById(Long id) {
         Vehicle vehicleToDelete = findByIdOrThrowsNotFoundException(id);
 
         repository.delete(vehicleToDelete);
+        clientOverviewService.evict(vehicleToDelete.getClient());
     }
 }
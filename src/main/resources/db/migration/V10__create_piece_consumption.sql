@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS consumo_peca (
+    dia DATE NOT NULL,
+    pecaid BIGINT NOT NULL,
+    quantidade BIGINT NOT NULL,
+    PRIMARY KEY (dia, pecaid),
+    FOREIGN KEY(pecaid) REFERENCES peca(idpeca) ON DELETE CASCADE
+);
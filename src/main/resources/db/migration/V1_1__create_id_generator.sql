@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS gerador_id (
+    nome_sequencia VARCHAR(50) PRIMARY KEY,
+    proximo_valor BIGINT NOT NULL
+);
+
+INSERT IGNORE INTO gerador_id (nome_sequencia, proximo_valor)
+SELECT 'pessoa', COALESCE(MAX(idpessoa), 0) + 1 FROM pessoa
+UNION ALL
+SELECT 'telefone', COALESCE(MAX(idtelefone), 0) + 1 FROM telefone
+UNION ALL
+SELECT 'reparacao', COALESCE(MAX(idreparacao), 0) + 1 FROM reparacao
+UNION ALL
+SELECT 'reparacao_funcionario', COALESCE(MAX(idreparacao_funcionario), 0) + 1 FROM reparacao_funcionario
+UNION ALL
+SELECT 'reparacao_peca', COALESCE(MAX(idreparacao_peca), 0) + 1 FROM reparacao_peca;
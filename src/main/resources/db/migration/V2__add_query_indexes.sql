@@ -0,0 +1,60 @@
+CREATE INDEX idx_reparacao_data_finalizacao ON reparacao (data_finalizacao) ${online_ddl};
+
+-- lines repeated for the same repair and piece are merged into the oldest one before the unique key is built
+CREATE TABLE reparacao_peca_mesclada AS
+SELECT MIN(idreparacao_peca) AS idmantida, reparacaoid, pecaid, SUM(quantidade) AS quantidade, SUM(valor_total) AS valor_total
+FROM reparacao_peca
+WHERE reparacaoid IS NOT NULL AND pecaid IS NOT NULL
+GROUP BY reparacaoid, pecaid
+HAVING COUNT(*) > 1;
+
+UPDATE reparacao_peca
+SET quantidade = (SELECT m.quantidade FROM reparacao_peca_mesclada m WHERE m.idmantida = reparacao_peca.idreparacao_peca),
+    valor_total = (SELECT m.valor_total FROM reparacao_peca_mesclada m WHERE m.idmantida = reparacao_peca.idreparacao_peca)
+WHERE idreparacao_peca IN (SELECT idmantida FROM reparacao_peca_mesclada);
+
+DELETE FROM reparacao_peca
+WHERE EXISTS (SELECT 1 FROM reparacao_peca_mesclada m
+              WHERE m.reparacaoid = reparacao_peca.reparacaoid AND m.pecaid = reparacao_peca.pecaid AND m.idmantida <> reparacao_peca.idreparacao_peca);
+
+DROP TABLE reparacao_peca_mesclada;
+
+CREATE UNIQUE INDEX uk_reparacao_peca_reparacao_peca ON reparacao_peca (reparacaoid, pecaid) ${online_ddl};
+
+CREATE TABLE reparacao_funcionario_mesclada AS
+SELECT MIN(idreparacao_funcionario) AS idmantida, reparacaoid, funcionarioid, SUM(horas_trabalhadas) AS horas_trabalhadas, SUM(valor_total) AS valor_total
+FROM reparacao_funcionario
+WHERE reparacaoid IS NOT NULL AND funcionarioid IS NOT NULL
+GROUP BY reparacaoid, funcionarioid
+HAVING COUNT(*) > 1;
+
+UPDATE reparacao_funcionario
+SET horas_trabalhadas = (SELECT m.horas_trabalhadas FROM reparacao_funcionario_mesclada m WHERE m.idmantida = reparacao_funcionario.idreparacao_funcionario),
+    valor_total = (SELECT m.valor_total FROM reparacao_funcionario_mesclada m WHERE m.idmantida = reparacao_funcionario.idreparacao_funcionario)
+WHERE idreparacao_funcionario IN (SELECT idmantida FROM reparacao_funcionario_mesclada);
+
+DELETE FROM reparacao_funcionario
+WHERE EXISTS (SELECT 1 FROM reparacao_funcionario_mesclada m
+              WHERE m.reparacaoid = reparacao_funcionario.reparacaoid AND m.funcionarioid = reparacao_funcionario.funcionarioid AND m.idmantida <> reparacao_funcionario.idreparacao_funcionario);
+
+DROP TABLE reparacao_funcionario_mesclada;
+
+CREATE UNIQUE INDEX uk_reparacao_funcionario_reparacao_funcionario ON reparacao_funcionario (reparacaoid, funcionarioid) ${online_ddl};
+
+-- people living at a repeated address are moved to the oldest copy, and the other copies are removed
+CREATE TABLE endereco_repetido AS
+SELECT e.idendereco, MIN(o.idendereco) AS idmantido
+FROM endereco e
+JOIN endereco o ON o.rua = e.rua AND o.bairro = e.bairro AND o.cidade = e.cidade AND o.uf = e.uf
+GROUP BY e.idendereco
+HAVING MIN(o.idendereco) <> e.idendereco;
+
+UPDATE pessoa
+SET fk_endereco_pessoa = (SELECT r.idmantido FROM endereco_repetido r WHERE r.idendereco = pessoa.fk_endereco_pessoa)
+WHERE fk_endereco_pessoa IN (SELECT idendereco FROM endereco_repetido);
+
+DELETE FROM endereco WHERE idendereco IN (SELECT idendereco FROM endereco_repetido);
+
+DROP TABLE endereco_repetido;
+
+CREATE UNIQUE INDEX uk_endereco_rua_bairro_cidade_uf ON endereco (rua, bairro, cidade, uf) ${online_ddl};
@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS receita_diaria (
+    dia DATE NOT NULL,
+    tipo_origem ENUM('peca', 'mao_de_obra') NOT NULL,
+    origemid BIGINT NOT NULL,
+    quantidade BIGINT NOT NULL,
+    valor_total DECIMAL(12, 2) NOT NULL,
+    PRIMARY KEY (dia, tipo_origem, origemid)
+);
+
+INSERT INTO receita_diaria (dia, tipo_origem, origemid, quantidade, valor_total)
+SELECT r.data_finalizacao, 'peca', rp.pecaid, SUM(rp.quantidade), SUM(rp.valor_total)
+FROM reparacao_peca rp JOIN reparacao r ON r.idreparacao = rp.reparacaoid
+WHERE r.data_finalizacao IS NOT NULL AND rp.pecaid IS NOT NULL
+GROUP BY r.data_finalizacao, rp.pecaid;
+
+INSERT INTO receita_diaria (dia, tipo_origem, origemid, quantidade, valor_total)
+SELECT r.data_finalizacao, 'mao_de_obra', f.fk_categoria_funcionario, SUM(rf.horas_trabalhadas), SUM(rf.valor_total)
+FROM reparacao_funcionario rf
+    JOIN reparacao r ON r.idreparacao = rf.reparacaoid
+    JOIN funcionario f ON f.idfuncionario = rf.funcionarioid
+WHERE r.data_finalizacao IS NOT NULL AND f.fk_categoria_funcionario IS NOT NULL
+GROUP BY r.data_finalizacao, f.fk_categoria_funcionario;
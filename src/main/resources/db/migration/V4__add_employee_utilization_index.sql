@@ -0,0 +1 @@
+CREATE INDEX idx_reparacao_funcionario_utilizacao ON reparacao_funcionario (funcionarioid, reparacaoid, horas_trabalhadas, valor_total) ${online_ddl};
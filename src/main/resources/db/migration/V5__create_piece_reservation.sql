@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS reserva_peca (
+    idreserva_peca BIGINT PRIMARY KEY,
+    reparacaoid BIGINT NOT NULL,
+    pecaid BIGINT NOT NULL,
+    quantidade INT NOT NULL,
+    expira_em DATETIME NOT NULL,
+    CONSTRAINT uk_reserva_peca_reparacao_peca UNIQUE (reparacaoid, pecaid),
+    FOREIGN KEY(reparacaoid) REFERENCES reparacao(idreparacao) ON DELETE CASCADE,
+    FOREIGN KEY(pecaid) REFERENCES peca(idpeca) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_reserva_peca_expira_em ON reserva_peca (expira_em);
+
+INSERT IGNORE INTO gerador_id (nome_sequencia, proximo_valor) VALUES ('reserva_peca', 1);
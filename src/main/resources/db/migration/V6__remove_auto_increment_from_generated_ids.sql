@@ -0,0 +1,13 @@
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE pessoa MODIFY idpessoa BIGINT NOT NULL;
+
+ALTER TABLE telefone MODIFY idtelefone BIGINT NOT NULL;
+
+ALTER TABLE reparacao MODIFY idreparacao BIGINT NOT NULL;
+
+ALTER TABLE reparacao_funcionario MODIFY idreparacao_funcionario BIGINT NOT NULL;
+
+ALTER TABLE reparacao_peca MODIFY idreparacao_peca BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,6 @@
+ALTER TABLE reparacao_funcionario ADD COLUMN categoriaid BIGINT;
+
+UPDATE reparacao_funcionario
+SET categoriaid = (SELECT f.fk_categoria_funcionario FROM funcionario f WHERE f.idfuncionario = reparacao_funcionario.funcionarioid);
+
+ALTER TABLE reparacao_funcionario ADD CONSTRAINT fk_reparacao_funcionario_categoria FOREIGN KEY (categoriaid) REFERENCES categoria (idcategoria) ON DELETE SET NULL;
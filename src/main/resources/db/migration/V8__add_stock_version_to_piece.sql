@@ -0,0 +1 @@
+ALTER TABLE peca ADD COLUMN versao_estoque BIGINT NOT NULL DEFAULT 0;
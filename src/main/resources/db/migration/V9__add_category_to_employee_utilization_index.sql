@@ -0,0 +1,3 @@
+CREATE INDEX idx_reparacao_funcionario_utilizacao_categoria ON reparacao_funcionario (funcionarioid, reparacaoid, categoriaid, horas_trabalhadas, valor_total) ${online_ddl};
+
+DROP INDEX idx_reparacao_funcionario_utilizacao ON reparacao_funcionario ${online_ddl};
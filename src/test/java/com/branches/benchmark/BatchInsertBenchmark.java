@@ -0,0 +1,104 @@
+package com.branches.benchmark;
+
+import jakarta.persistence.*;
+import org.h2.tools.Server;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+    @Param({"30", "1000"})
+    private int rows;
+    private Server server;
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setup() throws SQLException {
+        server = Server.createTcpServer("-ifNotExists").start();
+
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityLine.class)
+                .addAnnotatedClass(PooledLine.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:tcp://localhost:%s/mem:benchmark;MODE=MySQL".formatted(server.getPort()))
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("DELETE FROM linha_identity").executeUpdate();
+            session.createMutationQuery("DELETE FROM linha_pooled").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public void identity() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) session.persist(new IdentityLine(i));
+        });
+    }
+
+    @Benchmark
+    public void pooledTable() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) session.persist(new PooledLine(i));
+        });
+    }
+
+    @Entity(name = "linha_identity")
+    public static class IdentityLine {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private int quantidade;
+        private BigDecimal valorTotal;
+
+        protected IdentityLine() {
+        }
+
+        IdentityLine(int quantity) {
+            this.quantidade = quantity;
+            this.valorTotal = BigDecimal.valueOf(quantity * 1000L, 2);
+        }
+    }
+
+    @Entity(name = "linha_pooled")
+    public static class PooledLine {
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "linha_pooled_id")
+        @TableGenerator(name = "linha_pooled_id", table = "gerador_id", pkColumnName = "nome_sequencia", valueColumnName = "proximo_valor", pkColumnValue = "linha_pooled", allocationSize = 50)
+        private Long id;
+        private int quantidade;
+        private BigDecimal valorTotal;
+
+        protected PooledLine() {
+        }
+
+        PooledLine(int quantity) {
+            this.quantidade = quantity;
+            this.valorTotal = BigDecimal.valueOf(quantity * 1000L, 2);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.branches.benchmark;
+
+import com.branches.OficinaApplication;
+import com.branches.model.Money;
+import com.branches.model.Piece;
+import com.branches.model.Repair;
+import com.branches.repository.PieceRepository;
+import com.branches.repository.RepairRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(BulkheadLoadBenchmark.THREADS)
+@Fork(1)
+public class BulkheadLoadBenchmark {
+    private static final int POOL_SIZE = 8;
+    static final int THREADS = 32;
+
+    @State(Scope.Benchmark)
+    public static class Application {
+        @Param({"true", "false"})
+        private boolean bulkheadEnabled;
+        private ConfigurableApplicationContext context;
+        private HttpClient httpClient;
+        private final List<HttpRequest> requests = new ArrayList<>();
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        @Setup
+        public void setup() {
+            context = new SpringApplicationBuilder(OficinaApplication.class)
+                    .profiles("test")
+                    .run("--server.port=0",
+                            "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                            "--oficina.bulkhead.enabled=" + bulkheadEnabled,
+                            "--logging.level.com.branches.logging=error", "--logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=off");
+
+            RepairRepository repairRepository = context.getBean(RepairRepository.class);
+            PieceRepository pieceRepository = context.getBean(PieceRepository.class);
+            String port = context.getEnvironment().getProperty("local.server.port");
+
+            for (int i = 0; i < THREADS; i++) {
+                Long repairId = repairRepository.save(Repair.builder().totalValue(Money.ZERO).build()).getId();
+                Long pieceId = pieceRepository.save(Piece.builder().name("Óleo de motor " + i).unitValue(Money.of(50)).stock(1_000_000_000).build()).getId();
+
+                requests.add(HttpRequest.newBuilder(URI.create("http://localhost:%s/v1/repairs/%d/pieces".formatted(port, repairId)))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"pieceId\": %d, \"quantity\": 1}".formatted(pieceId)))
+                        .build());
+            }
+
+            httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        }
+
+        @TearDown
+        public void tearDown() {
+            System.out.printf("%naccepted=%d rejected=%d failed=%d%n", accepted.sum(), rejected.sum(), failed.sum());
+            httpClient.close();
+            context.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private HttpRequest request;
+
+        @Setup
+        public void setup(Application application, ThreadParams threadParams) {
+            request = application.requests.get(threadParams.getThreadIndex());
+        }
+    }
+
+    @Benchmark
+    public int addPieceUnderOverload(Application application, Client client) throws IOException, InterruptedException {
+        int status = application.httpClient.send(client.request, HttpResponse.BodyHandlers.discarding()).statusCode();
+
+        if (status == 503) application.rejected.increment();
+        else if (status >= 500) application.failed.increment();
+        else application.accepted.increment();
+
+        return status;
+    }
+}
@@ -0,0 +1,91 @@
+package com.branches.benchmark;
+
+import com.branches.OficinaApplication;
+import com.branches.model.RepairEmployee;
+import com.branches.response.EmployeeUtilizationGetResponse;
+import com.branches.response.EmployeeUtilizationResponse;
+import com.branches.service.EmployeeUtilizationService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx3g")
+public class EmployeeUtilizationBenchmark {
+    private static final int EMPLOYEES = 200;
+    private static final int REPAIRS = 250_000;
+    private static final int EMPLOYEES_PER_REPAIR = 4;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    @Param({"true", "false"})
+    private boolean utilizationIndex;
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private EmployeeUtilizationService service;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(OficinaApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=warn", "--spring.jpa.properties.hibernate.generate_statistics=false");
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        entityManager = context.getBean(EntityManager.class);
+        service = context.getBean(EmployeeUtilizationService.class);
+
+        transactionTemplate.executeWithoutResult(status -> persistRepairEmployees());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private void persistRepairEmployees() {
+        entityManager.createNativeQuery("INSERT INTO categoria (idcategoria, nome, preco_hora) SELECT X, 'Categoria ' || X, 40 + X FROM SYSTEM_RANGE(1, 5) AS r(x)").executeUpdate();
+        entityManager.createNativeQuery("INSERT INTO pessoa (idpessoa, nome, sobrenome) SELECT X, 'Funcionario', 'N' || X FROM SYSTEM_RANGE(1, %s) AS r(x)".formatted(EMPLOYEES)).executeUpdate();
+        entityManager.createNativeQuery("INSERT INTO funcionario (idfuncionario, fk_pessoa_funcionario, fk_categoria_funcionario) SELECT X, X, MOD(X, 5) + 1 FROM SYSTEM_RANGE(1, %s) AS r(x)".formatted(EMPLOYEES)).executeUpdate();
+        entityManager.createNativeQuery("INSERT INTO reparacao (idreparacao, valor_total, data_finalizacao) SELECT X, 0, DATEADD('DAY', MOD(X, 730), DATE '%s') FROM SYSTEM_RANGE(1, %s) AS r(x)".formatted(FIRST_DAY, REPAIRS)).executeUpdate();
+        entityManager.createNativeQuery("""
+                INSERT INTO reparacao_funcionario (idreparacao_funcionario, reparacaoid, funcionarioid, horas_trabalhadas, valor_total)
+                SELECT X, (X - 1) / %1$s + 1, MOD((X - 1) / %1$s * 7 + MOD(X - 1, %1$s) * 50, %2$s) + 1, MOD(X, 8) + 1, (MOD(X, 8) + 1) * 40
+                FROM SYSTEM_RANGE(1, %3$s) AS r(x)""".formatted(EMPLOYEES_PER_REPAIR, EMPLOYEES, REPAIRS * EMPLOYEES_PER_REPAIR)).executeUpdate();
+
+        entityManager.createNativeQuery("CREATE INDEX idx_reparacao_data_finalizacao ON reparacao (data_finalizacao)").executeUpdate();
+        if (utilizationIndex) entityManager.createNativeQuery("CREATE INDEX idx_reparacao_funcionario_utilizacao_categoria ON reparacao_funcionario (funcionarioid, reparacaoid, categoriaid, horas_trabalhadas, valor_total)").executeUpdate();
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+    }
+
+    @Benchmark
+    public EmployeeUtilizationGetResponse employeeUtilizationOfAYear() {
+        return service.findByEmployeeId(1L, FIRST_DAY, FIRST_DAY.plusYears(1).minusDays(1));
+    }
+
+    @Benchmark
+    public List<EmployeeUtilizationResponse> teamUtilizationOfAMonth() {
+        return service.findAll(FIRST_DAY, FIRST_DAY.plusMonths(1).minusDays(1));
+    }
+
+    @Benchmark
+    public long employeeHoursOfAYearLoadingEveryLine() {
+        return transactionTemplate.execute(status -> entityManager.createQuery("SELECT re FROM reparacao_funcionario re JOIN FETCH re.repair r WHERE re.employee.id = 1 AND r.endDate BETWEEN :from AND :to", RepairEmployee.class)
+                .setParameter("from", FIRST_DAY)
+                .setParameter("to", FIRST_DAY.plusYears(1).minusDays(1))
+                .getResultStream()
+                .mapToLong(RepairEmployee::getHoursWorked)
+                .sum());
+    }
+}
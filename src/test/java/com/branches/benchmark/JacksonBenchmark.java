@@ -0,0 +1,35 @@
+package com.branches.benchmark;
+
+import com.branches.mapper.RepairMapperImpl;
+import com.branches.response.RepairGetResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+    @Param({"30", "1000"})
+    private int rows;
+    private ObjectWriter writer;
+    private List<RepairGetResponse> repairs;
+
+    @Setup
+    public void setup() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        repairs = new RepairMapperImpl().toRepairGetResponseList(MapperBenchmark.newRepairs(rows));
+    }
+
+    @Benchmark
+    public byte[] serializeRepairGetResponseList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(repairs);
+    }
+}
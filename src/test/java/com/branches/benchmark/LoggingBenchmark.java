@@ -0,0 +1,63 @@
+package com.branches.benchmark;
+
+import com.branches.OficinaApplication;
+import com.branches.model.*;
+import com.branches.repository.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+    @Param({"test", "test,dev"})
+    private String profiles;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(OficinaApplication.class)
+                .profiles(profiles.split(","))
+                .properties("server.port=0")
+                .run();
+
+        Address address = context.getBean(AddressRepository.class).save(Address.builder().street("Rua 1").district("Nazaré").city("Belém").state("PA").build());
+        Person person = context.getBean(PersonRepository.class).save(Person.builder().name("Marcus").lastName("Silva").address(address).build());
+        Client client = context.getBean(ClientRepository.class).save(Client.builder().person(person).email("marcus@gmail.com").build());
+        Vehicle vehicle = context.getBean(VehicleRepository.class).save(Vehicle.builder().vehicleType(VehicleType.carro).brand("Fiat").model("Toro").client(client).build());
+
+        RepairRepository repairRepository = context.getBean(RepairRepository.class);
+        for (int i = 0; i < 20; i++) {
+            repairRepository.save(Repair.builder().client(client).vehicle(vehicle).totalValue(Money.of(100)).endDate(LocalDate.of(2025, 2, 10)).build());
+        }
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:%s/v1/repairs?limit=20".formatted(port))).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public String findRepairPage() throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+}
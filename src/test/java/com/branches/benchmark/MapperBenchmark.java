@@ -0,0 +1,61 @@
+package com.branches.benchmark;
+
+import com.branches.mapper.ClientMapper;
+import com.branches.mapper.ClientMapperImpl;
+import com.branches.mapper.RepairMapper;
+import com.branches.mapper.RepairMapperImpl;
+import com.branches.model.*;
+import com.branches.response.ClientGetResponse;
+import com.branches.response.RepairGetResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"30", "1000"})
+    private int rows;
+    private final RepairMapper repairMapper = new RepairMapperImpl();
+    private final ClientMapper clientMapper = new ClientMapperImpl();
+    private List<Repair> repairs;
+    private List<Client> clients;
+
+    @Setup
+    public void setup() {
+        repairs = newRepairs(rows);
+        clients = repairs.stream().map(Repair::getClient).toList();
+    }
+
+    static List<Repair> newRepairs(int rows) {
+        List<Repair> repairs = new ArrayList<>(rows);
+
+        for (long id = 1; id <= rows; id++) {
+            Address address = Address.builder().id(id).street("Rua " + id).district("Nazaré").city("Belém").state("PA").build();
+            Person person = Person.builder().id(id).name("Marcus" + id).lastName("Silva").address(address).build();
+            Client client = Client.builder().id(id).person(person).email("marcus%s@gmail.com".formatted(id)).build();
+            Vehicle vehicle = Vehicle.builder().id(id).vehicleType(VehicleType.carro).brand("Fiat").model("Toro").client(client).build();
+
+            repairs.add(Repair.builder().id(id).client(client).vehicle(vehicle).totalValue(Money.ofCents(id * 1_234)).endDate(LocalDate.of(2025, 2, 10).plusDays(id)).build());
+        }
+
+        return repairs;
+    }
+
+    @Benchmark
+    public List<RepairGetResponse> toRepairGetResponseList() {
+        return repairMapper.toRepairGetResponseList(repairs);
+    }
+
+    @Benchmark
+    public List<ClientGetResponse> toClientGetResponseList() {
+        return clientMapper.toClientGetResponseList(clients);
+    }
+}
@@ -0,0 +1,69 @@
+package com.branches.benchmark;
+
+import com.branches.model.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    @Param({"30", "1000"})
+    private int lineItems;
+    private Money[] moneyPrices;
+    private BigDecimal[] bigDecimalPrices;
+    private double[] doublePrices;
+    private int[] quantities;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        moneyPrices = new Money[lineItems];
+        bigDecimalPrices = new BigDecimal[lineItems];
+        doublePrices = new double[lineItems];
+        quantities = new int[lineItems];
+
+        for (int i = 0; i < lineItems; i++) {
+            long cents = random.nextLong(100, 100_000);
+
+            moneyPrices[i] = Money.ofCents(cents);
+            bigDecimalPrices[i] = BigDecimal.valueOf(cents, 2);
+            doublePrices[i] = cents / 100D;
+            quantities[i] = random.nextInt(1, 10);
+        }
+    }
+
+    @Benchmark
+    public Money money() {
+        Money total = Money.ZERO;
+
+        for (int i = 0; i < lineItems; i++) total = total.plus(moneyPrices[i].times(quantities[i]));
+
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+
+        for (int i = 0; i < lineItems; i++) total = total.add(bigDecimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+
+        return total;
+    }
+
+    @Benchmark
+    public double primitiveDouble() {
+        double total = 0;
+
+        for (int i = 0; i < lineItems; i++) total += doublePrices[i] * quantities[i];
+
+        return total;
+    }
+}
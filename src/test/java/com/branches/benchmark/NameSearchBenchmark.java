@@ -0,0 +1,79 @@
+package com.branches.benchmark;
+
+import com.branches.search.NameSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchBenchmark {
+    private static final String[] NAMES = {"Marcus", "Vinicius", "Mario", "Ana", "Beatriz", "Carlos", "Daniela", "Eduardo", "Fernanda", "Gabriel", "Helena", "Igor", "Juliana", "Lucas", "Mariana", "Nicolas", "Otávio", "Paula", "Rafael", "Sofia"};
+    private static final String[] LAST_NAMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa"};
+    private static final int MAX_RESULTS = 50;
+    @Param({"100000"})
+    private int rows;
+    @Param({"vini", "carlos12", "xyz"})
+    private String query;
+    private Connection connection;
+    private PreparedStatement likeStatement;
+    private NameSearchIndex index;
+
+    @Setup
+    public void setup() throws SQLException {
+        SplittableRandom random = new SplittableRandom(42);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:search;MODE=MySQL", "sa", "");
+        connection.createStatement().execute("CREATE TABLE pessoa (idpessoa BIGINT PRIMARY KEY, nome VARCHAR(45), sobrenome VARCHAR(45))");
+        index = new NameSearchIndex(MAX_RESULTS);
+
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO pessoa VALUES (?, ?, ?)")) {
+            for (int id = 1; id <= rows; id++) {
+                String name = NAMES[random.nextInt(NAMES.length)] + id;
+                String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+                insert.setLong(1, id);
+                insert.setString(2, name);
+                insert.setString(3, lastName);
+                insert.addBatch();
+
+                index.put((long) id, name, lastName);
+            }
+
+            insert.executeBatch();
+        }
+
+        likeStatement = connection.prepareStatement("SELECT idpessoa FROM pessoa WHERE CONCAT(nome, ' ', sobrenome) LIKE ? LIMIT " + MAX_RESULTS);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> likeContaining() throws SQLException {
+        likeStatement.setString(1, "%" + query + "%");
+
+        List<Long> ids = new ArrayList<>();
+
+        try (ResultSet resultSet = likeStatement.executeQuery()) {
+            while (resultSet.next()) ids.add(resultSet.getLong(1));
+        }
+
+        return ids;
+    }
+
+    @Benchmark
+    public List<Long> nameSearchIndex() {
+        return index.search(query);
+    }
+}
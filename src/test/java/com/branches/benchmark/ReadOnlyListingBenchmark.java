@@ -0,0 +1,77 @@
+package com.branches.benchmark;
+
+import com.branches.OficinaApplication;
+import com.branches.mapper.RepairMapper;
+import com.branches.model.*;
+import com.branches.response.RepairGetResponse;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx512m")
+public class ReadOnlyListingBenchmark {
+    private static final int CLIENTS = 500;
+    private static final int REPAIRS_PER_CLIENT = 10;
+    @Param({"true", "false"})
+    private boolean readOnly;
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private RepairMapper mapper;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(OficinaApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=warn", "--spring.jpa.properties.hibernate.generate_statistics=false");
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate.executeWithoutResult(status -> persistRepairs());
+        transactionTemplate.setReadOnly(readOnly);
+        mapper = context.getBean(RepairMapper.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private void persistRepairs() {
+        for (int i = 0; i < CLIENTS; i++) {
+            Address address = Address.builder().street("Rua " + i).district("Nazaré").city("Belém").state("PA").build();
+            Person person = Person.builder().name("Marcus" + i).lastName("Silva").address(address).build();
+            Client client = Client.builder().person(person).email("marcus%s@gmail.com".formatted(i)).build();
+            Vehicle vehicle = Vehicle.builder().vehicleType(VehicleType.carro).brand("Fiat").model("Toro").client(client).build();
+            entityManager.persist(address);
+            entityManager.persist(person);
+            entityManager.persist(client);
+            entityManager.persist(vehicle);
+
+            for (int j = 0; j < REPAIRS_PER_CLIENT; j++) {
+                entityManager.persist(Repair.builder().client(client).vehicle(vehicle).totalValue(Money.ofCents(i * 1_234L + j)).endDate(LocalDate.of(2025, 2, 10).plusDays(j)).build());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<RepairGetResponse> listRepairs() {
+        return transactionTemplate.execute(status -> mapper.toRepairGetResponseList(
+                entityManager.createQuery("SELECT r FROM reparacao r JOIN FETCH r.client c JOIN FETCH c.person p JOIN FETCH p.address JOIN FETCH r.vehicle", Repair.class).getResultList()
+        ));
+    }
+}
@@ -0,0 +1,66 @@
+package com.branches.benchmark;
+
+import com.branches.OficinaApplication;
+import com.branches.model.Money;
+import com.branches.model.Piece;
+import com.branches.model.Repair;
+import com.branches.repository.PieceRepository;
+import com.branches.repository.RepairRepository;
+import com.branches.request.RepairPiecePostRequest;
+import com.branches.response.RepairPiecePostResponse;
+import com.branches.service.PieceService;
+import com.branches.service.RepairPieceService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+    private static final int STOCK = 1_000_000_000;
+    private ConfigurableApplicationContext context;
+    private RepairPieceService repairPieceService;
+    private PieceService pieceService;
+    private Long repairId;
+    private Piece piece;
+    private RepairPiecePostRequest postRequest;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(OficinaApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.root=warn", "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+
+        repairPieceService = context.getBean(RepairPieceService.class);
+        pieceService = context.getBean(PieceService.class);
+
+        repairId = context.getBean(RepairRepository.class).save(Repair.builder().totalValue(Money.ZERO).build()).getId();
+        piece = context.getBean(PieceRepository.class).save(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(STOCK).build());
+        postRequest = RepairPiecePostRequest.builder().pieceId(piece.getId()).quantity(1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public RepairPiecePostResponse repairPieceSave() {
+        return repairPieceService.save(repairId, postRequest);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Piece removesStockContended() {
+        return pieceService.removesStock(piece, 1);
+    }
+}
@@ -0,0 +1,120 @@
+package com.branches.bulkhead;
+
+import com.branches.controller.PieceController;
+import com.branches.exception.GlobalErrorHandlerAdvice;
+import com.branches.exception.ServiceUnavailableException;
+import com.branches.service.PieceReorderService;
+import com.branches.service.PieceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.Map;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BulkheadInterceptorTest {
+    private SimpleMeterRegistry meterRegistry;
+    private Map<BulkheadGroup, Bulkhead> bulkheads;
+    private BulkheadInterceptor interceptor;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkheads = Map.of(
+                BulkheadGroup.REPAIR_WRITES, new Bulkhead(1, Duration.ZERO),
+                BulkheadGroup.WRITES, new Bulkhead(1, Duration.ZERO),
+                BulkheadGroup.READS, new Bulkhead(2, Duration.ZERO)
+        );
+        interceptor = new BulkheadInterceptor(bulkheads, meterRegistry);
+    }
+
+    @ParameterizedTest
+    @DisplayName("of classifies the request into its endpoint group")
+    @CsvSource({
+            "GET, /v1/repairs/1/detail, READS",
+            "GET, /v1/pieces, READS",
+            "POST, /v1/repairs/1/pieces, REPAIR_WRITES",
+            "DELETE, /v1/repairs/1, REPAIR_WRITES",
+            "POST, /v1/pieces/1/stock, WRITES",
+            "PUT, /v1/clients/1, WRITES"
+    })
+    @Order(1)
+    void of_ClassifiesTheRequestIntoItsEndpointGroup(String method, String uri, BulkheadGroup expectedGroup) {
+        Assertions.assertThat(BulkheadGroup.of(method, uri)).isEqualTo(expectedGroup);
+    }
+
+    @Test
+    @DisplayName("preHandle acquires a permit and afterCompletion releases it")
+    @Order(2)
+    void preHandle_AcquiresAPermit_AndAfterCompletionReleasesIt() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/repairs/1/pieces");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Bulkhead bulkhead = bulkheads.get(BulkheadGroup.REPAIR_WRITES);
+
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+        int availablePermitsDuringRequest = bulkhead.availablePermits();
+
+        interceptor.afterCompletion(request, response, new Object(), null);
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        Assertions.assertThat(proceed).isTrue();
+        Assertions.assertThat(availablePermitsDuringRequest).isZero();
+        Assertions.assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("preHandle throws ServiceUnavailableException and counts the rejection when the group is saturated")
+    @Order(3)
+    void preHandle_ThrowsServiceUnavailableException_WhenTheGroupIsSaturated() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/v1/repairs/1/pieces"), response, new Object());
+
+        Assertions.assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest("DELETE", "/v1/repairs/1"), response, new Object()))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        Assertions.assertThat(meterRegistry.get("oficina.bulkhead.rejections").tag("group", "repair-writes").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("preHandle still admits reads and other writes when repair writes are saturated")
+    @Order(4)
+    void preHandle_StillAdmitsReadsAndOtherWrites_WhenRepairWritesAreSaturated() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/v1/repairs/1/pieces"), response, new Object());
+
+        boolean readProceeds = interceptor.preHandle(new MockHttpServletRequest("GET", "/v1/repairs/1"), response, new Object());
+        boolean writeProceeds = interceptor.preHandle(new MockHttpServletRequest("POST", "/v1/pieces"), response, new Object());
+
+        Assertions.assertThat(readProceeds).isTrue();
+        Assertions.assertThat(writeProceeds).isTrue();
+    }
+
+    @Test
+    @DisplayName("GET /v1/pieces returns 503 with Retry-After when the reads group is saturated")
+    @Order(5)
+    void findAll_Returns503WithRetryAfter_WhenTheReadsGroupIsSaturated() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PieceController(Mockito.mock(PieceService.class), Mockito.mock(PieceReorderService.class)))
+                .addInterceptors(interceptor)
+                .setControllerAdvice(new GlobalErrorHandlerAdvice())
+                .build();
+        Bulkhead reads = bulkheads.get(BulkheadGroup.READS);
+        reads.tryAcquire();
+        reads.tryAcquire();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/pieces"))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(MockMvcResultMatchers.content().json("{\"status\":503,\"message\":\"Too many concurrent requests, try again later\"}"));
+    }
+}
@@ -169,12 +169,14 @@ class CategoryControllerTest {
         String nameRequiredError = "The field name is required";
         String hourlyPriceRequiredError = "The field hourlyPrice is required";
         String hourlyPriceNegativeError = "'hourlyPrice' must be equal to or greater than 0";
+        String hourlyPriceDigitsError = "'hourlyPrice' must have at most 8 integer digits and 2 decimal places";
 
         List<String> expectedRequiredErrors = List.of(nameRequiredError, hourlyPriceRequiredError);
         return Stream.of(
                 Arguments.of("post-request-category-empty-fields-400.json", expectedRequiredErrors),
                 Arguments.of("post-request-category-blank-fields-400.json", expectedRequiredErrors),
-                Arguments.of("post-request-category-negative-hourlyPrice-400.json", Collections.singletonList(hourlyPriceNegativeError))
+                Arguments.of("post-request-category-negative-hourlyPrice-400.json", Collections.singletonList(hourlyPriceNegativeError)),
+                Arguments.of("post-request-category-hourlyPrice-too-many-decimals-400.json", Collections.singletonList(hourlyPriceDigitsError))
         );
     }
 
@@ -8,6 +8,7 @@ import com.branches.model.Phone;
 import com.branches.request.ClientPostRequest;
 import com.branches.request.ClientPutRequest;
 import com.branches.response.ClientGetResponse;
+import com.branches.service.ClientOverviewService;
 import com.branches.service.ClientService;
 import com.branches.service.RepairService;
 import com.branches.service.VehicleService;
@@ -46,6 +47,8 @@ class ClientControllerTest {
     private VehicleService vehicleService;
     @MockitoBean
     private RepairService repairService;
+    @MockitoBean
+    private ClientOverviewService clientOverviewService;
     @Autowired
     private FileUtils fileUtils;
     private final String URL = "/v1/clients";
@@ -517,4 +520,49 @@ class ClientControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isNotFound())
                 .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /v1/clients/1/overview returns the client with vehicles, totals and the first page of repairs when successful")
+    @Order(24)
+    void findOverviewById_ReturnsTheClientWithVehiclesTotalsAndTheFirstPageOfRepairs_WhenSuccessful() throws Exception {
+        long clientId = 1L;
+        String expectedResponse = fileUtils.readResourceFile("client/get-client-overview-by-id-200.json");
+
+        BDDMockito.when(clientOverviewService.findByClientId(clientId, null, 20)).thenReturn(ClientUtils.newClientOverviewGetResponse());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}/overview", clientId))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("GET /v1/clients/1/overview?afterId=2&limit=5 forwards the repairs cursor and limit")
+    @Order(25)
+    void findOverviewById_ForwardsTheRepairsCursorAndLimit_WhenGiven() throws Exception {
+        long clientId = 1L;
+
+        BDDMockito.when(clientOverviewService.findByClientId(clientId, 2L, 5)).thenReturn(ClientUtils.newClientOverviewGetResponse());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}/overview", clientId).param("afterId", "2").param("limit", "5"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        BDDMockito.verify(clientOverviewService).findByClientId(clientId, 2L, 5);
+    }
+
+    @Test
+    @DisplayName("GET /v1/clients/488/overview throws NotFoundException when client is not found")
+    @Order(26)
+    void findOverviewById_ThrowsNotFoundException_WhenClientIsNotFound() throws Exception {
+        long randomId = 488L;
+        String expectedResponse = fileUtils.readResourceFile("client/get-client-overview-by-id-404.json");
+
+        BDDMockito.when(clientOverviewService.findByClientId(randomId, null, 20)).thenThrow(new NotFoundException("Client with id '%s' not Found".formatted(randomId)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}/overview", randomId))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+}
@@ -9,6 +9,7 @@ import com.branches.request.EmployeePostRequest;
 import com.branches.request.EmployeePutRequest;
 import com.branches.response.EmployeeGetResponse;
 import com.branches.service.EmployeeService;
+import com.branches.service.EmployeeUtilizationService;
 import com.branches.utils.EmployeeUtils;
 import com.branches.utils.FileUtils;
 import com.branches.utils.PersonUtils;
@@ -29,6 +30,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
@@ -41,6 +43,8 @@ class EmployeeControllerTest {
     private MockMvc mockMvc;
     @MockitoBean
     private EmployeeService service;
+    @MockitoBean
+    private EmployeeUtilizationService utilizationService;
     @Autowired
     private FileUtils fileUtils;
     private final String URL = "/v1/employees";
@@ -367,4 +371,54 @@ class EmployeeControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isNotFound())
                 .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /v1/employees/utilization returns the utilization of every employee in the range")
+    @Order(17)
+    void findAllUtilizations_ReturnsTheUtilizationOfEveryEmployeeInTheRange() throws Exception {
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 2, 28);
+        String expectedResponse = fileUtils.readResourceFile("employee/get-employees-utilization-200.json");
+
+        BDDMockito.when(utilizationService.findAll(from, to)).thenReturn(EmployeeUtils.newEmployeeUtilizationResponseList());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/utilization").param("from", from.toString()).param("to", to.toString()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("GET /v1/employees/1/utilization returns the weekly utilization of the employee in the range")
+    @Order(18)
+    void findUtilizationById_ReturnsTheWeeklyUtilizationOfTheEmployeeInTheRange() throws Exception {
+        Long id = 1L;
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 2, 28);
+        String expectedResponse = fileUtils.readResourceFile("employee/get-employee-utilization-by-id-200.json");
+
+        BDDMockito.when(utilizationService.findByEmployeeId(id, from, to)).thenReturn(EmployeeUtils.newEmployeeUtilizationGetResponse());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}/utilization", id).param("from", from.toString()).param("to", to.toString()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("GET /v1/employees/25256595/utilization throws NotFoundException when given id is not found")
+    @Order(19)
+    void findUtilizationById_ThrowsNotFoundException_WhenGivenIdIsNotFound() throws Exception {
+        Long randomId = 25256595L;
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 2, 28);
+        String expectedResponse = fileUtils.readResourceFile("employee/get-employee-utilization-by-id-404.json");
+
+        BDDMockito.when(utilizationService.findByEmployeeId(randomId, from, to)).thenThrow(new NotFoundException("Employee with id '%s' not Found".formatted(randomId)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}/utilization", randomId).param("from", from.toString()).param("to", to.toString()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+}
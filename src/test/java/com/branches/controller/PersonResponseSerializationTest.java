@@ -0,0 +1,103 @@
+package com.branches.controller;
+
+import com.branches.model.Category;
+import com.branches.model.Money;
+import com.branches.repository.CategoryRepository;
+import com.branches.utils.FileUtils;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Import(FileUtils.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PersonResponseSerializationTest {
+    private static final String PHONE_NUMBER = "$.person.phones[0].number";
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private FileUtils fileUtils;
+    private static Long clientId;
+    private static Long employeeId;
+
+    @Test
+    @DisplayName("GET /v1/clients serializes the phones of each client after the transaction is closed")
+    @Order(1)
+    void findAllClients_SerializesThePhonesOfEachClient_AfterTheTransactionIsClosed() throws Exception {
+        String request = fileUtils.readResourceFile("client/post-request-client-200.json");
+
+        String response = mockMvc.perform(MockMvcRequestBuilders.post("/v1/clients").content(request).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        clientId = JsonPath.parse(response).read("$.id", Long.class);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/clients"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.id == %s)].person.phones[0].number".formatted(clientId)).value("21121521"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/clients?firstName serializes the phones of each found client after the transaction is closed")
+    @Order(2)
+    void findAllClientsByName_SerializesThePhonesOfEachFoundClient_AfterTheTransactionIsClosed() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/clients").param("firstName", "chis"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.id == %s)].person.phones[0].number".formatted(clientId)).value("21121521"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/clients/{id} serializes the phones of the client after the transaction is closed")
+    @Order(3)
+    void findClientById_SerializesThePhonesOfTheClient_AfterTheTransactionIsClosed() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/clients/{id}", clientId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath(PHONE_NUMBER).value("21121521"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/employees serializes the phones of each employee after the transaction is closed")
+    @Order(4)
+    void findAllEmployees_SerializesThePhonesOfEachEmployee_AfterTheTransactionIsClosed() throws Exception {
+        Category category = categoryRepository.save(Category.builder().name("Eletricista").hourlyPrice(Money.of(40)).build());
+        String request = fileUtils.readResourceFile("employee/post-request-employee-valid-category-200.json")
+                .replace("\"categoryId\": 1", "\"categoryId\": %s".formatted(category.getId()))
+                .replace("21121521", "21121522");
+
+        String response = mockMvc.perform(MockMvcRequestBuilders.post("/v1/employees").content(request).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        employeeId = JsonPath.parse(response).read("$.id", Long.class);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/employees"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.id == %s)].person.phones[0].number".formatted(employeeId)).value("21121522"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/employees").param("firstName", "chis"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.id == %s)].person.phones[0].number".formatted(employeeId)).value("21121522"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/employees/{id} serializes the phones of the employee after the transaction is closed")
+    @Order(5)
+    void findEmployeeById_SerializesThePhonesOfTheEmployee_AfterTheTransactionIsClosed() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/employees/{id}", employeeId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath(PHONE_NUMBER).value("21121522"));
+    }
+}
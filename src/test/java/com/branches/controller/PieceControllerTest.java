@@ -1,11 +1,14 @@
 package com.branches.controller;
 
+import com.branches.exception.BadRequestException;
 import com.branches.exception.NotFoundException;
 import com.branches.model.Piece;
 import com.branches.request.PiecePostRequest;
 import com.branches.request.PiecePostStockRequest;
 import com.branches.response.PieceGetResponse;
 import com.branches.response.PiecePostResponse;
+import com.branches.response.PieceReorderSuggestionResponse;
+import com.branches.service.PieceReorderService;
 import com.branches.service.PieceService;
 import com.branches.utils.PieceUtils;
 import com.branches.utils.FileUtils;
@@ -38,6 +41,8 @@ public class PieceControllerTest {
     private MockMvc mockMvc;
     @MockitoBean
     private PieceService service;
+    @MockitoBean
+    private PieceReorderService reorderService;
     @Autowired
     private FileUtils fileUtils;
     private final String URL = "/v1/pieces";
@@ -169,13 +174,15 @@ public class PieceControllerTest {
         String unitValueRequiredError = "The field unitValue is required";
         String unitValueNegativeError = "'unitValue' must be equal to or greater than 0";
         String stockNegativeError = "'stock' must be equal to or greater than 0";
+        String unitValueDigitsError = "'unitValue' must have at most 8 integer digits and 2 decimal places";
 
         List<String> expectedRequiredErrors = List.of(nameRequiredError, unitValueRequiredError);
         List<String> expectedNegativeError = List.of(unitValueNegativeError, stockNegativeError);
         return Stream.of(
                 Arguments.of("post-request-piece-empty-fields-400.json", expectedRequiredErrors),
                 Arguments.of("post-request-piece-blank-fields-400.json", expectedRequiredErrors),
-                Arguments.of("post-request-piece-negative-fields-400.json", expectedNegativeError)
+                Arguments.of("post-request-piece-negative-fields-400.json", expectedNegativeError),
+                Arguments.of("post-request-piece-unitValue-too-many-decimals-400.json", Collections.singletonList(unitValueDigitsError))
         );
     }
 
@@ -303,4 +310,36 @@ public class PieceControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isNotFound())
                 .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
     }
+
+    @Test
+    @DisplayName("GET /v1/pieces/reorder-suggestions returns the pieces closest to running out of stock")
+    @Order(12)
+    void findReorderSuggestions_ReturnsThePiecesClosestToRunningOutOfStock() throws Exception {
+        List<PieceReorderSuggestionResponse> suggestions = List.of(
+                PieceReorderSuggestionResponse.builder().pieceId(2L).name("Filtro de ar").stock(5).dailyConsumption(2.5).daysUntilStockout(2.0).suggestedQuantity(70).build(),
+                PieceReorderSuggestionResponse.builder().pieceId(1L).name("Óleo de motor").stock(50).dailyConsumption(4.17).daysUntilStockout(11.99).suggestedQuantity(76).build()
+        );
+        String expectedResponse = fileUtils.readResourceFile("piece/get-reorder-suggestions-200.json");
+
+        BDDMockito.when(reorderService.findSuggestions(20)).thenReturn(suggestions);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/reorder-suggestions"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("GET /v1/pieces/reorder-suggestions?limit=500 returns bad request when the limit is out of range")
+    @Order(13)
+    void findReorderSuggestions_ReturnsBadRequest_WhenTheLimitIsOutOfRange() throws Exception {
+        String expectedResponse = fileUtils.readResourceFile("piece/get-reorder-suggestions-invalid-limit-400.json");
+
+        BDDMockito.when(reorderService.findSuggestions(500)).thenThrow(new BadRequestException("'limit' must be between 1 and 100"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/reorder-suggestions").param("limit", "500"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
 }
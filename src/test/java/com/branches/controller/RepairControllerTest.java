@@ -8,10 +8,15 @@ import com.branches.model.Repair;
 import com.branches.request.RepairEmployeePostRequest;
 import com.branches.request.RepairPiecePostRequest;
 import com.branches.request.RepairPostRequest;
+import com.branches.response.RepairDetailGetResponse;
 import com.branches.response.RepairEmployeePostResponse;
+import com.branches.response.RepairExportFormat;
 import com.branches.response.RepairGetResponse;
+import com.branches.response.RepairPageGetResponse;
 import com.branches.response.RepairPiecePostResponse;
+import com.branches.service.RepairDetailService;
 import com.branches.service.RepairEmployeeService;
+import com.branches.service.RepairExportService;
 import com.branches.service.RepairPieceService;
 import com.branches.service.RepairService;
 import com.branches.utils.*;
@@ -24,6 +29,7 @@ import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -32,6 +38,8 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -49,6 +57,10 @@ class RepairControllerTest {
     private RepairPieceService repairPieceService;
     @MockitoBean
     private RepairEmployeeService repairEmployeeService;
+    @MockitoBean
+    private RepairDetailService repairDetailService;
+    @MockitoBean
+    private RepairExportService repairExportService;
     @Autowired
     private FileUtils fileUtils;
     private List<RepairGetResponse> repairGetResponseList;
@@ -114,8 +126,73 @@ class RepairControllerTest {
     }
 
     @Test
-    @DisplayName("GET /v1/repairs/1 returns found repair when successful")
+    @DisplayName("GET /v1/repairs?limit=2 returns the first page of repairs and the next cursor when successful")
     @Order(4)
+    void findAllPaginated_ReturnsFirstPageAndNextCursor_WhenSuccessful() throws Exception {
+        int limit = 2;
+        RepairPageGetResponse page = RepairPageGetResponse.builder()
+                .content(repairGetResponseList.subList(0, limit))
+                .nextCursor(2L)
+                .build();
+
+        BDDMockito.when(service.findAllPaginated(null, null, limit)).thenReturn(page);
+
+        String expectedResponse = fileUtils.readResourceFile("repair/get-repairs-limit-2-200.json");
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(URL)
+                                .param("limit", String.valueOf(limit))
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("GET /v1/repairs?afterId=2&limit=2 returns the last page of repairs without next cursor when successful")
+    @Order(5)
+    void findAllPaginated_ReturnsLastPageWithoutNextCursor_WhenSuccessful() throws Exception {
+        int limit = 2;
+        Long afterId = 2L;
+        RepairPageGetResponse page = RepairPageGetResponse.builder()
+                .content(repairGetResponseList.subList(2, 3))
+                .build();
+
+        BDDMockito.when(service.findAllPaginated(null, afterId, limit)).thenReturn(page);
+
+        String expectedResponse = fileUtils.readResourceFile("repair/get-repairs-afterId-2-limit-2-200.json");
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(URL)
+                                .param("afterId", String.valueOf(afterId))
+                                .param("limit", String.valueOf(limit))
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("GET /v1/repairs?limit=0 throws BadRequestException when limit is out of range")
+    @Order(6)
+    void findAllPaginated_ThrowsBadRequestException_WhenLimitIsOutOfRange() throws Exception {
+        BDDMockito.when(service.findAllPaginated(null, null, 0))
+                .thenThrow(new BadRequestException("'limit' must be between 1 and 100"));
+
+        String expectedResponse = fileUtils.readResourceFile("repair/get-repairs-invalid-limit-400.json");
+
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get(URL)
+                                .param("limit", "0")
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("GET /v1/repairs/1 returns found repair when successful")
+    @Order(7)
     void findById_ReturnsFoundRepair_WhenSuccessful() throws Exception {
         RepairGetResponse expectedRepair = repairGetResponseList.getFirst();
         long idToSearch = 1L;
@@ -131,7 +208,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("GET /v1/repairs/131222 throws NotFoundException when id is not found")
-    @Order(5)
+    @Order(8)
     void findById_ThrowsNotFoundException_WhenIdIsNotFound() throws Exception {
         long randomId = 131222L;
 
@@ -146,9 +223,41 @@ class RepairControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
     }
 
+    @Test
+    @DisplayName("GET /v1/repairs/1/detail returns the repair with its pieces and employees when successful")
+    @Order(9)
+    void findDetailById_ReturnsTheRepairWithItsPiecesAndEmployees_WhenSuccessful() throws Exception {
+        RepairDetailGetResponse expectedDetail = RepairUtils.newRepairDetailGetResponse();
+        long idToSearch = 1L;
+
+        BDDMockito.when(repairDetailService.findByRepairId(idToSearch)).thenReturn(expectedDetail);
+        String expectedResponse = fileUtils.readResourceFile("repair/get-repair-detail-1-200.json");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}/detail", idToSearch))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("GET /v1/repairs/131222/detail throws NotFoundException when id is not found")
+    @Order(10)
+    void findDetailById_ThrowsNotFoundException_WhenIdIsNotFound() throws Exception {
+        long randomId = 131222L;
+
+        BDDMockito.when(repairDetailService.findByRepairId(randomId))
+                .thenThrow(new NotFoundException("Repair with id '%s' not Found".formatted(randomId)));
+        String expectedResponse = fileUtils.readResourceFile("repair/get-repair-detail-404.json");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}/detail", randomId))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
     @Test
     @DisplayName("GET /v1/repairs/1/employees returns all repair employees from given repair id when successful")
-    @Order(6)
+    @Order(11)
     void findEmployeesByRepairId_ReturnsAllRepairEmployeesFromGivenRepairId_WhenSuccessful() throws Exception {
         Repair repairToSearch = RepairUtils.newRepairList().getFirst();
         Long idToSearch = repairToSearch.getId();
@@ -165,7 +274,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("GET /v1/repairs/3/employees returns an empty list when when repair contain no employees")
-    @Order(7)
+    @Order(12)
     void findEmployeesByRepairId_ReturnsEmptyList_WhenRepairContainNoEmployees() throws Exception {
         Repair repairToSearch = RepairUtils.newRepairList().getLast();
         Long idToSearch = repairToSearch.getId();
@@ -182,7 +291,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("GET /v1/repairs/121123/employees throws NotFoundException when given id is not found")
-    @Order(8)
+    @Order(13)
     void findEmployeesByRepairId_ThrowsNotFoundException_WhenGivenIdIsNotFound() throws Exception {
         Long randomId = 121123L;
 
@@ -199,7 +308,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("GET /v1/repairs/1/pieces returns all repair pieces from given repair id when successful")
-    @Order(9)
+    @Order(14)
     void findPiecesByRepairId_ReturnsAllRepairPiecesFromGivenRepairId_WhenSuccessful() throws Exception {
         Repair repairToSearch = RepairUtils.newRepairList().getFirst();
         Long idToSearch = repairToSearch.getId();
@@ -216,7 +325,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("GET /v1/repairs/3/pieces returns an empty list when when repair contain no pieces")
-    @Order(10)
+    @Order(15)
     void findPiecesByRepairId_ReturnsEmptyList_WhenRepairContainNoPieces() throws Exception {
         Repair repairToSearch = RepairUtils.newRepairList().getLast();
         Long idToSearch = repairToSearch.getId();
@@ -233,7 +342,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("GET /v1/repairs/121123/pieces throws NotFoundException when given id is not found")
-    @Order(11)
+    @Order(16)
     void findPiecesByRepairId_ThrowsNotFoundException_WhenGivenIdIsNotFound() throws Exception {
         Long randomId = 121123L;
 
@@ -250,7 +359,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("POST /v1/repairs returns saved repair when successful")
-    @Order(12)
+    @Order(17)
     void save_ReturnsSavedRepair_WhenSuccessful() throws Exception {
         String request = fileUtils.readResourceFile("repair/post-request-repair-200.json");
         String expectedResponse = fileUtils.readResourceFile("repair/post-response-repair-201.json");
@@ -271,7 +380,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("POST /v1/repairs throws NotFoundException when client is not found")
-    @Order(13)
+    @Order(18)
     void save_ThrowsNotFoundException_WhenClientIsNotFound() throws Exception {
         String request = fileUtils.readResourceFile("repair/post-request-repair-invalid-client-200.json");
         String expectedResponse = fileUtils.readResourceFile("repair/post-response-repair-invalid-client-404.json");
@@ -294,7 +403,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("POST /v1/repairs throws NotFoundException when vehicle is not found")
-    @Order(14)
+    @Order(19)
     void save_ThrowsNotFoundException_WhenVehicleIsNotFound() throws Exception {
         String request = fileUtils.readResourceFile("repair/post-request-repair-invalid-vehicle-200.json");
         String expectedResponse = fileUtils.readResourceFile("repair/post-response-repair-invalid-vehicle-404.json");
@@ -318,7 +427,7 @@ class RepairControllerTest {
     @ParameterizedTest
     @MethodSource("postRepairBadRequestSource")
     @DisplayName("POST /v1/repairs throws BadRequestException when fields are invalid")
-    @Order(15)
+    @Order(20)
     void save_ThrowsBadRequestException_WhenFieldAreInvalid(String fileName, List<String> expectedErrors) throws Exception {
         String request = fileUtils.readResourceFile("repair/%s".formatted(fileName));
 
@@ -352,7 +461,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("POST /v1/repairs/1/employees return saved RepairEmployee when successful")
-    @Order(16)
+    @Order(21)
     void addEmployee_ReturnsSavedRepairEmployee_WhenSuccessful() throws Exception {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -378,7 +487,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("POST /v1/repairs/77127/employees throws NotFoundException when repairId is not found")
-    @Order(17)
+    @Order(22)
     void addEmployee_ThrowsNotFoundException_WhenRepairIdIsNotFound() throws Exception {
         Long randomRepairId = 77127L;
 
@@ -401,7 +510,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("POST /v1/repairs/1/employees throws BadRequestException when some given employee is not found")
-    @Order(18)
+    @Order(23)
     void addEmployee_ThrowsBadRequestException_WhenSomeGivenEmployeeIsNotFound() throws Exception {
         String request = fileUtils.readResourceFile("repair/post-request-repairEmployee-invalid-employee-200.json");
         String expectedResponse = fileUtils.readResourceFile("repair/post-response-repairEmployee-invalid-employee-400.json");
@@ -428,7 +537,7 @@ class RepairControllerTest {
     @ParameterizedTest
     @MethodSource("postRepairEmployeeBadRequestSource")
     @DisplayName("POST /v1/repairs/1/employees throws BadRequestException when fields are invalid")
-    @Order(19)
+    @Order(24)
     void addEmployee_ThrowsBadRequestException_WhenFieldAreInvalid(String fileName, List<String> expectedErrors) throws Exception {
         String request = fileUtils.readResourceFile("repair/%s".formatted(fileName));
 
@@ -465,9 +574,74 @@ class RepairControllerTest {
         );
     }
 
+    @Test
+    @DisplayName("POST /v1/repairs/1/employees/batch returns saved RepairEmployees when successful")
+    @Order(25)
+    void addEmployees_ReturnsSavedRepairEmployees_WhenSuccessful() throws Exception {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        String request = fileUtils.readResourceFile("repair/post-request-repairEmployees-batch-200.json");
+        String expectedResponse = fileUtils.readResourceFile("repair/post-response-repairEmployees-batch-201.json");
+
+        List<RepairEmployeePostRequest> postRequests = List.of(RepairEmployeeUtils.newRepairEmployeePostRequest());
+        List<RepairEmployeePostResponse> postResponse = List.of(RepairEmployeeUtils.newRepairEmployeePostResponse());
+
+        BDDMockito.when(repairEmployeeService.saveAll(repairId, postRequests))
+                .thenReturn(postResponse);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(
+                                URL + "/" + repairId + "/employees/batch")
+                        .content(request)
+                        .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @ParameterizedTest
+    @MethodSource("postRepairEmployeesBatchBadRequestSource")
+    @DisplayName("POST /v1/repairs/1/employees/batch throws BadRequestException when the body is invalid")
+    @Order(26)
+    void addEmployees_ThrowsBadRequestException_WhenTheBodyIsInvalid(String fileName, List<String> expectedErrors) throws Exception {
+        String request = fileUtils.readResourceFile("repair/%s".formatted(fileName));
+
+        long id = 1L;
+
+        MvcResult mvcResult = mockMvc.perform(
+                        MockMvcRequestBuilders.post(URL + "/" + id + "/employees/batch")
+                                .content(request)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andReturn();
+
+        Assertions.assertThat(mvcResult.getResponse().getContentAsString())
+                .isNotNull()
+                .contains(expectedErrors);
+
+        BDDMockito.verifyNoInteractions(repairEmployeeService);
+    }
+
+    public static Stream<Arguments> postRepairEmployeesBatchBadRequestSource() {
+        String emptyBodyErrorMessage = "The request body cannot be empty";
+        String tooLargeBodyErrorMessage = "The request body cannot have more than 100 items";
+
+        String nullEmployeeIdErrorMessage = "The field 'employeeId' cannot be null";
+        String negativeHoursWorkedErrorMessage = "'hoursWorked' must be equal to or greater than 0";
+
+        return Stream.of(
+                Arguments.of("post-request-repairEmployees-batch-empty-400.json", Collections.singletonList(emptyBodyErrorMessage)),
+                Arguments.of("post-request-repairEmployees-batch-too-large-400.json", Collections.singletonList(tooLargeBodyErrorMessage)),
+                Arguments.of("post-request-repairEmployees-batch-invalid-fields-400.json", List.of(nullEmployeeIdErrorMessage, negativeHoursWorkedErrorMessage))
+        );
+    }
+
     @Test
     @DisplayName("POST /v1/repairs/1/pieces returns saved RepairPieces when successful")
-    @Order(20)
+    @Order(27)
     void addPiece_ReturnsSavedRepairPiece_WhenSuccessful() throws Exception {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -493,7 +667,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("POST /v1/repairs/77127/pieces throws NotFoundException when repairId is not found")
-    @Order(21)
+    @Order(28)
     void addPiece_ThrowsNotFoundException_WhenRepairIdIsNotFound() throws Exception {
         Long randomRepairId = 77127L;
 
@@ -516,7 +690,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("POST /v1/repairs/1/pieces throws BadRequestException when some given piece is not found")
-    @Order(22)
+    @Order(29)
     void addPiece_ThrowsBadRequestException_WhenSomeGivenPieceIsNotFound() throws Exception {
         String request = fileUtils.readResourceFile("repair/post-request-repairPiece-invalid-piece-200.json");
         String expectedResponse = fileUtils.readResourceFile("repair/post-response-repairPiece-invalid-piece-400.json");
@@ -542,7 +716,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("POST /v1/repairs/1/pieces throws BadRequestException when the piece has insufficient stock")
-    @Order(23)
+    @Order(30)
     void addPiece_ThrowsBadRequestException_WhenThePieceHasInsufficientStock() throws Exception {
         String request = fileUtils.readResourceFile("repair/post-request-repairPiece-invalid-quantity-200.json");
         String expectedResponse = fileUtils.readResourceFile("repair/post-response-repairPiece-invalid-quantity-400.json");
@@ -571,7 +745,7 @@ class RepairControllerTest {
     @ParameterizedTest
     @MethodSource("postRepairPieceBadRequestSource")
     @DisplayName("POST /v1/repairs/1/pieces throws BadRequestException when fields are invalid")
-    @Order(24)
+    @Order(31)
     void addPiece_ThrowsBadRequestException_WhenFieldAreInvalid(String fileName, List<String> expectedErrors) throws Exception {
         String request = fileUtils.readResourceFile("repair/%s".formatted(fileName));
 
@@ -608,9 +782,74 @@ class RepairControllerTest {
         );
     }
 
+    @Test
+    @DisplayName("POST /v1/repairs/1/pieces/batch returns saved RepairPieces when successful")
+    @Order(32)
+    void addPieces_ReturnsSavedRepairPieces_WhenSuccessful() throws Exception {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        String request = fileUtils.readResourceFile("repair/post-request-repairPieces-batch-200.json");
+        String expectedResponse = fileUtils.readResourceFile("repair/post-response-repairPieces-batch-201.json");
+
+        List<RepairPiecePostRequest> postRequests = List.of(RepairPieceUtils.newRepairPiecePostRequest());
+        List<RepairPiecePostResponse> postResponse = List.of(RepairPieceUtils.newRepairPiecePostResponse());
+
+        BDDMockito.when(repairPieceService.saveAll(repairId, postRequests))
+                .thenReturn(postResponse);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(
+                                URL + "/" + repairId + "/pieces/batch")
+                        .content(request)
+                        .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @ParameterizedTest
+    @MethodSource("postRepairPiecesBatchBadRequestSource")
+    @DisplayName("POST /v1/repairs/1/pieces/batch throws BadRequestException when the body is invalid")
+    @Order(33)
+    void addPieces_ThrowsBadRequestException_WhenTheBodyIsInvalid(String fileName, List<String> expectedErrors) throws Exception {
+        String request = fileUtils.readResourceFile("repair/%s".formatted(fileName));
+
+        long id = 1L;
+
+        MvcResult mvcResult = mockMvc.perform(
+                        MockMvcRequestBuilders.post(URL + "/" + id + "/pieces/batch")
+                                .content(request)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andReturn();
+
+        Assertions.assertThat(mvcResult.getResponse().getContentAsString())
+                .isNotNull()
+                .contains(expectedErrors);
+
+        BDDMockito.verifyNoInteractions(repairPieceService);
+    }
+
+    public static Stream<Arguments> postRepairPiecesBatchBadRequestSource() {
+        String emptyBodyErrorMessage = "The request body cannot be empty";
+        String tooLargeBodyErrorMessage = "The request body cannot have more than 100 items";
+
+        String nullPieceIdErrorMessage = "The field 'pieceId' cannot be null";
+        String negativeQuantityError = "'quantity' must be equal to or greater than 0";
+
+        return Stream.of(
+                Arguments.of("post-request-repairPieces-batch-empty-400.json", Collections.singletonList(emptyBodyErrorMessage)),
+                Arguments.of("post-request-repairPieces-batch-too-large-400.json", Collections.singletonList(tooLargeBodyErrorMessage)),
+                Arguments.of("post-request-repairPieces-batch-invalid-fields-400.json", List.of(nullPieceIdErrorMessage, negativeQuantityError))
+        );
+    }
+
     @Test
     @DisplayName("DELETE /v1/repairs/1 removes repair when successful")
-    @Order(25)
+    @Order(34)
     void deleteById_RemovesRepair_WhenSuccessful() throws Exception {
         Repair repairToDelete = RepairUtils.newRepairList().getFirst();
         Long idToDelete = repairToDelete.getId();
@@ -624,7 +863,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("DELETE /v1/repairs/25256595 throws NotFoundException when given id is not found")
-    @Order(26)
+    @Order(35)
     void deleteById_ThrowsNotFoundException_WhenGivenIdIsNotFound() throws Exception {
         Long randomId = 25256595L;
 
@@ -640,7 +879,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("DELETE /v1/repairs/1/employees/1 removes employee from repair when successful")
-    @Order(27)
+    @Order(36)
     void removesRepairEmployeeById_RemovesEmployeeFromRepair_WhenSuccessful() throws Exception {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -656,7 +895,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("DELETE /v1/repairs/25256595/employees/1 throws NotFoundException when repair is not found")
-    @Order(28)
+    @Order(37)
     void removesRepairEmployeeById_ThrowsNotFoundException_WhenRepairIsNotFound() throws Exception {
         Long randomRepairId = 25256595L;
         Employee employee = EmployeeUtils.newEmployeeList().getFirst();
@@ -674,7 +913,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("DELETE /v1/repairs/1/employees/25256595 throws NotFoundException when employee is not found")
-    @Order(29)
+    @Order(38)
     void removesRepairEmployeeById_ThrowsNotFoundException_WhenEmployeeIsNotFound() throws Exception {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -691,7 +930,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("DELETE /v1/repairs/1/employees/3 throws NotFoundException when employee is not found in the repair")
-    @Order(30)
+    @Order(39)
     void removesRepairEmployeeById_ThrowsNotFoundException_WhenEmployeeIsNotFoundInTheRepair() throws Exception {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -710,7 +949,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("DELETE /v1/repairs/1/pieces/1 removes piece from repair when successful")
-    @Order(31)
+    @Order(40)
     void removesRepairPieceById_RemovesPieceFromRepair_WhenSuccessful() throws Exception {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -726,7 +965,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("DELETE /v1/repairs/25256595/pieces/1 throws NotFoundException when repair is not found")
-    @Order(32)
+    @Order(41)
     void removesRepairPieceById_ThrowsNotFoundException_WhenRepairIsNotFound() throws Exception {
         Long randomRepairId = 25256595L;
         Piece piece = PieceUtils.newPieceList().getFirst();
@@ -744,7 +983,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("DELETE /v1/repairs/1/pieces/25256595 throws NotFoundException when piece is not found")
-    @Order(33)
+    @Order(42)
     void removesRepairPieceById_ThrowsNotFoundException_WhenPieceIsNotFound() throws Exception {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -762,7 +1001,7 @@ class RepairControllerTest {
 
     @Test
     @DisplayName("DELETE /v1/repairs/1/pieces/3 throws NotFoundException when piece is not found in the repair")
-    @Order(34)
+    @Order(43)
     void removesRepairPieceById_ThrowsNotFoundException_WhenPieceIsNotFoundInTheRepair() throws Exception {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -778,4 +1017,167 @@ class RepairControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isNotFound())
                 .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /v1/repairs/export streams the repairs as NDJSON when format is not given")
+    @Order(44)
+    void export_StreamsTheRepairsAsNdjson_WhenFormatIsNotGiven() throws Exception {
+        BDDMockito.doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(repairExportService).export(BDDMockito.eq(RepairExportFormat.NDJSON), BDDMockito.any(OutputStream.class));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/export"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"repairs.ndjson\""))
+                .andExpect(MockMvcResultMatchers.content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/repairs/export?format=csv streams the repairs as CSV")
+    @Order(45)
+    void export_StreamsTheRepairsAsCsv_WhenFormatIsCsv() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/export").param("format", "csv"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"repairs.csv\""));
+
+        BDDMockito.verify(repairExportService).export(BDDMockito.eq(RepairExportFormat.CSV), BDDMockito.any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("GET /v1/repairs/export?format=xml throws BadRequestException when format is not supported")
+    @Order(46)
+    void export_ThrowsBadRequestException_WhenFormatIsNotSupported() throws Exception {
+        String expectedResponse = fileUtils.readResourceFile("repair/get-repairs-export-invalid-format-400.json");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/export").param("format", "xml"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+
+        BDDMockito.verifyNoInteractions(repairExportService);
+    }
+
+    @Test
+    @DisplayName("GET /v1/repairs/1/reservations returns the active reservations of the repair when successful")
+    @Order(47)
+    void findReservationsByRepairId_ReturnsActiveReservations_WhenSuccessful() throws Exception {
+        Long repairId = RepairUtils.newRepairList().getFirst().getId();
+        String expectedResponse = fileUtils.readResourceFile("repair/get-reservations-1-repairId-200.json");
+
+        BDDMockito.when(repairPieceService.findAllReservationsByRepairId(repairId))
+                .thenReturn(List.of(RepairPieceUtils.newPieceReservationResponse()));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{repairId}/reservations", repairId))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("POST /v1/repairs/1/reservations returns the reservation when successful")
+    @Order(48)
+    void reservePiece_ReturnsReservation_WhenSuccessful() throws Exception {
+        Long repairId = RepairUtils.newRepairList().getFirst().getId();
+        String request = fileUtils.readResourceFile("repair/post-request-repairPiece-200.json");
+        String expectedResponse = fileUtils.readResourceFile("repair/post-response-reservation-201.json");
+
+        BDDMockito.when(repairPieceService.reserve(repairId, RepairPieceUtils.newRepairPiecePostRequest()))
+                .thenReturn(RepairPieceUtils.newPieceReservationResponse());
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/{repairId}/reservations", repairId)
+                        .content(request)
+                        .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("POST /v1/repairs/1/reservations throws BadRequestException when the available stock is insufficient")
+    @Order(49)
+    void reservePiece_ThrowsBadRequestException_WhenAvailableStockIsInsufficient() throws Exception {
+        Long repairId = RepairUtils.newRepairList().getFirst().getId();
+        String request = fileUtils.readResourceFile("repair/post-request-repairPiece-200.json");
+        String expectedResponse = fileUtils.readResourceFile("repair/post-response-reservation-insufficient-stock-400.json");
+
+        BDDMockito.when(repairPieceService.reserve(repairId, RepairPieceUtils.newRepairPiecePostRequest()))
+                .thenThrow(new BadRequestException("'Óleo de motor' has insufficient stock. Available: 2, Requested: 5"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/{repairId}/reservations", repairId)
+                        .content(request)
+                        .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("POST /v1/repairs/1/reservations/confirm returns the pieces added to the repair when successful")
+    @Order(50)
+    void confirmReservations_ReturnsAddedPieces_WhenSuccessful() throws Exception {
+        Long repairId = RepairUtils.newRepairList().getFirst().getId();
+        String expectedResponse = fileUtils.readResourceFile("repair/post-response-reservations-confirm-201.json");
+
+        BDDMockito.when(repairPieceService.confirmReservations(repairId))
+                .thenReturn(List.of(RepairPieceUtils.newRepairPiecePostResponse()));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/{repairId}/reservations/confirm", repairId))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("POST /v1/repairs/1/reservations/confirm throws BadRequestException when the repair has no active reservations")
+    @Order(51)
+    void confirmReservations_ThrowsBadRequestException_WhenRepairHasNoActiveReservations() throws Exception {
+        Long repairId = RepairUtils.newRepairList().getFirst().getId();
+        String expectedResponse = fileUtils.readResourceFile("repair/post-response-reservations-confirm-without-reservations-400.json");
+
+        BDDMockito.when(repairPieceService.confirmReservations(repairId))
+                .thenThrow(new BadRequestException("The repair has no active reservations"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/{repairId}/reservations/confirm", repairId))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/repairs/1/reservations/1 releases the reservation when successful")
+    @Order(52)
+    void removesReservationByPieceId_ReleasesReservation_WhenSuccessful() throws Exception {
+        Long repairId = RepairUtils.newRepairList().getFirst().getId();
+        Long pieceId = PieceUtils.newPieceList().getFirst().getId();
+
+        BDDMockito.doNothing().when(repairPieceService).deleteReservationByRepairIdAndPieceId(repairId, pieceId);
+
+        mockMvc.perform(MockMvcRequestBuilders.delete(URL + "/{repairId}/reservations/{pieceId}", repairId, pieceId))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/repairs/1/reservations/1 throws NotFoundException when the piece was not reserved for the repair")
+    @Order(53)
+    void removesReservationByPieceId_ThrowsNotFoundException_WhenPieceWasNotReserved() throws Exception {
+        Long repairId = RepairUtils.newRepairList().getFirst().getId();
+        Long pieceId = PieceUtils.newPieceList().getFirst().getId();
+
+        BDDMockito.doThrow(new NotFoundException("The piece was not reserved for the repair")).when(repairPieceService).deleteReservationByRepairIdAndPieceId(repairId, pieceId);
+
+        String expectedResponse = fileUtils.readResourceFile("repair/delete-reservation-not-reserved-404.json");
+
+        mockMvc.perform(MockMvcRequestBuilders.delete(URL + "/{repairId}/reservations/{pieceId}", repairId, pieceId))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+}
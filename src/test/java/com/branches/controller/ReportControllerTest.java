@@ -0,0 +1,111 @@
+package com.branches.controller;
+
+import com.branches.model.Money;
+import com.branches.response.RevenueByCategoryResponse;
+import com.branches.response.RevenueByPieceResponse;
+import com.branches.response.RevenueGranularity;
+import com.branches.response.RevenuePeriodResponse;
+import com.branches.service.RevenueService;
+import com.branches.utils.FileUtils;
+import org.junit.jupiter.api.*;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@WebMvcTest(controllers = ReportController.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Import(FileUtils.class)
+class ReportControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private RevenueService revenueService;
+    @Autowired
+    private FileUtils fileUtils;
+    private final String URL = "/v1/reports/revenue";
+    private final LocalDate from = LocalDate.of(2025, 1, 1);
+    private final LocalDate to = LocalDate.of(2025, 12, 31);
+
+    @Test
+    @DisplayName("GET /v1/reports/revenue?granularity=month returns the revenue of each month in the range")
+    @Order(1)
+    void findRevenue_ReturnsTheRevenueOfEachMonthInTheRange_WhenGranularityIsMonth() throws Exception {
+        List<RevenuePeriodResponse> periods = List.of(
+                RevenuePeriodResponse.builder().period("2025-02").piecesValue(Money.of(150)).laborValue(Money.of(120)).totalValue(Money.of(270)).build(),
+                RevenuePeriodResponse.builder().period("2025-03").piecesValue(Money.of(80)).laborValue(Money.ZERO).totalValue(Money.of(80)).build()
+        );
+        String expectedResponse = fileUtils.readResourceFile("report/get-revenue-month-200.json");
+
+        BDDMockito.when(revenueService.findAllByPeriod(from, to, RevenueGranularity.MONTH)).thenReturn(periods);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL).param("from", from.toString()).param("to", to.toString()).param("granularity", "month"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("GET /v1/reports/revenue uses the day granularity when it is not given")
+    @Order(2)
+    void findRevenue_UsesTheDayGranularity_WhenItIsNotGiven() throws Exception {
+        BDDMockito.when(revenueService.findAllByPeriod(from, to, RevenueGranularity.DAY)).thenReturn(List.of());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL).param("from", from.toString()).param("to", to.toString()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json("[]"));
+
+        BDDMockito.verify(revenueService).findAllByPeriod(from, to, RevenueGranularity.DAY);
+    }
+
+    @Test
+    @DisplayName("GET /v1/reports/revenue?granularity=week throws BadRequestException when the granularity is invalid")
+    @Order(3)
+    void findRevenue_ThrowsBadRequestException_WhenTheGranularityIsInvalid() throws Exception {
+        String expectedResponse = fileUtils.readResourceFile("report/get-revenue-invalid-granularity-400.json");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL).param("from", from.toString()).param("to", to.toString()).param("granularity", "week"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+
+        BDDMockito.verifyNoInteractions(revenueService);
+    }
+
+    @Test
+    @DisplayName("GET /v1/reports/revenue/pieces returns the quantity and revenue of each piece in the range")
+    @Order(4)
+    void findRevenueByPiece_ReturnsTheQuantityAndRevenueOfEachPieceInTheRange() throws Exception {
+        String expectedResponse = fileUtils.readResourceFile("report/get-revenue-pieces-200.json");
+
+        BDDMockito.when(revenueService.findAllByPiece(from, to)).thenReturn(List.of(new RevenueByPieceResponse(1L, "Óleo de motor", 3L, Money.of(150))));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/pieces").param("from", from.toString()).param("to", to.toString()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+
+    @Test
+    @DisplayName("GET /v1/reports/revenue/labor returns the hours worked and revenue of each category in the range")
+    @Order(5)
+    void findRevenueByCategory_ReturnsTheHoursWorkedAndRevenueOfEachCategoryInTheRange() throws Exception {
+        String expectedResponse = fileUtils.readResourceFile("report/get-revenue-labor-200.json");
+
+        BDDMockito.when(revenueService.findAllByCategory(from, to)).thenReturn(List.of(new RevenueByCategoryResponse(1L, "Mecânico", 3L, Money.of(120))));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/labor").param("from", from.toString()).param("to", to.toString()))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(expectedResponse));
+    }
+}
@@ -0,0 +1,107 @@
+package com.branches.datasource;
+
+import com.branches.request.CategoryPostRequest;
+import com.branches.response.CategoryGetResponse;
+import com.branches.service.CategoryService;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@SpringBootTest(properties = "oficina.datasource.replica.url=" + ReplicaRoutingDataSourceTest.REPLICA_URL)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReplicaRoutingDataSourceTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration")
+                .placeholders(Map.of("online_ddl", ""))
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static List<String> names(List<CategoryGetResponse> categories) {
+        return categories.stream().map(CategoryGetResponse::getName).toList();
+    }
+
+    private static int countByName(DataSource dataSource, String name) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM categoria WHERE nome = ?", Integer.class, name);
+    }
+
+    @Test
+    @DisplayName("findAll reads from the replica when the request has not written to the primary")
+    @Order(1)
+    void findAll_ReadsFromTheReplica_WhenTheRequestHasNotWrittenToThePrimary() {
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO categoria (nome, preco_hora) VALUES (?, ?)", "Só na réplica", 10);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        List<CategoryGetResponse> response = categoryService.findAll(null);
+
+        Assertions.assertThat(names(response)).contains("Só na réplica");
+        Assertions.assertThat(countByName(primaryDataSource, "Só na réplica")).isZero();
+    }
+
+    @Test
+    @DisplayName("save writes to the primary and never to the replica")
+    @Order(2)
+    void save_WritesToThePrimaryAndNeverToTheReplica() {
+        categoryService.save(CategoryPostRequest.builder().name("Mecânico").hourlyPrice(BigDecimal.valueOf(20)).build());
+
+        Assertions.assertThat(countByName(primaryDataSource, "Mecânico")).isOne();
+        Assertions.assertThat(countByName(replicaDataSource, "Mecânico")).isZero();
+    }
+
+    @Test
+    @DisplayName("findAll reads from the primary when the same request has already written to the primary")
+    @Order(3)
+    void findAll_ReadsFromThePrimary_WhenTheSameRequestHasAlreadyWrittenToThePrimary() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        categoryService.save(CategoryPostRequest.builder().name("Eletricista").hourlyPrice(BigDecimal.valueOf(30)).build());
+        List<CategoryGetResponse> response = categoryService.findAll(null);
+
+        Assertions.assertThat(ReadYourWritesContext.hasWrittenToPrimary()).isTrue();
+        Assertions.assertThat(names(response)).contains("Eletricista").doesNotContain("Só na réplica");
+    }
+
+    @Test
+    @DisplayName("findAll reads from the replica again when a new request starts after a write")
+    @Order(4)
+    void findAll_ReadsFromTheReplicaAgain_WhenANewRequestStartsAfterAWrite() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        List<CategoryGetResponse> response = categoryService.findAll(null);
+
+        Assertions.assertThat(names(response)).contains("Só na réplica").doesNotContain("Eletricista");
+    }
+}
@@ -0,0 +1,85 @@
+package com.branches.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SlowQueryLoggerTest {
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryLogger.class);
+    private ListAppender<ILoggingEvent> appender;
+    private List<QueryInfo> queryInfoList;
+
+    @BeforeEach
+    void init() throws Exception {
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+
+        QueryInfo queryInfo = new QueryInfo("select * from reparacao where id = ?");
+        queryInfo.getParametersList().add(List.of(new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class), new Object[]{1, 42L})));
+        queryInfoList = List.of(queryInfo);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    private ExecutionInfo newExecutionInfo(long elapsedTime) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedTime);
+        executionInfo.setStatementType(StatementType.PREPARED);
+        executionInfo.setSuccess(true);
+
+        return executionInfo;
+    }
+
+    @Test
+    @DisplayName("afterQuery logs the statement with its parameters when it exceeds the threshold")
+    @Order(1)
+    void afterQuery_LogsTheStatementWithItsParameters_WhenItExceedsTheThreshold() {
+        SlowQueryLogger slowQueryLogger = new SlowQueryLogger(Duration.ofMillis(200), 1);
+
+        slowQueryLogger.afterQuery(newExecutionInfo(250), queryInfoList);
+
+        Assertions.assertThat(appender.list)
+                .singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .asString()
+                .contains("Time:250", "select * from reparacao where id = ?", "(42)");
+    }
+
+    @Test
+    @DisplayName("afterQuery does not log when the statement is faster than the threshold")
+    @Order(2)
+    void afterQuery_DoesNotLog_WhenTheStatementIsFasterThanTheThreshold() {
+        SlowQueryLogger slowQueryLogger = new SlowQueryLogger(Duration.ofMillis(200), 1);
+
+        slowQueryLogger.afterQuery(newExecutionInfo(199), queryInfoList);
+
+        Assertions.assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("afterQuery does not log slow statements when the sample rate is zero")
+    @Order(3)
+    void afterQuery_DoesNotLogSlowStatements_WhenTheSampleRateIsZero() {
+        SlowQueryLogger slowQueryLogger = new SlowQueryLogger(Duration.ofMillis(200), 0);
+
+        slowQueryLogger.afterQuery(newExecutionInfo(250), queryInfoList);
+
+        Assertions.assertThat(appender.list).isEmpty();
+    }
+}
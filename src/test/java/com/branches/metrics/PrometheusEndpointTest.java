@@ -0,0 +1,45 @@
+package com.branches.metrics;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PrometheusEndpointTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("GET /actuator/prometheus exposes endpoint, service, repository, sql, hibernate and hikari metrics")
+    @Order(1)
+    void prometheus_ExposesEndpointServiceRepositorySqlHibernateAndHikariMetrics() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/v1/repairs/{id}", 999999))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        String response = mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Assertions.assertThat(response)
+                .contains("http_server_requests_seconds_count{")
+                .contains("oficina_service_seconds_count{class=\"com.branches.service.RepairService\"")
+                .contains("spring_data_repository_invocations_seconds_count{")
+                .contains("oficina_http_sql_statements_count{method=\"GET\",status=\"404\",uri=\"/v1/repairs/{id}\"}")
+                .contains("hibernate_statements_total")
+                .contains("hibernate_second_level_cache_requests_total")
+                .contains("hikaricp_connections_active");
+    }
+}
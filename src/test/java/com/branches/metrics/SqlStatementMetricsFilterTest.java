@@ -0,0 +1,66 @@
+package com.branches.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SqlStatementMetricsFilterTest {
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementMetricsFilter filter;
+    private SqlStatementCounter counter;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SqlStatementMetricsFilter(meterRegistry);
+        counter = new SqlStatementCounter();
+    }
+
+    @Test
+    @DisplayName("doFilter records the statements executed during the request tagged by uri pattern")
+    @Order(1)
+    void doFilter_RecordsTheStatementsExecutedDuringTheRequest_TaggedByUriPattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/repairs/1/detail");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/repairs/{id}/detail");
+            counter.inspect("select 1");
+            counter.inspect("select 2");
+            counter.inspect("select 3");
+        });
+
+        DistributionSummary summary = meterRegistry.get(SqlStatementMetricsFilter.METRIC_NAME)
+                .tags("method", "GET", "uri", "/v1/repairs/{id}/detail", "status", "200")
+                .summary();
+
+        Assertions.assertThat(summary.count()).isEqualTo(1);
+        Assertions.assertThat(summary.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("doFilter records zero statements when the request does not touch the database")
+    @Order(2)
+    void doFilter_RecordsZeroStatements_WhenTheRequestDoesNotTouchTheDatabase() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/unknown"), new MockHttpServletResponse(), (req, res) -> {});
+
+        DistributionSummary summary = meterRegistry.get(SqlStatementMetricsFilter.METRIC_NAME).tag("uri", "UNKNOWN").summary();
+
+        Assertions.assertThat(summary.count()).isEqualTo(1);
+        Assertions.assertThat(summary.totalAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("inspect does not count statements executed outside a request")
+    @Order(3)
+    void inspect_DoesNotCountStatements_ExecutedOutsideARequest() {
+        counter.inspect("select 1");
+
+        Assertions.assertThat(SqlStatementCounter.stop()).isZero();
+    }
+}
@@ -0,0 +1,57 @@
+package com.branches.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MoneyTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("of converts the given amount to cents when successful")
+    @Order(1)
+    void of_ConvertsTheGivenAmountToCents_WhenSuccessful() {
+        Assertions.assertThat(Money.of(new BigDecimal("10.25")).cents()).isEqualTo(1025L);
+        Assertions.assertThat(Money.of(new BigDecimal("0.005")).cents()).isZero();
+        Assertions.assertThat(Money.of(50).cents()).isEqualTo(5000L);
+    }
+
+    @Test
+    @DisplayName("plus keeps exact cents when adding many deltas")
+    @Order(2)
+    void plus_KeepsExactCents_WhenAddingManyDeltas() {
+        Money total = Money.ZERO;
+        Money delta = Money.of(new BigDecimal("0.10"));
+
+        for (int i = 0; i < 1000; i++) total = total.plus(delta);
+
+        Assertions.assertThat(total).isEqualTo(Money.of(100));
+        Assertions.assertThat(total.minus(delta.times(1000))).isEqualTo(Money.ZERO);
+        Assertions.assertThat(delta.negate().plus(delta)).isEqualTo(Money.ZERO);
+    }
+
+    @Test
+    @DisplayName("times throws ArithmeticException when the result overflows")
+    @Order(3)
+    void times_ThrowsArithmeticException_WhenTheResultOverflows() {
+        Money money = Money.ofCents(Long.MAX_VALUE / 2 + 1);
+
+        Assertions.assertThatThrownBy(() -> money.times(2))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Money is serialized and deserialized as a decimal number")
+    @Order(4)
+    void money_IsSerializedAndDeserializedAsADecimalNumber() throws Exception {
+        Money money = Money.of(new BigDecimal("1234.5"));
+
+        String json = objectMapper.writeValueAsString(money);
+
+        Assertions.assertThat(json).isEqualTo("1234.50");
+        Assertions.assertThat(objectMapper.readValue(json, Money.class)).isEqualTo(money);
+    }
+}
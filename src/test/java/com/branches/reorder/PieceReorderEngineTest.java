@@ -0,0 +1,103 @@
+package com.branches.reorder;
+
+import com.branches.repository.PieceConsumptionRepository;
+import com.branches.repository.PieceRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PieceReorderEngineTest {
+    private static final double HORIZON_DAYS = 10_000;
+    private PieceReorderEngine engine;
+    @Mock
+    private PieceRepository pieceRepository;
+    @Mock
+    private PieceConsumptionRepository pieceConsumptionRepository;
+
+    @BeforeEach
+    void init() {
+        engine = new PieceReorderEngine(pieceRepository, pieceConsumptionRepository, Duration.ofDays(14));
+    }
+
+    @Test
+    @DisplayName("putAfterCommit ignores a stock snapshot older than the one already applied")
+    @Order(1)
+    void putAfterCommit_IgnoresAStockSnapshotOlderThanTheOneAlreadyApplied() {
+        engine.recordConsumptionAfterCommit(1L, 5, 40, 3);
+        engine.putAfterCommit(1L, 45, 2);
+
+        Assertions.assertThat(engine.soonest(10, HORIZON_DAYS))
+                .extracting(StockoutForecast::stock)
+                .containsExactly(40);
+    }
+
+    @Test
+    @DisplayName("recordConsumptionAfterCommit counts the consumption of an older snapshot without going back to its stock")
+    @Order(2)
+    void recordConsumptionAfterCommit_CountsTheConsumptionOfAnOlderSnapshot_WithoutGoingBackToItsStock() {
+        engine.recordConsumptionAfterCommit(1L, 5, 40, 3);
+        double dailyConsumption = engine.soonest(1, HORIZON_DAYS).getFirst().dailyConsumption();
+
+        engine.recordConsumptionAfterCommit(1L, 5, 45, 2);
+
+        StockoutForecast response = engine.soonest(1, HORIZON_DAYS).getFirst();
+        Assertions.assertThat(response.stock()).isEqualTo(40);
+        Assertions.assertThat(response.dailyConsumption()).isCloseTo(dailyConsumption * 2, Assertions.within(1e-6));
+    }
+
+    @Test
+    @DisplayName("load replaces every piece at once and keeps serving the previous pieces while loading")
+    @Order(3)
+    void load_ReplacesEveryPieceAtOnce_AndKeepsServingThePreviousPiecesWhileLoading() {
+        engine.recordConsumptionAfterCommit(1L, 5, 40, 1);
+
+        BDDMockito.when(pieceRepository.findAllStockEntries()).thenAnswer(invocation -> {
+            Assertions.assertThat(engine.soonest(10, HORIZON_DAYS))
+                    .extracting(StockoutForecast::pieceId)
+                    .containsExactly(1L);
+
+            return List.of(new StockEntry(2L, 30, 7));
+        });
+        BDDMockito.when(pieceConsumptionRepository.findAllConsumptionsBetween(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(List.of(new ConsumptionEntry(2L, LocalDate.now(), 3)));
+
+        engine.load();
+
+        Assertions.assertThat(engine.soonest(10, HORIZON_DAYS))
+                .extracting(StockoutForecast::pieceId, StockoutForecast::stock)
+                .containsExactly(Assertions.tuple(2L, 30));
+        Assertions.assertThat(engine.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("load keeps the writes made while loading unless the loaded stock is newer")
+    @Order(4)
+    void load_KeepsTheWritesMadeWhileLoading_UnlessTheLoadedStockIsNewer() {
+        BDDMockito.when(pieceRepository.findAllStockEntries()).thenAnswer(invocation -> {
+            engine.recordConsumptionAfterCommit(1L, 5, 95, 3);
+            engine.putAfterCommit(2L, 10, 1);
+            engine.removeAfterCommit(3L);
+
+            return List.of(new StockEntry(1L, 100, 2), new StockEntry(2L, 50, 4), new StockEntry(3L, 20, 1));
+        });
+        BDDMockito.when(pieceConsumptionRepository.findAllConsumptionsBetween(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(List.of(new ConsumptionEntry(2L, LocalDate.now(), 1)));
+
+        engine.load();
+
+        Assertions.assertThat(engine.soonest(10, HORIZON_DAYS))
+                .extracting(StockoutForecast::pieceId, StockoutForecast::stock)
+                .containsExactlyInAnyOrder(Assertions.tuple(1L, 95), Assertions.tuple(2L, 50));
+        Assertions.assertThat(engine.size()).isEqualTo(2);
+    }
+}
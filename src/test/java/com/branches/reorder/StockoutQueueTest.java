@@ -0,0 +1,219 @@
+package com.branches.reorder;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.LongStream;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class StockoutQueueTest {
+    private static final Duration HALF_LIFE = Duration.ofDays(14);
+    private static final double HORIZON_DAYS = 10_000;
+    private MutableClock clock;
+    private StockoutQueue queue;
+
+    @BeforeEach
+    void init() {
+        clock = new MutableClock(Instant.parse("2025-03-01T12:00:00Z"));
+        queue = new StockoutQueue(HALF_LIFE, clock);
+    }
+
+    @Test
+    @DisplayName("soonest returns the pieces ordered by the days until they run out of stock")
+    @Order(1)
+    void soonest_ReturnsPiecesOrderedByDaysUntilStockout() {
+        queue.put(1L, 100, 1);
+        queue.put(2L, 10, 1);
+        queue.put(3L, 40, 1);
+        queue.recordConsumption(1L, 10, 100, 1);
+        queue.recordConsumption(2L, 10, 10, 1);
+        queue.recordConsumption(3L, 10, 40, 1);
+
+        List<StockoutForecast> response = queue.soonest(10, HORIZON_DAYS);
+
+        Assertions.assertThat(response)
+                .extracting(StockoutForecast::pieceId)
+                .containsExactly(2L, 3L, 1L);
+        Assertions.assertThat(response)
+                .extracting(StockoutForecast::stock)
+                .containsExactly(10, 40, 100);
+    }
+
+    @Test
+    @DisplayName("soonest ignores pieces without consumption")
+    @Order(2)
+    void soonest_IgnoresPiecesWithoutConsumption() {
+        queue.put(1L, 0, 1);
+        queue.put(2L, 50, 1);
+        queue.recordConsumption(2L, 5, 50, 1);
+
+        Assertions.assertThat(queue.soonest(10, HORIZON_DAYS))
+                .extracting(StockoutForecast::pieceId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("soonest ignores pieces that run out of stock after the horizon")
+    @Order(3)
+    void soonest_IgnoresPiecesThatRunOutOfStockAfterTheHorizon() {
+        queue.put(1L, 1, 1);
+        queue.put(2L, 1_000_000, 1);
+        queue.recordConsumption(1L, 1, 1, 1);
+        queue.recordConsumption(2L, 1, 1_000_000, 1);
+
+        Assertions.assertThat(queue.soonest(10, 30))
+                .extracting(StockoutForecast::pieceId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("soonest returns at most the given limit")
+    @Order(4)
+    void soonest_ReturnsAtMostTheGivenLimit() {
+        LongStream.rangeClosed(1, 500).forEach(id -> {
+            queue.put(id, (int) id, 1);
+            queue.recordConsumption(id, 1, (int) id, 1);
+        });
+
+        Assertions.assertThat(queue.soonest(5, HORIZON_DAYS))
+                .extracting(StockoutForecast::pieceId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("soonest decays the daily consumption by half after each half-life")
+    @Order(5)
+    void soonest_DecaysTheDailyConsumptionByHalf_AfterEachHalfLife() {
+        queue.put(1L, 100, 1);
+        queue.recordConsumption(1L, 10, 100, 1);
+        double dailyConsumption = queue.soonest(1, HORIZON_DAYS).getFirst().dailyConsumption();
+
+        clock.advance(HALF_LIFE);
+
+        StockoutForecast response = queue.soonest(1, HORIZON_DAYS).getFirst();
+
+        Assertions.assertThat(response.dailyConsumption()).isCloseTo(dailyConsumption / 2, Assertions.within(1e-9));
+        Assertions.assertThat(response.daysUntilStockout()).isCloseTo(100 / response.dailyConsumption(), Assertions.within(1e-9));
+    }
+
+    @Test
+    @DisplayName("recordConsumption moves a piece ahead when its consumption grows")
+    @Order(6)
+    void recordConsumption_MovesAPieceAhead_WhenItsConsumptionGrows() {
+        queue.put(1L, 50, 1);
+        queue.put(2L, 50, 1);
+        queue.recordConsumption(1L, 5, 50, 1);
+        queue.recordConsumption(2L, 5, 50, 1);
+
+        clock.advance(Duration.ofDays(1));
+        queue.recordConsumption(2L, 20, 30, 2);
+
+        Assertions.assertThat(queue.soonest(10, HORIZON_DAYS))
+                .extracting(StockoutForecast::pieceId)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("recordConsumption with an instant ignores pieces that are not in the queue")
+    @Order(7)
+    void recordConsumption_WithAnInstant_IgnoresPiecesThatAreNotInTheQueue() {
+        queue.recordConsumption(1L, 10, clock.instant());
+
+        Assertions.assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("put moves a piece back when its stock is replenished")
+    @Order(8)
+    void put_MovesAPieceBack_WhenItsStockIsReplenished() {
+        queue.put(1L, 10, 1);
+        queue.put(2L, 20, 1);
+        queue.recordConsumption(1L, 5, 10, 1);
+        queue.recordConsumption(2L, 5, 20, 1);
+
+        queue.put(1L, 100, 2);
+
+        Assertions.assertThat(queue.soonest(10, HORIZON_DAYS))
+                .extracting(StockoutForecast::pieceId)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("remove keeps the remaining pieces ordered")
+    @Order(9)
+    void remove_KeepsTheRemainingPiecesOrdered() {
+        LongStream.rangeClosed(1, 200).forEach(id -> {
+            queue.put(id, (int) id, 1);
+            queue.recordConsumption(id, 1, (int) id, 1);
+        });
+
+        LongStream.rangeClosed(1, 200).filter(id -> id % 3 == 0).forEach(queue::remove);
+        queue.remove(999L);
+
+        Assertions.assertThat(queue.size()).isEqualTo(134);
+        Assertions.assertThat(queue.soonest(6, HORIZON_DAYS))
+                .extracting(StockoutForecast::pieceId)
+                .containsExactly(1L, 2L, 4L, 5L, 7L, 8L);
+    }
+
+    @Test
+    @DisplayName("clear removes every piece")
+    @Order(10)
+    void clear_RemovesEveryPiece() {
+        queue.put(1L, 10, 1);
+        queue.recordConsumption(1L, 5, 10, 1);
+
+        queue.clear();
+
+        Assertions.assertThat(queue.size()).isZero();
+        Assertions.assertThat(queue.soonest(10, HORIZON_DAYS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("put ignores a stock older than the one already in the queue")
+    @Order(11)
+    void put_IgnoresAStockOlderThanTheOneAlreadyInTheQueue() {
+        queue.put(1L, 10, 3);
+        queue.recordConsumption(1L, 5, 10, 3);
+
+        queue.put(1L, 100, 2);
+        queue.recordConsumption(1L, 5, 95, 1);
+
+        Assertions.assertThat(queue.soonest(10, HORIZON_DAYS))
+                .extracting(StockoutForecast::stock)
+                .containsExactly(10);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
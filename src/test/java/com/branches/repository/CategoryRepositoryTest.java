@@ -0,0 +1,106 @@
+package com.branches.repository;
+
+import com.branches.config.CacheConfig;
+import com.branches.model.Category;
+import com.branches.model.Money;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CategoryRepositoryTest {
+    @Autowired
+    private CategoryRepository repository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findById returns the category from the second-level cache without hitting the database")
+    @Order(1)
+    void findById_ReturnsCategoryFromSecondLevelCacheWithoutHittingTheDatabase() {
+        Category category = repository.save(Category.builder().name("Mecânico").hourlyPrice(Money.of(50)).build());
+        repository.findById(category.getId()).orElseThrow();
+        statistics.clear();
+
+        Category firstResponse = repository.findById(category.getId()).orElseThrow();
+        Category secondResponse = repository.findById(category.getId()).orElseThrow();
+
+        Assertions.assertThat(firstResponse.getName()).isEqualTo("Mecânico");
+        Assertions.assertThat(secondResponse.getHourlyPrice()).isEqualTo(Money.of(50));
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+        Assertions.assertThat(statistics.getDomainDataRegionStatistics(Category.class.getName()).getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("save refreshes the cached category when the category is updated")
+    @Order(2)
+    void save_RefreshesTheCachedCategory_WhenTheCategoryIsUpdated() {
+        Category category = repository.save(Category.builder().name("Mecânico").hourlyPrice(Money.of(50)).build());
+        repository.findById(category.getId()).orElseThrow();
+
+        category.setHourlyPrice(Money.of(65));
+        repository.save(category);
+
+        Assertions.assertThat(repository.findById(category.getId()))
+                .get()
+                .extracting(Category::getHourlyPrice)
+                .isEqualTo(Money.of(65));
+    }
+
+    @Test
+    @DisplayName("delete evicts the cached category")
+    @Order(3)
+    void delete_EvictsTheCachedCategory() {
+        Category category = repository.save(Category.builder().name("Pintor").hourlyPrice(Money.of(30)).build());
+        repository.findById(category.getId()).orElseThrow();
+
+        repository.delete(category);
+
+        Assertions.assertThat(repository.findById(category.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAllByNameContaining returns cached results until a category is saved")
+    @Order(4)
+    void findAllByNameContaining_ReturnsCachedResultsUntilACategoryIsSaved() {
+        repository.save(Category.builder().name("Mecânico").hourlyPrice(Money.of(50)).build());
+        statistics.clear();
+
+        repository.findAllByNameContaining("Mec");
+        List<Category> cachedResponse = repository.findAllByNameContaining("Mec");
+
+        Assertions.assertThat(cachedResponse).hasSize(1);
+        Assertions.assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        repository.save(Category.builder().name("Mecânico de motos").hourlyPrice(Money.of(55)).build());
+
+        Assertions.assertThat(repository.findAllByNameContaining("Mec")).hasSize(2);
+    }
+}
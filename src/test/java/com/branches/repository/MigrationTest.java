@@ -0,0 +1,180 @@
+package com.branches.repository;
+
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MigrationTest {
+    private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+    private String url;
+
+    @BeforeEach
+    void init() {
+        url = "jdbc:h2:mem:migration_%s;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1".formatted(DATABASE_COUNTER.incrementAndGet());
+    }
+
+    private Flyway flyway() {
+        return Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration")
+                .placeholders(Map.of("online_ddl", ""))
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .validateMigrationNaming(true)
+                .load();
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+
+            return resultSet.getLong(1);
+        }
+    }
+
+    private String readResource(String path) throws IOException {
+        try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("migrate applies every migration when the database is empty")
+    @Order(1)
+    void migrate_AppliesEveryMigration_WhenTheDatabaseIsEmpty() {
+        Flyway flyway = flyway();
+
+        MigrateResult result = flyway.migrate();
+
+        Assertions.assertThat(result.success).isTrue();
+        Assertions.assertThat(result.migrationsExecuted).isEqualTo(flyway.info().all().length);
+        Assertions.assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("migrate does nothing when the schema is already current")
+    @Order(2)
+    void migrate_DoesNothing_WhenTheSchemaIsAlreadyCurrent() {
+        flyway().migrate();
+
+        MigrateResult result = flyway().migrate();
+
+        Assertions.assertThat(result.success).isTrue();
+        Assertions.assertThat(result.migrationsExecuted).isZero();
+    }
+
+    @Test
+    @DisplayName("migrate baselines a schema created by the pre-Flyway schema.sql and applies every later version")
+    @Order(3)
+    void migrate_BaselinesASchemaCreatedByThePreFlywaySchemaSql_AndAppliesEveryLaterVersion() throws Exception {
+        for (String statement : readResource("db/baseline-schema.sql").split(";")) {
+            if (!statement.isBlank()) execute(statement);
+        }
+        execute("INSERT INTO pessoa (idpessoa, nome, sobrenome) VALUES (7, 'Ana', 'Souza')");
+
+        Flyway flyway = flyway();
+        MigrateResult result = flyway.migrate();
+
+        Assertions.assertThat(result.success).isTrue();
+        Assertions.assertThat(result.migrations)
+                .extracting(migration -> migration.version)
+                .doesNotContain("1")
+                .contains("1.1");
+        Assertions.assertThat(flyway.info().applied())
+                .anyMatch(migration -> migration.getType().isBaseline());
+        Assertions.assertThat(queryLong("SELECT proximo_valor FROM gerador_id WHERE nome_sequencia = 'pessoa'")).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("validate fails when an applied migration has been changed")
+    @Order(4)
+    void validate_Fails_WhenAnAppliedMigrationHasBeenChanged() throws SQLException {
+        flyway().migrate();
+        execute("UPDATE \"flyway_schema_history\" SET \"checksum\" = \"checksum\" + 1 WHERE \"version\" = '1'");
+
+        Assertions.assertThat(flyway().validateWithResult().validationSuccessful).isFalse();
+    }
+
+    @Test
+    @DisplayName("migrate removes AUTO_INCREMENT from the tables whose ids come from gerador_id")
+    @Order(5)
+    void migrate_RemovesAutoIncrementFromTheTablesWhoseIdsComeFromGeradorId() throws SQLException {
+        flyway().migrate();
+
+        for (String insert : List.of(
+                "INSERT INTO pessoa (nome, sobrenome) VALUES ('Ana', 'Souza')",
+                "INSERT INTO telefone (numero, tipo_telefone) VALUES ('11999999999', 'celular')",
+                "INSERT INTO reparacao (valor_total) VALUES (0)",
+                "INSERT INTO reparacao_funcionario (horas_trabalhadas) VALUES (1)",
+                "INSERT INTO reparacao_peca (quantidade) VALUES (1)")) {
+            Assertions.assertThatThrownBy(() -> execute(insert))
+                    .as(insert)
+                    .isInstanceOf(SQLException.class);
+        }
+
+        execute("INSERT INTO pessoa (idpessoa, nome, sobrenome) VALUES (1, 'Ana', 'Souza')");
+    }
+
+    @Test
+    @DisplayName("migrate records on each existing repair employee line the category its employee had")
+    @Order(6)
+    void migrate_RecordsOnEachExistingRepairEmployeeLineTheCategoryItsEmployeeHad() throws SQLException {
+        Flyway.configure().configuration(flyway().getConfiguration()).target("6").load().migrate();
+        execute("INSERT INTO categoria (idcategoria, nome, preco_hora) VALUES (3, 'Mecânico', 40)");
+        execute("INSERT INTO pessoa (idpessoa, nome, sobrenome) VALUES (1, 'Ana', 'Souza')");
+        execute("INSERT INTO funcionario (idfuncionario, fk_pessoa_funcionario, fk_categoria_funcionario) VALUES (2, 1, 3)");
+        execute("INSERT INTO reparacao (idreparacao, valor_total) VALUES (4, 80)");
+        execute("INSERT INTO reparacao_funcionario (idreparacao_funcionario, reparacaoid, funcionarioid, horas_trabalhadas, valor_total) VALUES (5, 4, 2, 2, 80)");
+
+        flyway().migrate();
+
+        Assertions.assertThat(queryLong("SELECT categoriaid FROM reparacao_funcionario WHERE idreparacao_funcionario = 5")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("migrate merges the repeated repair lines and addresses of a baselined schema before building the unique keys")
+    @Order(7)
+    void migrate_MergesTheRepeatedRepairLinesAndAddressesOfABaselinedSchema_BeforeBuildingTheUniqueKeys() throws Exception {
+        for (String statement : readResource("db/baseline-schema.sql").split(";")) {
+            if (!statement.isBlank()) execute(statement);
+        }
+        execute("INSERT INTO endereco (idendereco, rua, bairro, cidade, uf) VALUES (1, 'Rua A', 'Centro', 'Recife', 'PE'), (2, 'Rua A', 'Centro', 'Recife', 'PE')");
+        execute("INSERT INTO pessoa (idpessoa, nome, sobrenome, fk_endereco_pessoa) VALUES (1, 'Ana', 'Souza', 2)");
+        execute("INSERT INTO peca (idpeca, nome, preco_unitario, estoque) VALUES (1, 'Filtro', 10, 5)");
+        execute("INSERT INTO reparacao (idreparacao, valor_total) VALUES (1, 50)");
+        execute("INSERT INTO reparacao_peca (idreparacao_peca, reparacaoid, pecaid, quantidade, valor_total) VALUES (1, 1, 1, 2, 20), (2, 1, 1, 3, 30)");
+
+        MigrateResult result = flyway().migrate();
+
+        Assertions.assertThat(result.success).isTrue();
+        Assertions.assertThat(queryLong("SELECT COUNT(*) FROM reparacao_peca")).isEqualTo(1L);
+        Assertions.assertThat(queryLong("SELECT quantidade FROM reparacao_peca WHERE idreparacao_peca = 1")).isEqualTo(5L);
+        Assertions.assertThat(queryLong("SELECT valor_total FROM reparacao_peca WHERE idreparacao_peca = 1")).isEqualTo(50L);
+        Assertions.assertThat(queryLong("SELECT COUNT(*) FROM endereco")).isEqualTo(1L);
+        Assertions.assertThat(queryLong("SELECT fk_endereco_pessoa FROM pessoa WHERE idpessoa = 1")).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,55 @@
+package com.branches.repository;
+
+import com.branches.config.CacheConfig;
+import com.branches.reorder.ConsumptionEntry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CacheConfig.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PieceConsumptionRepositoryTest {
+    private static final LocalDate FEBRUARY_10 = LocalDate.of(2025, 2, 10);
+    @Autowired
+    private PieceConsumptionRepository repository;
+
+    @Test
+    @DisplayName("upsert adds the quantity to the consumption already recorded for the piece on the same day")
+    @Order(1)
+    void upsert_AddsTheQuantityToTheConsumptionAlreadyRecordedForThePiece_OnTheSameDay() {
+        repository.upsert(FEBRUARY_10, 1L, 2);
+        repository.upsert(FEBRUARY_10, 1L, 3);
+        repository.upsert(FEBRUARY_10.plusDays(1), 1L, 4);
+        repository.upsert(FEBRUARY_10, 2L, 1);
+
+        List<ConsumptionEntry> response = repository.findAllConsumptionsBetween(FEBRUARY_10, FEBRUARY_10.plusDays(1));
+
+        Assertions.assertThat(response).containsExactlyInAnyOrder(
+                new ConsumptionEntry(1L, FEBRUARY_10, 5),
+                new ConsumptionEntry(1L, FEBRUARY_10.plusDays(1), 4),
+                new ConsumptionEntry(2L, FEBRUARY_10, 1)
+        );
+    }
+
+    @Test
+    @DisplayName("findAllConsumptionsBetween leaves out the days outside the range")
+    @Order(2)
+    void findAllConsumptionsBetween_LeavesOutTheDaysOutsideTheRange() {
+        repository.upsert(FEBRUARY_10.minusDays(1), 1L, 2);
+        repository.upsert(FEBRUARY_10, 1L, 3);
+
+        List<ConsumptionEntry> response = repository.findAllConsumptionsBetween(FEBRUARY_10, FEBRUARY_10.plusDays(1));
+
+        Assertions.assertThat(response).containsExactly(new ConsumptionEntry(1L, FEBRUARY_10, 3));
+    }
+}
@@ -0,0 +1,227 @@
+package com.branches.repository;
+
+import com.branches.config.CacheConfig;
+import com.branches.model.Category;
+import com.branches.model.Money;
+import com.branches.model.Piece;
+import com.branches.model.PieceReservation;
+import com.branches.model.Repair;
+import com.branches.reorder.StockEntry;
+import com.branches.search.SearchEntry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CacheConfig.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PieceRepositoryTest {
+    @Autowired
+    private PieceRepository repository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("removesStock decrements the stock and returns one affected row when there is enough stock")
+    @Order(1)
+    void removesStock_DecrementsStockAndReturnsOne_WhenThereIsEnoughStock() {
+        Piece piece = repository.save(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+
+        int updatedRows = repository.removesStock(piece.getId(), 4, null, LocalDateTime.now());
+        entityManager.refresh(piece);
+
+        Assertions.assertThat(updatedRows).isEqualTo(1);
+        Assertions.assertThat(repository.findById(piece.getId()))
+                .get()
+                .extracting(Piece::getStock)
+                .isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("removesStock keeps the stock and returns zero affected rows when there is insufficient stock")
+    @Order(2)
+    void removesStock_KeepsStockAndReturnsZero_WhenThereIsInsufficientStock() {
+        Piece piece = repository.save(Piece.builder().name("Filtro de ar").unitValue(Money.of(80)).stock(3).build());
+
+        int updatedRows = repository.removesStock(piece.getId(), 4, null, LocalDateTime.now());
+
+        Assertions.assertThat(updatedRows).isZero();
+        Assertions.assertThat(repository.findById(piece.getId()))
+                .get()
+                .extracting(Piece::getStock)
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("removesStock never oversells when many virtual threads remove stock from the same piece")
+    @Order(3)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void removesStock_NeverOversells_WhenManyVirtualThreadsRemoveStockFromTheSamePiece() throws Exception {
+        int stock = 50;
+        int requests = 500;
+        int quantityPerRequest = 1;
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Piece piece = repository.save(Piece.builder().name("Pneu Aro 15").unitValue(Money.of(407)).stock(stock).build());
+        Long pieceId = piece.getId();
+
+        int successfulRemovals = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> transactionTemplate.execute(status -> repository.removesStock(pieceId, quantityPerRequest, null, LocalDateTime.now()))));
+            }
+
+            for (Future<Integer> result : results) successfulRemovals += result.get();
+        }
+
+        int remainingStock = repository.findById(pieceId).orElseThrow().getStock();
+        repository.deleteById(pieceId);
+
+        Assertions.assertThat(successfulRemovals).isEqualTo(stock / quantityPerRequest);
+        Assertions.assertThat(remainingStock).isZero();
+    }
+
+    @Test
+    @DisplayName("removesStock keeps pieces out of the second-level cache and leaves the cached categories alone")
+    @Order(4)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void removesStock_KeepsPiecesOutOfTheSecondLevelCache_AndLeavesTheCachedCategoriesAlone() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Cache cache = entityManagerFactory.getCache();
+        Long pieceId = repository.save(Piece.builder().name("Vela de ignição").unitValue(Money.of(35)).stock(10).build()).getId();
+        Long categoryId = categoryRepository.save(Category.builder().name("Eletricista").hourlyPrice(Money.of(40)).build()).getId();
+        repository.findById(pieceId).orElseThrow();
+        categoryRepository.findById(categoryId).orElseThrow();
+
+        transactionTemplate.executeWithoutResult(status -> repository.removesStock(pieceId, 4, null, LocalDateTime.now()));
+
+        boolean pieceCached = cache.contains(Piece.class, pieceId);
+        boolean categoryCached = cache.contains(Category.class, categoryId);
+        int stock = repository.findById(pieceId).orElseThrow().getStock();
+        repository.deleteById(pieceId);
+        categoryRepository.deleteById(categoryId);
+
+        Assertions.assertThat(pieceCached).isFalse();
+        Assertions.assertThat(categoryCached).isTrue();
+        Assertions.assertThat(stock).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("findAllSearchEntries returns the id and name of every piece")
+    @Order(5)
+    void findAllSearchEntries_ReturnsTheIdAndNameOfEveryPiece() {
+        Piece piece = repository.save(Piece.builder().name("Correia dentada").unitValue(Money.of(120)).stock(5).build());
+
+        List<SearchEntry> response = repository.findAllSearchEntries();
+
+        Assertions.assertThat(response).containsExactly(new SearchEntry(piece.getId(), "Correia dentada", ""));
+    }
+
+    @Test
+    @DisplayName("findAllStockEntries returns the id, stock and stock version of every piece")
+    @Order(6)
+    void findAllStockEntries_ReturnsTheIdStockAndStockVersionOfEveryPiece() {
+        Piece piece = repository.save(Piece.builder().name("Amortecedor").unitValue(Money.of(300)).stock(8).build());
+        repository.addsStock(piece.getId(), 4);
+        repository.removesStock(piece.getId(), 2, null, LocalDateTime.now());
+
+        List<StockEntry> response = repository.findAllStockEntries();
+
+        Assertions.assertThat(response).containsExactly(new StockEntry(piece.getId(), 10, 2));
+    }
+
+    @Test
+    @DisplayName("removesStock leaves out only the active reservations of other repairs when checking the stock left")
+    @Order(7)
+    void removesStock_LeavesOutOnlyTheActiveReservationsOfOtherRepairs_WhenCheckingTheStockLeft() {
+        Piece piece = repository.save(Piece.builder().name("Bateria 60Ah").unitValue(Money.of(450)).stock(10).build());
+        Repair repair = newRepair();
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(PieceReservation.builder().repair(repair).piece(piece).quantity(5).expiresAt(now.plusHours(1)).build());
+        entityManager.persist(PieceReservation.builder().repair(newRepair()).piece(piece).quantity(3).expiresAt(now.plusHours(1)).build());
+        entityManager.persist(PieceReservation.builder().repair(newRepair()).piece(piece).quantity(4).expiresAt(now.minusMinutes(1)).build());
+
+        int rejectedRows = repository.removesStock(piece.getId(), 8, repair.getId(), now);
+        int reservedByOthers = repository.findReservedByOthers(piece.getId(), repair.getId(), now);
+        int reservedByAll = repository.findReservedByOthers(piece.getId(), null, now);
+        int updatedRows = repository.removesStock(piece.getId(), 7, repair.getId(), now);
+        entityManager.refresh(piece);
+
+        Assertions.assertThat(rejectedRows).isZero();
+        Assertions.assertThat(reservedByOthers).isEqualTo(3);
+        Assertions.assertThat(reservedByAll).isEqualTo(8);
+        Assertions.assertThat(updatedRows).isEqualTo(1);
+        Assertions.assertThat(piece.getStock()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("addsStock and removesStock never lose an update when many virtual threads mix increments and decrements on the same piece")
+    @Order(8)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void addsStockAndRemovesStock_NeverLoseAnUpdate_WhenManyVirtualThreadsMixIncrementsAndDecrementsOnTheSamePiece() throws Exception {
+        int stock = 1;
+        int requests = 500;
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Piece piece = repository.save(Piece.builder().name("Pastilha de freio").unitValue(Money.of(90)).stock(stock).build());
+        Long pieceId = piece.getId();
+
+        int additions = 0;
+        int successfulRemovals = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> addResults = new ArrayList<>();
+            List<Future<Integer>> removeResults = new ArrayList<>();
+
+            for (int i = 0; i < requests; i++) {
+                if (i % 2 == 0) addResults.add(executor.submit(() -> transactionTemplate.execute(status -> repository.addsStock(pieceId, 1))));
+                else removeResults.add(executor.submit(() -> transactionTemplate.execute(status -> repository.removesStock(pieceId, 1, null, LocalDateTime.now()))));
+            }
+
+            for (Future<Integer> result : addResults) additions += result.get();
+            for (Future<Integer> result : removeResults) successfulRemovals += result.get();
+        }
+
+        int remainingStock = repository.findById(pieceId).orElseThrow().getStock();
+        repository.deleteById(pieceId);
+
+        Assertions.assertThat(additions).isEqualTo(requests / 2);
+        Assertions.assertThat(remainingStock)
+                .isEqualTo(stock + additions - successfulRemovals)
+                .isNotNegative();
+    }
+
+    private Repair newRepair() {
+        Repair repair = Repair.builder().totalValue(Money.ZERO).build();
+        entityManager.persist(repair);
+
+        return repair;
+    }
+}
@@ -0,0 +1,277 @@
+package com.branches.repository;
+
+import com.branches.config.CacheConfig;
+import com.branches.model.Client;
+import com.branches.model.Repair;
+import org.assertj.core.api.Assertions;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CacheConfig.class, QueryPlanTest.StatementRecorder.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class QueryPlanTest {
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "CategoryRepository.findAllByNameContaining",
+            "ClientRepository.findAll",
+            "ClientRepository.findAllSearchEntries",
+            "EmployeeRepository.findAll",
+            "EmployeeRepository.findAllSearchEntries",
+            "PieceRepository.findAllSearchEntries",
+            "PieceRepository.findAllStockEntries",
+            "PieceReservationRepository.findAllReservedQuantities",
+            "RepairRepository.findAll"
+    );
+    private static final Set<String> INDEXED = new HashSet<>();
+    private final Client client = Client.builder().id(1L).build();
+    private final Repair repair = Repair.builder().id(1L).build();
+    @Autowired
+    private StatementRecorder recorder;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private AddressRepository addressRepository;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private PhoneRepository phoneRepository;
+    @Autowired
+    private PieceRepository pieceRepository;
+    @Autowired
+    private RepairRepository repairRepository;
+    @Autowired
+    private RepairPieceRepository repairPieceRepository;
+    @Autowired
+    private RepairEmployeeRepository repairEmployeeRepository;
+    @Autowired
+    private VehicleRepository vehicleRepository;
+    @Autowired
+    private RevenueRollupRepository revenueRollupRepository;
+    @Autowired
+    private PieceReservationRepository pieceReservationRepository;
+    @Autowired
+    private PieceConsumptionRepository pieceConsumptionRepository;
+
+    @TestConfiguration
+    @EntityScan(basePackageClasses = Repair.class)
+    static class StatementRecorder implements StatementInspector {
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementRecorderCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+        }
+    }
+
+    @Test
+    @DisplayName("AddressRepository query methods use an index")
+    @Order(1)
+    void addressRepository_QueryMethodsUseAnIndex() {
+        assertUsesAnIndex("AddressRepository.findByStreetAndDistrictAndCityAndState", () -> addressRepository.findByStreetAndDistrictAndCityAndState("Rua 1", "Nazaré", "Belém", "PA"));
+    }
+
+    @Test
+    @DisplayName("ClientRepository query methods use an index")
+    @Order(2)
+    void clientRepository_QueryMethodsUseAnIndex() {
+        assertUsesAnIndex("ClientRepository.findAllByIdIn", () -> clientRepository.findAllByIdIn(List.of(1L, 2L)));
+        assertUsesAnIndex("ClientRepository.findWithPhonesById", () -> clientRepository.findWithPhonesById(1L));
+        assertUsesAnIndex("ClientRepository.findByEmail", () -> clientRepository.findByEmail("marcus@gmail.com"));
+        assertUsesAnIndex("ClientRepository.findByEmailAndIdNot", () -> clientRepository.findByEmailAndIdNot("marcus@gmail.com", 1L));
+    }
+
+    @Test
+    @DisplayName("EmployeeRepository query methods use an index")
+    @Order(3)
+    void employeeRepository_QueryMethodsUseAnIndex() {
+        assertUsesAnIndex("EmployeeRepository.findAllByIdIn", () -> employeeRepository.findAllByIdIn(List.of(1L, 2L)));
+        assertUsesAnIndex("EmployeeRepository.findWithPhonesById", () -> employeeRepository.findWithPhonesById(1L));
+    }
+
+    @Test
+    @DisplayName("PhoneRepository query methods use an index")
+    @Order(4)
+    void phoneRepository_QueryMethodsUseAnIndex() {
+        assertUsesAnIndex("PhoneRepository.findByNumber", () -> phoneRepository.findByNumber("91999990000"));
+        assertUsesAnIndex("PhoneRepository.findByNumberAndPerson_IdNot", () -> phoneRepository.findByNumberAndPerson_IdNot("91999990000", 1L));
+        assertUsesAnIndex("PhoneRepository.findByNumberAndPerson_Id", () -> phoneRepository.findByNumberAndPerson_Id("91999990000", 1L));
+    }
+
+    @Test
+    @DisplayName("PieceRepository query methods use an index")
+    @Order(5)
+    void pieceRepository_QueryMethodsUseAnIndex() {
+        assertUsesAnIndex("PieceRepository.removesStock", () -> pieceRepository.removesStock(1L, 1, 2L, LocalDateTime.now()));
+        assertUsesAnIndex("PieceRepository.findReservedByOthers", () -> pieceRepository.findReservedByOthers(1L, 2L, LocalDateTime.now()));
+        assertUsesAnIndex("PieceRepository.addsStock", () -> pieceRepository.addsStock(1L, 1));
+    }
+
+    @Test
+    @DisplayName("RepairRepository query methods use an index")
+    @Order(6)
+    void repairRepository_QueryMethodsUseAnIndex() {
+        assertUsesAnIndex("RepairRepository.findByEndDateGreaterThanEqual", () -> repairRepository.findByEndDateGreaterThanEqual(LocalDate.now()));
+        assertUsesAnIndex("RepairRepository.findAllByClient", () -> repairRepository.findAllByClient(client));
+        assertUsesAnIndex("RepairRepository.findAllByIdGreaterThanOrderByIdAsc", () -> repairRepository.findAllByIdGreaterThanOrderByIdAsc(0L, Limit.of(20)));
+        assertUsesAnIndex("RepairRepository.findAllByIdGreaterThanAndEndDateGreaterThanEqualOrderByIdAsc", () -> repairRepository.findAllByIdGreaterThanAndEndDateGreaterThanEqualOrderByIdAsc(0L, LocalDate.now(), Limit.of(20)));
+        assertUsesAnIndex("RepairRepository.findAllOverviewsByClientIdAndIdGreaterThan", () -> repairRepository.findAllOverviewsByClientIdAndIdGreaterThan(1L, 0L, Limit.of(20)));
+        assertUsesAnIndex("RepairRepository.sumTotalValueByClientId", () -> repairRepository.sumTotalValueByClientId(1L));
+        assertUsesAnIndex("RepairRepository.updateTotalValue", () -> repairRepository.updateTotalValue(1L, BigDecimal.TEN));
+    }
+
+    @Test
+    @DisplayName("RepairPieceRepository query methods use an index")
+    @Order(7)
+    void repairPieceRepository_QueryMethodsUseAnIndex() {
+        assertUsesAnIndex("RepairPieceRepository.findAllByRepair", () -> repairPieceRepository.findAllByRepair(repair));
+        assertUsesAnIndex("RepairPieceRepository.findByRepair_IdAndPiece_Id", () -> repairPieceRepository.findByRepair_IdAndPiece_Id(1L, 1L));
+        assertUsesAnIndex("RepairPieceRepository.findAllByRepair_IdAndPiece_IdIn", () -> repairPieceRepository.findAllByRepair_IdAndPiece_IdIn(1L, List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("RepairEmployeeRepository query methods use an index")
+    @Order(8)
+    void repairEmployeeRepository_QueryMethodsUseAnIndex() {
+        assertUsesAnIndex("RepairEmployeeRepository.findAllByRepair", () -> repairEmployeeRepository.findAllByRepair(repair));
+        assertUsesAnIndex("RepairEmployeeRepository.findByRepair_IdAndEmployee_Id", () -> repairEmployeeRepository.findByRepair_IdAndEmployee_Id(1L, 1L));
+        assertUsesAnIndex("RepairEmployeeRepository.findAllByRepair_IdAndEmployee_IdIn", () -> repairEmployeeRepository.findAllByRepair_IdAndEmployee_IdIn(1L, List.of(1L, 2L)));
+        assertUsesAnIndex("RepairEmployeeRepository.findAllDayUtilizationsByEmployeeIdAndEndDateBetween", () -> repairEmployeeRepository.findAllDayUtilizationsByEmployeeIdAndEndDateBetween(1L, LocalDate.now().minusDays(7), LocalDate.now()));
+        assertUsesAnIndex("RepairEmployeeRepository.findAllUtilizationsByEndDateBetween", () -> repairEmployeeRepository.findAllUtilizationsByEndDateBetween(LocalDate.now().minusDays(7), LocalDate.now()));
+    }
+
+    @Test
+    @DisplayName("VehicleRepository query methods use an index")
+    @Order(9)
+    void vehicleRepository_QueryMethodsUseAnIndex() {
+        assertUsesAnIndex("VehicleRepository.findAllByClient", () -> vehicleRepository.findAllByClient(client));
+        assertUsesAnIndex("VehicleRepository.findAllOverviewsByClientId", () -> vehicleRepository.findAllOverviewsByClientId(1L));
+    }
+
+    @Test
+    @DisplayName("RevenueRollupRepository query methods use an index")
+    @Order(10)
+    void revenueRollupRepository_QueryMethodsUseAnIndex() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+
+        assertUsesAnIndex("RevenueRollupRepository.findAllDayTotalsBetween", () -> revenueRollupRepository.findAllDayTotalsBetween(from, to));
+        assertUsesAnIndex("RevenueRollupRepository.findAllPieceTotalsBetween", () -> revenueRollupRepository.findAllPieceTotalsBetween(from, to));
+        assertUsesAnIndex("RevenueRollupRepository.findAllCategoryTotalsBetween", () -> revenueRollupRepository.findAllCategoryTotalsBetween(from, to));
+        assertUsesAnIndex("RevenueRollupRepository.upsert", () -> revenueRollupRepository.upsert(from, "peca", 1L, 1, BigDecimal.TEN));
+    }
+
+    @Test
+    @DisplayName("PieceReservationRepository query methods use an index")
+    @Order(11)
+    void pieceReservationRepository_QueryMethodsUseAnIndex() {
+        entityManager.createNativeQuery("INSERT INTO peca (idpeca, nome, preco_unitario, estoque) VALUES (1, 'Óleo de motor', 50, 10)").executeUpdate();
+        entityManager.createNativeQuery("INSERT INTO reparacao (idreparacao, valor_total) VALUES (1, 0)").executeUpdate();
+        LocalDateTime now = LocalDateTime.now();
+
+        assertUsesAnIndex("PieceReservationRepository.upsertIfAvailable", () -> pieceReservationRepository.upsertIfAvailable(1L, 1L, 1L, 1, now, now));
+        assertUsesAnIndex("PieceReservationRepository.findAvailable", () -> pieceReservationRepository.findAvailable(1L, now));
+        assertUsesAnIndex("PieceReservationRepository.findByRepair_IdAndPiece_Id", () -> pieceReservationRepository.findByRepair_IdAndPiece_Id(2L, 1L));
+        assertUsesAnIndex("PieceReservationRepository.findAllByRepair_Id", () -> pieceReservationRepository.findAllByRepair_Id(2L));
+        assertUsesAnIndex("PieceReservationRepository.findAllActiveByRepair_Id", () -> pieceReservationRepository.findAllActiveByRepair_Id(2L, now));
+        assertUsesAnIndex("PieceReservationRepository.removesQuantity", () -> pieceReservationRepository.removesQuantity(1L, 1, 1));
+        assertUsesAnIndex("PieceReservationRepository.deleteByIdAndQuantity", () -> pieceReservationRepository.deleteByIdAndQuantity(1L, 1));
+        assertUsesAnIndex("PieceReservationRepository.deleteAllExpired", () -> pieceReservationRepository.deleteAllExpired(now.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("PieceConsumptionRepository query methods use an index")
+    @Order(12)
+    void pieceConsumptionRepository_QueryMethodsUseAnIndex() {
+        entityManager.createNativeQuery("INSERT INTO peca (idpeca, nome, preco_unitario, estoque) VALUES (1, 'Óleo de motor', 50, 10)").executeUpdate();
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+
+        assertUsesAnIndex("PieceConsumptionRepository.findAllConsumptionsBetween", () -> pieceConsumptionRepository.findAllConsumptionsBetween(from, to));
+        assertUsesAnIndex("PieceConsumptionRepository.upsert", () -> pieceConsumptionRepository.upsert(from, 1L, 1));
+    }
+
+    @Test
+    @DisplayName("every repository query method is checked for an index or explicitly allowed to scan")
+    @Order(13)
+    void everyRepositoryQueryMethod_IsCheckedForAnIndexOrExplicitlyAllowedToScan() {
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> queryMethods = new ArrayList<>();
+
+        for (Class<?> domainType : repositories) {
+            Class<?> repositoryInterface = repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface();
+
+            for (Method method : repositoryInterface.getDeclaredMethods()) queryMethods.add(repositoryInterface.getSimpleName() + "." + method.getName());
+        }
+
+        Assertions.assertThat(queryMethods)
+                .isNotEmpty()
+                .allMatch(method -> INDEXED.contains(method) || FULL_SCAN_ALLOWED.contains(method), "checked for an index or allowed to scan");
+    }
+
+    private void assertUsesAnIndex(String repositoryMethod, Runnable repositoryCall) {
+        recorder.statements.clear();
+
+        repositoryCall.run();
+
+        Assertions.assertThat(recorder.statements).as(repositoryMethod).isNotEmpty();
+
+        for (String sql : recorder.statements) {
+            Assertions.assertThat(explain(sql))
+                    .as("%s: %s", repositoryMethod, sql)
+                    .doesNotContain("tableScan");
+        }
+
+        INDEXED.add(repositoryMethod);
+    }
+
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+
+                return resultSet.getString(1);
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package com.branches.repository;
+
+import com.branches.config.CacheConfig;
+import com.branches.model.*;
+import com.branches.response.EmployeeUtilizationResponse;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CacheConfig.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RepairEmployeeRepositoryTest {
+    private static final LocalDate FROM = LocalDate.of(2025, 2, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 2, 28);
+    @Autowired
+    private RepairEmployeeRepository repository;
+    @Autowired
+    private TestEntityManager entityManager;
+    private Employee mechanic;
+    private Employee electrician;
+
+    @BeforeEach
+    void init() {
+        Category mechanicCategory = entityManager.persist(Category.builder().name("Mecânico").hourlyPrice(Money.of(40)).build());
+        mechanic = entityManager.persist(Employee.builder().person(entityManager.persist(Person.builder().name("Marcus").lastName("Branches").build())).category(mechanicCategory).build());
+        electrician = entityManager.persist(Employee.builder().person(entityManager.persist(Person.builder().name("Ana").lastName("Souza").build())).build());
+
+        Repair february10 = persistRepair(LocalDate.of(2025, 2, 10));
+        Repair otherFebruary10 = persistRepair(LocalDate.of(2025, 2, 10));
+        Repair february12 = persistRepair(LocalDate.of(2025, 2, 12));
+        Repair march3 = persistRepair(LocalDate.of(2025, 3, 3));
+        Repair withoutEndDate = persistRepair(null);
+
+        persistRepairEmployee(february10, mechanic, 2);
+        persistRepairEmployee(otherFebruary10, mechanic, 3);
+        persistRepairEmployee(february12, mechanic, 1);
+        persistRepairEmployee(march3, mechanic, 8);
+        persistRepairEmployee(withoutEndDate, mechanic, 5);
+        persistRepairEmployee(february12, electrician, 4);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Repair persistRepair(LocalDate endDate) {
+        return entityManager.persist(Repair.builder().totalValue(Money.ZERO).endDate(endDate).build());
+    }
+
+    private void persistRepairEmployee(Repair repair, Employee employee, int hoursWorked) {
+        entityManager.persist(RepairEmployee.builder().repair(repair).employee(employee).category(employee.getCategory()).hoursWorked(hoursWorked).totalValue(Money.of(40).times(hoursWorked)).build());
+    }
+
+    @Test
+    @DisplayName("findAllDayUtilizationsByEmployeeIdAndEndDateBetween returns the hours, value and repairs of each day in the range")
+    @Order(1)
+    void findAllDayUtilizationsByEmployeeIdAndEndDateBetween_ReturnsTheHoursValueAndRepairsOfEachDayInTheRange() {
+        List<EmployeeDayUtilization> response = repository.findAllDayUtilizationsByEmployeeIdAndEndDateBetween(mechanic.getId(), FROM, TO);
+
+        Assertions.assertThat(response)
+                .extracting(EmployeeDayUtilization::day, EmployeeDayUtilization::hoursWorked, day -> Money.of(day.totalValue()), EmployeeDayUtilization::repairsCount)
+                .containsExactly(
+                        Assertions.tuple(LocalDate.of(2025, 2, 10), 5L, Money.of(200), 2L),
+                        Assertions.tuple(LocalDate.of(2025, 2, 12), 1L, Money.of(40), 1L)
+                );
+    }
+
+    @Test
+    @DisplayName("findAllDayUtilizationsByEmployeeIdAndEndDateBetween returns an empty list when the employee has no repairs in the range")
+    @Order(2)
+    void findAllDayUtilizationsByEmployeeIdAndEndDateBetween_ReturnsAnEmptyList_WhenTheEmployeeHasNoRepairsInTheRange() {
+        List<EmployeeDayUtilization> response = repository.findAllDayUtilizationsByEmployeeIdAndEndDateBetween(electrician.getId(), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+        Assertions.assertThat(response).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAllUtilizationsByEndDateBetween returns the totals of every employee with repairs in the range")
+    @Order(3)
+    void findAllUtilizationsByEndDateBetween_ReturnsTheTotalsOfEveryEmployeeWithRepairsInTheRange() {
+        List<EmployeeUtilizationResponse> response = repository.findAllUtilizationsByEndDateBetween(FROM, TO);
+
+        Assertions.assertThat(response)
+                .extracting(EmployeeUtilizationResponse::getEmployeeId, EmployeeUtilizationResponse::getCategory, EmployeeUtilizationResponse::getHoursWorked, EmployeeUtilizationResponse::getTotalValue, EmployeeUtilizationResponse::getRepairsCount)
+                .containsExactly(
+                        Assertions.tuple(mechanic.getId(), "Mecânico", 6L, Money.of(240), 3L),
+                        Assertions.tuple(electrician.getId(), null, 4L, Money.of(160), 1L)
+                );
+    }
+
+    @Test
+    @DisplayName("upsertAll prices a new line with the current category of the employee")
+    @Order(4)
+    void upsertAll_PricesANewLineWithTheCurrentCategoryOfTheEmployee() {
+        Repair repair = persistRepair(null);
+        Long id = 1_000_000L;
+
+        repository.upsertAll(List.of(RepairEmployee.builder().id(id).repair(repair).employee(mechanic).hoursWorked(2).build()));
+        entityManager.clear();
+
+        RepairEmployee repairEmployee = entityManager.find(RepairEmployee.class, id);
+
+        Assertions.assertThat(repairEmployee.getCategory().getId()).isEqualTo(mechanic.getCategory().getId());
+        Assertions.assertThat(repairEmployee.getHoursWorked()).isEqualTo(2);
+        Assertions.assertThat(repairEmployee.getTotalValue()).isEqualTo(Money.of(80));
+    }
+
+    @Test
+    @DisplayName("upsertAll keeps the category the line was first recorded with and prices the added hours with it when the employee changed category")
+    @Order(5)
+    void upsertAll_KeepsTheCategoryTheLineWasFirstRecordedWith_AndPricesTheAddedHoursWithIt_WhenTheEmployeeChangedCategory() {
+        Category mechanicCategory = mechanic.getCategory();
+        Category electricianCategory = entityManager.persist(Category.builder().name("Eletricista").hourlyPrice(Money.of(90)).build());
+        Repair repair = persistRepair(null);
+        Long id = 1_000_000L;
+
+        repository.upsertAll(List.of(RepairEmployee.builder().id(id).repair(repair).employee(mechanic).hoursWorked(2).build()));
+        Employee promotedMechanic = entityManager.merge(mechanic.withCategory(electricianCategory));
+        entityManager.flush();
+        repository.upsertAll(List.of(RepairEmployee.builder().id(1_000_001L).repair(repair).employee(promotedMechanic).hoursWorked(1).build()));
+        entityManager.clear();
+
+        RepairEmployee repairEmployee = entityManager.find(RepairEmployee.class, id);
+
+        Assertions.assertThat(entityManager.find(RepairEmployee.class, 1_000_001L)).isNull();
+        Assertions.assertThat(repairEmployee.getCategory().getId()).isEqualTo(mechanicCategory.getId());
+        Assertions.assertThat(repairEmployee.getHoursWorked()).isEqualTo(3);
+        Assertions.assertThat(repairEmployee.getTotalValue()).isEqualTo(Money.of(120));
+    }
+
+    @Test
+    @DisplayName("findAllUtilizationsByEndDateBetween groups the lines by the category they were recorded with when the employee changed category")
+    @Order(6)
+    void findAllUtilizationsByEndDateBetween_GroupsTheLinesByTheCategoryTheyWereRecordedWith_WhenTheEmployeeChangedCategory() {
+        Category electricianCategory = entityManager.persist(Category.builder().name("Eletricista").hourlyPrice(Money.of(90)).build());
+        Employee promotedMechanic = entityManager.merge(mechanic.withCategory(electricianCategory));
+        Repair february20 = persistRepair(LocalDate.of(2025, 2, 20));
+        entityManager.persist(RepairEmployee.builder().repair(february20).employee(promotedMechanic).category(electricianCategory).hoursWorked(2).totalValue(Money.of(180)).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<EmployeeUtilizationResponse> response = repository.findAllUtilizationsByEndDateBetween(FROM, TO);
+
+        Assertions.assertThat(response)
+                .extracting(EmployeeUtilizationResponse::getEmployeeId, EmployeeUtilizationResponse::getCategory, EmployeeUtilizationResponse::getHoursWorked, EmployeeUtilizationResponse::getTotalValue, EmployeeUtilizationResponse::getRepairsCount)
+                .containsExactly(
+                        Assertions.tuple(mechanic.getId(), "Mecânico", 6L, Money.of(240), 3L),
+                        Assertions.tuple(mechanic.getId(), "Eletricista", 2L, Money.of(180), 1L),
+                        Assertions.tuple(electrician.getId(), null, 4L, Money.of(160), 1L)
+                );
+    }
+}
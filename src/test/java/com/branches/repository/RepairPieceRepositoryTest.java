@@ -0,0 +1,153 @@
+package com.branches.repository;
+
+import com.branches.config.CacheConfig;
+import com.branches.model.Money;
+import com.branches.model.Piece;
+import com.branches.model.Repair;
+import com.branches.model.RepairPiece;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CacheConfig.class, EntityIdGenerator.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RepairPieceRepositoryTest {
+    @Autowired
+    private RepairPieceRepository repository;
+    @Autowired
+    private RepairRepository repairRepository;
+    @Autowired
+    private PieceRepository pieceRepository;
+    @Autowired
+    private EntityIdGenerator idGenerator;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    private Statistics statistics;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("saveAll inserts repair pieces in JDBC batches")
+    @Order(1)
+    void saveAll_InsertsRepairPiecesInJdbcBatches() {
+        int lines = 30;
+
+        Repair repair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+        List<RepairPiece> repairPiecesToSave = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            Piece piece = entityManager.persist(Piece.builder().name("Peça " + i).unitValue(Money.of(10)).stock(10).build());
+
+            repairPiecesToSave.add(RepairPiece.builder().repair(repair).piece(piece).quantity(1).totalValue(Money.of(10)).build());
+        }
+        entityManager.flush();
+        statistics.clear();
+
+        repository.saveAll(repairPiecesToSave);
+        entityManager.flush();
+
+        Assertions.assertThat(repairPiecesToSave).allSatisfy(repairPiece -> Assertions.assertThat(repairPiece.getId()).isNotNull());
+        Assertions.assertThat(statistics.getEntityInsertCount()).isEqualTo(lines);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("upsertAll merges concurrent additions of the same piece into a single repair line")
+    @Order(2)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void upsertAll_MergesConcurrentAdditionsOfTheSamePieceIntoASingleRepairLine() throws Exception {
+        int requests = 200;
+        Money unitValue = Money.of(new BigDecimal("25.10"));
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long repairId = repairRepository.save(Repair.builder().totalValue(Money.ZERO).build()).getId();
+        Long pieceId = pieceRepository.save(Piece.builder().name("Pastilha de freio").unitValue(unitValue).stock(0).build()).getId();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> transactionTemplate.execute(status -> repository.upsertAll(List.of(newAddition(repairId, pieceId, 1, unitValue))))));
+            }
+
+            for (Future<Integer> result : results) result.get();
+        }
+
+        List<RepairPiece> repairPieces = repository.findAllByRepair_IdAndPiece_IdIn(repairId, List.of(pieceId));
+        repository.deleteAll(repairPieces);
+        pieceRepository.deleteById(pieceId);
+        repairRepository.deleteById(repairId);
+
+        Assertions.assertThat(repairPieces)
+                .singleElement()
+                .satisfies(repairPiece -> {
+                    Assertions.assertThat(repairPiece.getQuantity()).isEqualTo(requests);
+                    Assertions.assertThat(repairPiece.getTotalValue()).isEqualTo(unitValue.times(requests));
+                });
+    }
+
+    @Test
+    @DisplayName("upsertAll merges existing lines and inserts new ones in a single statement")
+    @Order(3)
+    void upsertAll_MergesExistingLinesAndInsertsNewOnesInASingleStatement() {
+        Money unitValue = Money.of(10);
+
+        Repair repair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+        Piece oil = entityManager.persist(Piece.builder().name("Óleo").unitValue(unitValue).stock(10).build());
+        Piece filter = entityManager.persist(Piece.builder().name("Filtro").unitValue(unitValue).stock(10).build());
+        RepairPiece oilLine = entityManager.persist(RepairPiece.builder().repair(repair).piece(oil).quantity(2).totalValue(unitValue.times(2)).build());
+        entityManager.flush();
+        statistics.clear();
+
+        int updatedRows = repository.upsertAll(List.of(
+                newAddition(repair.getId(), oil.getId(), 3, unitValue).withId(oilLine.getId()),
+                newAddition(repair.getId(), filter.getId(), 4, unitValue)));
+        entityManager.clear();
+
+        Assertions.assertThat(updatedRows).isPositive();
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(repository.findAllByRepair_IdAndPiece_IdIn(repair.getId(), List.of(oil.getId(), filter.getId())))
+                .extracting(RepairPiece::getQuantity, RepairPiece::getTotalValue)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple(5, unitValue.times(5)),
+                        Assertions.tuple(4, unitValue.times(4)));
+    }
+
+    private RepairPiece newAddition(Long repairId, Long pieceId, int quantity, Money unitValue) {
+        return RepairPiece.builder()
+                .id(idGenerator.nextId(RepairPiece.class))
+                .repair(Repair.builder().id(repairId).build())
+                .piece(Piece.builder().id(pieceId).build())
+                .quantity(quantity)
+                .totalValue(unitValue.times(quantity))
+                .build();
+    }
+}
@@ -0,0 +1,239 @@
+package com.branches.repository;
+
+import com.branches.config.CacheConfig;
+import com.branches.mapper.RepairMapper;
+import com.branches.mapper.RepairMapperImpl;
+import com.branches.model.*;
+import com.branches.response.RepairGetResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CacheConfig.class, RepairMapperImpl.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RepairRepositoryTest {
+    @Autowired
+    private RepairRepository repository;
+    @Autowired
+    private RepairMapper mapper;
+    @Autowired
+    private AddressRepository addressRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    private Statistics statistics;
+    private List<Client> clientList;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void persistRepairs() {
+        clientList = new ArrayList<>();
+        String[] names = {"Marcus", "Vinicius", "Mario"};
+
+        for (int i = 0; i < names.length; i++) {
+            Address address = entityManager.persist(Address.builder().street("Rua " + i).district("Nazaré").city("Belém").state("PA").build());
+            Person person = entityManager.persist(Person.builder().name(names[i]).lastName("Silva").address(address).build());
+            entityManager.persist(Phone.builder().number("9999000" + i).phoneType(PhoneType.celular).person(person).build());
+            Client client = entityManager.persist(Client.builder().person(person).email(names[i].toLowerCase() + "@gmail.com").build());
+            Vehicle vehicle = entityManager.persist(Vehicle.builder().vehicleType(VehicleType.carro).brand("Fiat").model("Toro").client(client).build());
+
+            entityManager.persist(Repair.builder().client(client).vehicle(vehicle).totalValue(Money.of(100)).endDate(LocalDate.of(2025, 2, 10 + i)).build());
+            entityManager.persist(Repair.builder().client(client).vehicle(vehicle).totalValue(Money.of(200)).endDate(LocalDate.of(2025, 3, 10 + i)).build());
+
+            clientList.add(client);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAll loads and maps all repairs with a single statement")
+    @Order(1)
+    void findAll_LoadsAndMapsAllRepairsWithASingleStatement() {
+        persistRepairs();
+
+        List<RepairGetResponse> response = mapper.toRepairGetResponseList(repository.findAll());
+
+        Assertions.assertThat(response)
+                .hasSize(6)
+                .allSatisfy(repair -> Assertions.assertThat(repair.getClient().getPerson().getName()).isNotBlank());
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findByEndDateGreaterThanEqual loads and maps repairs in date range with a single statement")
+    @Order(2)
+    void findByEndDateGreaterThanEqual_LoadsAndMapsRepairsInDateRangeWithASingleStatement() {
+        persistRepairs();
+
+        List<RepairGetResponse> response = mapper.toRepairGetResponseList(repository.findByEndDateGreaterThanEqual(LocalDate.of(2025, 3, 1)));
+
+        Assertions.assertThat(response).hasSize(3);
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findAllByClient loads and maps client repairs with a single statement")
+    @Order(3)
+    void findAllByClient_LoadsAndMapsClientRepairsWithASingleStatement() {
+        persistRepairs();
+
+        Client client = clientList.getFirst();
+
+        List<RepairGetResponse> response = mapper.toRepairGetResponseList(repository.findAllByClient(client));
+
+        Assertions.assertThat(response)
+                .hasSize(2)
+                .allSatisfy(repair -> Assertions.assertThat(repair.getClient().getId()).isEqualTo(client.getId()));
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findAllByIdGreaterThanOrderByIdAsc loads and maps a page of repairs with a single statement")
+    @Order(4)
+    void findAllByIdGreaterThanOrderByIdAsc_LoadsAndMapsAPageOfRepairsWithASingleStatement() {
+        persistRepairs();
+
+        List<RepairGetResponse> response = mapper.toRepairGetResponseList(repository.findAllByIdGreaterThanOrderByIdAsc(0L, Limit.of(4)));
+
+        Assertions.assertThat(response)
+                .hasSize(4)
+                .isSortedAccordingTo((first, second) -> first.getId().compareTo(second.getId()));
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("updateTotalValue adds every value exactly when many virtual threads update the same repair")
+    @Order(5)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateTotalValue_AddsEveryValueExactly_WhenManyVirtualThreadsUpdateTheSameRepair() throws Exception {
+        int requests = 500;
+        Money valueToSum = Money.of(new BigDecimal("10.01"));
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Repair repair = repository.save(Repair.builder().totalValue(Money.ZERO).build());
+        Long repairId = repair.getId();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> transactionTemplate.execute(status -> repository.updateTotalValue(repairId, valueToSum.toBigDecimal()))));
+            }
+
+            for (Future<Integer> result : results) Assertions.assertThat(result.get()).isEqualTo(1);
+        }
+
+        Money totalValue = repository.findById(repairId).orElseThrow().getTotalValue();
+        repository.deleteById(repairId);
+
+        Assertions.assertThat(totalValue).isEqualTo(valueToSum.times(requests));
+    }
+
+    @Test
+    @DisplayName("updateTotalValue returns zero affected rows when the repair does not exist")
+    @Order(6)
+    void updateTotalValue_ReturnsZero_WhenTheRepairDoesNotExist() {
+        int updatedRows = repository.updateTotalValue(999999L, BigDecimal.TEN);
+
+        Assertions.assertThat(updatedRows).isZero();
+    }
+
+    @Test
+    @DisplayName("updateTotalValue keeps cached reference data in the second-level cache")
+    @Order(7)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateTotalValue_KeepsCachedReferenceDataInTheSecondLevelCache() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Address address = addressRepository.save(Address.builder().street("Rua 1").district("Nazaré").city("Belém").state("PA").build());
+        Long addressId = address.getId();
+        addressRepository.findById(addressId).orElseThrow();
+
+        Repair repair = repository.save(Repair.builder().totalValue(Money.ZERO).build());
+        Long repairId = repair.getId();
+
+        transactionTemplate.execute(status -> repository.updateTotalValue(repairId, BigDecimal.TEN));
+
+        boolean addressStillCached = entityManagerFactory.getCache().contains(Address.class, addressId);
+        repository.deleteById(repairId);
+        addressRepository.deleteById(addressId);
+
+        Assertions.assertThat(addressStillCached).isTrue();
+    }
+
+    @Test
+    @DisplayName("findAll loads read-only repairs that are not dirty checked even inside a read-write transaction")
+    @Order(8)
+    void findAll_LoadsReadOnlyRepairsThatAreNotDirtyChecked_EvenInsideAReadWriteTransaction() {
+        persistRepairs();
+
+        List<Repair> repairs = repository.findAll();
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+
+        Assertions.assertThat(repairs)
+                .hasSize(6)
+                .allSatisfy(repair -> Assertions.assertThat(session.isReadOnly(repair)).isTrue());
+
+        repairs.getFirst().setTotalValue(Money.of(999));
+        entityManager.flush();
+
+        Assertions.assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("streamAllByOrderByIdAsc streams every repair in id order with a single statement")
+    @Order(9)
+    void streamAllByOrderByIdAsc_StreamsEveryRepairInIdOrderWithASingleStatement() {
+        persistRepairs();
+
+        List<RepairGetResponse> response;
+        try (Stream<Repair> repairs = repository.streamAllByOrderByIdAsc(500)) {
+            response = repairs.map(mapper::toRepairGetResponse).toList();
+        }
+
+        Assertions.assertThat(response)
+                .hasSize(6)
+                .isSortedAccordingTo((first, second) -> first.getId().compareTo(second.getId()))
+                .allSatisfy(repair -> Assertions.assertThat(repair.getVehicle().getBrand()).isEqualTo("Fiat"));
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
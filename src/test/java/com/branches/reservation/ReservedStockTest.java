@@ -0,0 +1,106 @@
+package com.branches.reservation;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReservedStockTest {
+    private ReservedStock reservedStock;
+
+    @BeforeEach
+    void init() {
+        reservedStock = new ReservedStock();
+    }
+
+    @Test
+    @DisplayName("tryReserve holds the quantity and returns the available stock when there is enough stock")
+    @Order(1)
+    void tryReserve_HoldsTheQuantityAndReturnsTheAvailableStock_WhenThereIsEnoughStock() {
+        int available = reservedStock.tryReserve(1L, 10, 4);
+
+        Assertions.assertThat(available).isEqualTo(10);
+        Assertions.assertThat(reservedStock.reserved(1L)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("tryReserve keeps the reserved quantity when the stock left is already reserved")
+    @Order(2)
+    void tryReserve_KeepsTheReservedQuantity_WhenTheStockLeftIsAlreadyReserved() {
+        reservedStock.tryReserve(1L, 10, 8);
+
+        int available = reservedStock.tryReserve(1L, 10, 3);
+
+        Assertions.assertThat(available).isEqualTo(2);
+        Assertions.assertThat(reservedStock.reserved(1L)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("tryReserve never holds more than the stock when many virtual threads reserve the same piece")
+    @Order(3)
+    void tryReserve_NeverHoldsMoreThanTheStock_WhenManyVirtualThreadsReserveTheSamePiece() throws Exception {
+        int stock = 50;
+        int requests = 500;
+
+        int successfulReservations = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+
+            for (int i = 0; i < requests; i++) results.add(executor.submit(() -> reservedStock.tryReserve(1L, stock, 1)));
+
+            for (Future<Integer> result : results) if (result.get() >= 1) successfulReservations++;
+        }
+
+        Assertions.assertThat(successfulReservations).isEqualTo(stock);
+        Assertions.assertThat(reservedStock.reserved(1L)).isEqualTo(stock);
+    }
+
+    @Test
+    @DisplayName("release frees the quantity and forgets the piece when nothing is left reserved")
+    @Order(4)
+    void release_FreesTheQuantityAndForgetsThePiece_WhenNothingIsLeftReserved() {
+        reservedStock.tryReserve(1L, 10, 5);
+
+        reservedStock.release(1L, 2);
+        Assertions.assertThat(reservedStock.reserved(1L)).isEqualTo(3);
+
+        reservedStock.release(1L, 3);
+        Assertions.assertThat(reservedStock.reserved(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcile sets the reserved quantities read from the table and forgets the pieces with nothing reserved")
+    @Order(5)
+    void reconcile_SetsTheReservedQuantitiesReadFromTheTable_AndForgetsThePiecesWithNothingReserved() {
+        reservedStock.tryReserve(1L, 10, 5);
+        reservedStock.tryReserve(2L, 10, 3);
+
+        reservedStock.reconcile(List.of(new ReservedQuantity(2L, 4), new ReservedQuantity(3L, 0)), reservedStock.snapshot());
+
+        Assertions.assertThat(reservedStock.reserved(1L)).isZero();
+        Assertions.assertThat(reservedStock.reserved(2L)).isEqualTo(4);
+        Assertions.assertThat(reservedStock.reserved(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcile keeps the reservations and releases made after the snapshot was taken")
+    @Order(6)
+    void reconcile_KeepsTheReservationsAndReleasesMadeAfterTheSnapshotWasTaken() {
+        reservedStock.tryReserve(1L, 10, 5);
+        reservedStock.tryReserve(2L, 10, 3);
+        Map<Long, Integer> snapshot = reservedStock.snapshot();
+
+        reservedStock.tryReserve(1L, 10, 2);
+        reservedStock.release(2L, 3);
+        reservedStock.reconcile(List.of(new ReservedQuantity(1L, 6), new ReservedQuantity(2L, 3)), snapshot);
+
+        Assertions.assertThat(reservedStock.reserved(1L)).isEqualTo(8);
+        Assertions.assertThat(reservedStock.reserved(2L)).isZero();
+    }
+}
@@ -0,0 +1,172 @@
+package com.branches.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NameSearchIndexTest {
+    private NameSearchIndex index;
+
+    @BeforeEach
+    void init() {
+        index = new NameSearchIndex(3);
+
+        index.put(1L, "Filtro de óleo");
+        index.put(2L, "Óleo de motor");
+        index.put(3L, "Óleo");
+        index.put(4L, "Junta do cabeçote");
+        index.put(5L, "Marcus", "Vinicius");
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("search returns the ids whose name contains the query ignoring case and accents")
+    @Order(1)
+    void search_ReturnsIdsWhoseNameContainsTheQuery_IgnoringCaseAndAccents() {
+        Assertions.assertThat(index.search("CABECOTE")).containsExactly(4L);
+        Assertions.assertThat(index.search("cabeçote")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("search ranks exact matches first, then prefixes, then word prefixes, then substrings")
+    @Order(2)
+    void search_RanksExactMatchesFirst_ThenPrefixesThenWordPrefixesThenSubstrings() {
+        NameSearchIndex unlimitedIndex = new NameSearchIndex(10);
+
+        unlimitedIndex.put(1L, "Petróleo");
+        unlimitedIndex.put(2L, "Bomba de óleo");
+        unlimitedIndex.put(3L, "Óleo de motor");
+        unlimitedIndex.put(4L, "Óleo");
+        unlimitedIndex.put(5L, "Filtro de óleo");
+
+        Assertions.assertThat(unlimitedIndex.search("oleo")).containsExactly(4L, 3L, 2L, 5L, 1L);
+    }
+
+    @Test
+    @DisplayName("search returns at most the configured number of results")
+    @Order(3)
+    void search_ReturnsAtMostTheConfiguredNumberOfResults() {
+        index.put(6L, "Bomba de óleo");
+
+        Assertions.assertThat(index.search("oleo")).containsExactly(3L, 2L, 6L);
+    }
+
+    @Test
+    @DisplayName("search matches the full name when the name has many parts")
+    @Order(4)
+    void search_MatchesTheFullName_WhenTheNameHasManyParts() {
+        Assertions.assertThat(index.search("cus vini")).containsExactly(5L);
+        Assertions.assertThat(index.search("vinicius")).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("search scans every name when the query is shorter than a gram")
+    @Order(5)
+    void search_ScansEveryName_WhenTheQueryIsShorterThanAGram() {
+        Assertions.assertThat(index.search("nt")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("search returns an empty list when no name contains the query")
+    @Order(6)
+    void search_ReturnsEmptyList_WhenNoNameContainsTheQuery() {
+        Assertions.assertThat(index.search("pneu")).isEmpty();
+        Assertions.assertThat(index.search("oleo filtro")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("put replaces the previous name of the same id")
+    @Order(7)
+    void put_ReplacesThePreviousNameOfTheSameId() {
+        index.put(4L, "Pneu Aro 15");
+
+        Assertions.assertThat(index.search("cabecote")).isEmpty();
+        Assertions.assertThat(index.search("pneu")).containsExactly(4L);
+        Assertions.assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("remove drops the id from the search results")
+    @Order(8)
+    void remove_DropsTheIdFromTheSearchResults() {
+        index.remove(3L);
+
+        Assertions.assertThat(index.search("oleo")).containsExactly(2L, 1L);
+        Assertions.assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("putAfterCommit only changes the index after the transaction commits")
+    @Order(9)
+    void putAfterCommit_OnlyChangesTheIndexAfterTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.putAfterCommit(6L, "Pneu Aro 15");
+
+        Assertions.assertThat(index.search("pneu")).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        Assertions.assertThat(index.search("pneu")).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("removeAfterCommit keeps the id when the transaction does not commit")
+    @Order(10)
+    void removeAfterCommit_KeepsTheId_WhenTheTransactionDoesNotCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.removeAfterCommit(4L);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        Assertions.assertThat(index.search("cabecote")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("inRankOrder orders the found entities as the ranked ids and skips missing ones")
+    @Order(11)
+    void inRankOrder_OrdersTheFoundEntitiesAsTheRankedIds_AndSkipsMissingOnes() {
+        List<String> response = NameSearchIndex.inRankOrder(List.of(3L, 9L, 1L), List.of("1", "3"), Long::valueOf);
+
+        Assertions.assertThat(response).containsExactly("3", "1");
+    }
+
+    @Test
+    @DisplayName("rebuild replaces every entry at once and keeps serving the previous entries while loading")
+    @Order(12)
+    void rebuild_ReplacesEveryEntryAtOnce_AndKeepsServingThePreviousEntriesWhileLoading() {
+        index.rebuild(() -> {
+            Assertions.assertThat(index.search("oleo")).containsExactly(3L, 2L, 1L);
+
+            return List.of(new SearchEntry(7L, "Ana", "Souza"), new SearchEntry(8L, "Pneu Aro 15", ""));
+        });
+
+        Assertions.assertThat(index.search("oleo")).isEmpty();
+        Assertions.assertThat(index.search("ana sou")).containsExactly(7L);
+        Assertions.assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("rebuild keeps the writes made while the entries were loading")
+    @Order(13)
+    void rebuild_KeepsTheWritesMadeWhileTheEntriesWereLoading() {
+        index.rebuild(() -> {
+            index.put(9L, "Bomba d'água");
+            index.remove(4L);
+
+            return List.of(new SearchEntry(4L, "Junta do cabeçote", ""), new SearchEntry(8L, "Pneu Aro 15", ""));
+        });
+
+        Assertions.assertThat(index.search("bomba")).containsExactly(9L);
+        Assertions.assertThat(index.search("cabecote")).isEmpty();
+        Assertions.assertThat(index.search("pneu")).containsExactly(8L);
+    }
+}
@@ -0,0 +1,110 @@
+package com.branches.service;
+
+import com.branches.config.CacheConfig;
+import com.branches.model.Client;
+import com.branches.repository.ClientRepository;
+import com.branches.repository.RepairRepository;
+import com.branches.repository.VehicleRepository;
+import com.branches.response.ClientOverviewGetResponse;
+import com.branches.utils.ClientUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Optional;
+
+@SpringJUnitConfig
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ClientOverviewServiceCacheTest {
+    @Autowired
+    private ClientOverviewService service;
+    @Autowired
+    private CacheManager cacheManager;
+    @MockitoBean
+    private ClientRepository clientRepository;
+    @MockitoBean
+    private VehicleRepository vehicleRepository;
+    @MockitoBean
+    private RepairRepository repairRepository;
+    private Client client;
+
+    @Configuration
+    @EnableCaching
+    @Import(ClientOverviewService.class)
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.CLIENT_OVERVIEW_CACHE);
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        cacheManager.getCache(CacheConfig.CLIENT_OVERVIEW_CACHE).clear();
+        client = ClientUtils.newClientList().getFirst();
+
+        BDDMockito.when(clientRepository.findWithPhonesById(client.getId())).thenReturn(Optional.of(client));
+        BDDMockito.when(vehicleRepository.findAllOverviewsByClientId(client.getId())).thenReturn(Collections.emptyList());
+        BDDMockito.when(repairRepository.findAllOverviewsByClientIdAndIdGreaterThan(ArgumentMatchers.eq(client.getId()), ArgumentMatchers.anyLong(), ArgumentMatchers.any()))
+                .thenReturn(Collections.emptyList());
+        BDDMockito.when(repairRepository.sumTotalValueByClientId(client.getId())).thenReturn(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("findByClientId serves the first page from the cache on repeated calls")
+    @Order(1)
+    void findByClientId_ServesTheFirstPageFromTheCache_OnRepeatedCalls() {
+        ClientOverviewGetResponse first = service.findByClientId(client.getId(), null, ClientOverviewService.DEFAULT_REPAIRS_LIMIT);
+        ClientOverviewGetResponse second = service.findByClientId(client.getId(), null, ClientOverviewService.DEFAULT_REPAIRS_LIMIT);
+
+        Assertions.assertThat(second).isSameAs(first);
+        BDDMockito.verify(clientRepository, BDDMockito.times(1)).findWithPhonesById(client.getId());
+    }
+
+    @Test
+    @DisplayName("findByClientId does not cache pages other than the default first page")
+    @Order(2)
+    void findByClientId_DoesNotCachePagesOtherThanTheDefaultFirstPage() {
+        service.findByClientId(client.getId(), 10L, ClientOverviewService.DEFAULT_REPAIRS_LIMIT);
+        service.findByClientId(client.getId(), 10L, ClientOverviewService.DEFAULT_REPAIRS_LIMIT);
+        service.findByClientId(client.getId(), null, 5);
+
+        Assertions.assertThat(cacheManager.getCache(CacheConfig.CLIENT_OVERVIEW_CACHE).get(client.getId())).isNull();
+        BDDMockito.verify(clientRepository, BDDMockito.times(3)).findWithPhonesById(client.getId());
+    }
+
+    @Test
+    @DisplayName("evict removes the cached overview of the client so the next call reads it again")
+    @Order(3)
+    void evict_RemovesTheCachedOverviewOfTheClient_SoTheNextCallReadsItAgain() {
+        service.findByClientId(client.getId(), null, ClientOverviewService.DEFAULT_REPAIRS_LIMIT);
+
+        service.evict(client);
+        service.findByClientId(client.getId(), null, ClientOverviewService.DEFAULT_REPAIRS_LIMIT);
+
+        BDDMockito.verify(clientRepository, BDDMockito.times(2)).findWithPhonesById(client.getId());
+    }
+
+    @Test
+    @DisplayName("evict does nothing when the client is null")
+    @Order(4)
+    void evict_DoesNothing_WhenTheClientIsNull() {
+        service.findByClientId(client.getId(), null, ClientOverviewService.DEFAULT_REPAIRS_LIMIT);
+
+        service.evict(null);
+
+        Assertions.assertThat(cacheManager.getCache(CacheConfig.CLIENT_OVERVIEW_CACHE).get(client.getId())).isNotNull();
+    }
+}
@@ -0,0 +1,151 @@
+package com.branches.service;
+
+import com.branches.config.CacheConfig;
+import com.branches.exception.BadRequestException;
+import com.branches.exception.NotFoundException;
+import com.branches.model.*;
+import com.branches.response.ClientOverviewGetResponse;
+import com.branches.response.RepairOverviewResponse;
+import com.branches.response.VehicleOverviewResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CacheConfig.class, ClientOverviewService.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ClientOverviewServiceTest {
+    @Autowired
+    private ClientOverviewService service;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private Client client;
+    private Vehicle car;
+    private Vehicle motorcycle;
+    private List<Repair> repairs;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Address address = entityManager.persist(Address.builder().street("Almirante Barroso").district("São Brás").city("Belém").state("PA").build());
+        Person person = entityManager.persist(Person.builder().name("Marcus").lastName("Branches").address(address).build());
+        entityManager.persist(Phone.builder().number("91999990000").phoneType(PhoneType.celular).person(person).build());
+        entityManager.persist(Phone.builder().number("9132320000").phoneType(PhoneType.residencial).person(person).build());
+        client = entityManager.persist(Client.builder().person(person).email("marcus@gmail.com").build());
+        car = entityManager.persist(Vehicle.builder().vehicleType(VehicleType.carro).brand("Fiat").model("Toro").client(client).build());
+        motorcycle = entityManager.persist(Vehicle.builder().vehicleType(VehicleType.moto).brand("Honda").model("Biz").client(client).build());
+        entityManager.persist(Vehicle.builder().vehicleType(VehicleType.carro).brand("Ford").model("Ka").client(client).build());
+
+        repairs = List.of(
+                entityManager.persist(Repair.builder().client(client).vehicle(car).totalValue(Money.of(100)).endDate(LocalDate.of(2025, 2, 10)).build()),
+                entityManager.persist(Repair.builder().client(client).vehicle(car).totalValue(Money.of(250)).endDate(LocalDate.of(2025, 3, 10)).build()),
+                entityManager.persist(Repair.builder().client(client).vehicle(motorcycle).totalValue(Money.of(80)).endDate(LocalDate.of(2025, 4, 10)).build())
+        );
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findByClientId returns the person, phones, address, vehicles with totals and repairs with four statements")
+    @Order(1)
+    void findByClientId_ReturnsThePersonPhonesAddressVehiclesWithTotalsAndRepairs_WithFourStatements() {
+        ClientOverviewGetResponse response = service.findByClientId(client.getId(), null, ClientOverviewService.DEFAULT_REPAIRS_LIMIT);
+
+        Assertions.assertThat(response.getEmail()).isEqualTo("marcus@gmail.com");
+        Assertions.assertThat(response.getPerson().getAddress().getStreet()).isEqualTo("Almirante Barroso");
+        Assertions.assertThat(response.getPerson().getPhones()).extracting(Phone::getNumber).containsExactlyInAnyOrder("91999990000", "9132320000");
+        Assertions.assertThat(response.getVehicles())
+                .extracting(VehicleOverviewResponse::getModel, VehicleOverviewResponse::getRepairsCount, VehicleOverviewResponse::getTotalValue)
+                .containsExactly(
+                        Assertions.tuple("Toro", 2L, Money.of(350)),
+                        Assertions.tuple("Biz", 1L, Money.of(80)),
+                        Assertions.tuple("Ka", 0L, Money.ZERO)
+                );
+        Assertions.assertThat(response.getTotalValue()).isEqualTo(Money.of(430));
+        Assertions.assertThat(response.getRepairs())
+                .extracting(RepairOverviewResponse::getId, RepairOverviewResponse::getVehicleId)
+                .containsExactly(
+                        Assertions.tuple(repairs.get(0).getId(), car.getId()),
+                        Assertions.tuple(repairs.get(1).getId(), car.getId()),
+                        Assertions.tuple(repairs.get(2).getId(), motorcycle.getId())
+                );
+        Assertions.assertThat(response.getNextRepairsCursor()).isNull();
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("findByClientId returns the repairs page after the cursor and the next cursor when there are more repairs")
+    @Order(2)
+    void findByClientId_ReturnsTheRepairsPageAfterTheCursorAndTheNextCursor_WhenThereAreMoreRepairs() {
+        ClientOverviewGetResponse firstPage = service.findByClientId(client.getId(), null, 2);
+        ClientOverviewGetResponse secondPage = service.findByClientId(client.getId(), firstPage.getNextRepairsCursor(), 2);
+
+        Assertions.assertThat(firstPage.getRepairs()).extracting(RepairOverviewResponse::getId).containsExactly(repairs.get(0).getId(), repairs.get(1).getId());
+        Assertions.assertThat(firstPage.getNextRepairsCursor()).isEqualTo(repairs.get(1).getId());
+        Assertions.assertThat(secondPage.getRepairs()).extracting(RepairOverviewResponse::getId).containsExactly(repairs.get(2).getId());
+        Assertions.assertThat(secondPage.getNextRepairsCursor()).isNull();
+        Assertions.assertThat(secondPage.getTotalValue()).isEqualTo(Money.of(430));
+    }
+
+    @Test
+    @DisplayName("findByClientId sums the repairs of the client instead of the repairs of its vehicles when they are not the same")
+    @Order(3)
+    void findByClientId_SumsTheRepairsOfTheClientInsteadOfTheRepairsOfItsVehicles_WhenTheyAreNotTheSame() {
+        Address address = entityManager.persist(Address.builder().street("Nazaré").district("Nazaré").city("Belém").state("PA").build());
+        Person person = entityManager.persist(Person.builder().name("Ana").lastName("Souza").address(address).build());
+        Client otherClient = entityManager.persist(Client.builder().person(person).email("ana@gmail.com").build());
+        Vehicle otherClientCar = entityManager.persist(Vehicle.builder().vehicleType(VehicleType.carro).brand("VW").model("Gol").client(otherClient).build());
+
+        entityManager.persist(Repair.builder().client(client).vehicle(otherClientCar).totalValue(Money.of(40)).endDate(LocalDate.of(2025, 5, 10)).build());
+        entityManager.persist(Repair.builder().client(otherClient).vehicle(car).totalValue(Money.of(500)).endDate(LocalDate.of(2025, 6, 10)).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        ClientOverviewGetResponse response = service.findByClientId(client.getId(), null, ClientOverviewService.DEFAULT_REPAIRS_LIMIT);
+
+        Assertions.assertThat(response.getVehicles())
+                .extracting(VehicleOverviewResponse::getModel, VehicleOverviewResponse::getTotalValue)
+                .contains(Assertions.tuple("Toro", Money.of(850)));
+        Assertions.assertThat(response.getTotalValue()).isEqualTo(Money.of(470));
+    }
+
+    @Test
+    @DisplayName("findByClientId throws NotFoundException when client is not found")
+    @Order(4)
+    void findByClientId_ThrowsNotFoundException_WhenClientIsNotFound() {
+        Long randomId = 999999L;
+
+        Assertions.assertThatThrownBy(() -> service.findByClientId(randomId, null, ClientOverviewService.DEFAULT_REPAIRS_LIMIT))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Client with id '%s' not Found".formatted(randomId));
+    }
+
+    @Test
+    @DisplayName("findByClientId throws BadRequestException when limit is out of range")
+    @Order(5)
+    void findByClientId_ThrowsBadRequestException_WhenLimitIsOutOfRange() {
+        Assertions.assertThatThrownBy(() -> service.findByClientId(client.getId(), null, 0))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'limit' must be between 1 and 100");
+    }
+}
@@ -11,6 +11,7 @@ import com.branches.request.ClientPostRequest;
 import com.branches.request.ClientPutRequest;
 import com.branches.response.ClientGetResponse;
 import com.branches.response.ClientPostResponse;
+import com.branches.search.ClientSearchIndex;
 import com.branches.utils.ClientUtils;
 import com.branches.utils.PersonUtils;
 import org.assertj.core.api.Assertions;
@@ -43,6 +44,10 @@ class ClientServiceTest {
     private ClientMapper mapper;
     @Mock
     private PersonMapper personMapper;
+    @Mock
+    private ClientSearchIndex searchIndex;
+    @Mock
+    private ClientOverviewService clientOverviewService;
     private List<ClientGetResponse> clientGetResponseList;
     private List<Client> clientList;
 
@@ -76,8 +81,10 @@ class ClientServiceTest {
         List<ClientGetResponse> expectedResponse = List.of(clientToBeFound);
 
         List<Client> expectedResponseRepository = List.of(clientList.getFirst());
+        List<Long> rankedIds = List.of(expectedResponseRepository.getFirst().getId());
 
-        BDDMockito.when(repository.findAllByPerson_NameContaining(nameToSearch)).thenReturn(expectedResponseRepository);
+        BDDMockito.when(searchIndex.search(nameToSearch)).thenReturn(rankedIds);
+        BDDMockito.when(repository.findAllByIdIn(rankedIds)).thenReturn(expectedResponseRepository);
         BDDMockito.when(mapper.toClientGetResponseList(ArgumentMatchers.anyList())).thenReturn(expectedResponse);
 
         List<ClientGetResponse> response = service.findAll(nameToSearch);
@@ -94,7 +101,7 @@ class ClientServiceTest {
     void findAll_ReturnsEmptyList_WhenGivenArgumentIsNotFound() {
         String randomName = "name invalid";
 
-        BDDMockito.when(repository.findAllByPerson_NameContaining(randomName)).thenReturn(Collections.emptyList());
+        BDDMockito.when(searchIndex.search(randomName)).thenReturn(Collections.emptyList());
         BDDMockito.when(mapper.toClientGetResponseList(ArgumentMatchers.anyList())).thenReturn(Collections.emptyList());
 
         List<ClientGetResponse> response = service.findAll(randomName);
@@ -113,7 +120,7 @@ class ClientServiceTest {
 
         ClientGetResponse expectedResponse = clientGetResponseList.getFirst();
 
-        BDDMockito.when(repository.findById(idToSearch)).thenReturn(Optional.of(expectedResponseRepository));
+        BDDMockito.when(repository.findWithPhonesById(idToSearch)).thenReturn(Optional.of(expectedResponseRepository));
         BDDMockito.when(mapper.toClientGetResponse(expectedResponseRepository)).thenReturn(expectedResponse);
 
         ClientGetResponse response = service.findById(idToSearch);
@@ -129,7 +136,7 @@ class ClientServiceTest {
     void findById_ThrowsNotFoundException_WhenIdIsNotFound() {
         Long randomId = 4445511L;
 
-        BDDMockito.when(repository.findById(randomId)).thenReturn(Optional.empty());
+        BDDMockito.when(repository.findWithPhonesById(randomId)).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> service.findById(randomId))
                 .isInstanceOf(NotFoundException.class)
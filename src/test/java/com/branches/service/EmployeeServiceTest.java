@@ -10,6 +10,7 @@ import com.branches.request.EmployeePostRequest;
 import com.branches.request.EmployeePutRequest;
 import com.branches.response.EmployeeGetResponse;
 import com.branches.response.EmployeePostResponse;
+import com.branches.search.EmployeeSearchIndex;
 import com.branches.utils.CategoryUtils;
 import com.branches.utils.EmployeeUtils;
 import com.branches.utils.PersonUtils;
@@ -25,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -45,6 +47,8 @@ class EmployeeServiceTest {
     private PersonMapper personMapper;
     @Mock
     private EmployeeMapper mapper;
+    @Mock
+    private EmployeeSearchIndex searchIndex;
     private List<EmployeeGetResponse> employeeGetResponseList;
     private List<Employee> employeeList;
 
@@ -78,8 +82,10 @@ class EmployeeServiceTest {
         List<EmployeeGetResponse> expectedResponse = List.of(employeeToBeFound);
 
         List<Employee> expectedResponseRepository = List.of(employeeList.getFirst());
+        List<Long> rankedIds = List.of(expectedResponseRepository.getFirst().getId());
 
-        BDDMockito.when(repository.findAllByPerson_NameContaining(nameToSearch)).thenReturn(expectedResponseRepository);
+        BDDMockito.when(searchIndex.search(nameToSearch)).thenReturn(rankedIds);
+        BDDMockito.when(repository.findAllByIdIn(rankedIds)).thenReturn(expectedResponseRepository);
         BDDMockito.when(mapper.toEmployeeGetResponseList(ArgumentMatchers.anyList())).thenReturn(expectedResponse);
 
         List<EmployeeGetResponse> response = service.findAll(nameToSearch);
@@ -96,7 +102,7 @@ class EmployeeServiceTest {
     void findAll_ReturnsEmptyList_WhenGivenArgumentIsNotFound() {
         String randomName = "name invalid";
 
-        BDDMockito.when(repository.findAllByPerson_NameContaining(randomName)).thenReturn(Collections.emptyList());
+        BDDMockito.when(searchIndex.search(randomName)).thenReturn(Collections.emptyList());
         BDDMockito.when(mapper.toEmployeeGetResponseList(ArgumentMatchers.anyList())).thenReturn(Collections.emptyList());
 
         List<EmployeeGetResponse> response = service.findAll(randomName);
@@ -115,7 +121,7 @@ class EmployeeServiceTest {
 
         EmployeeGetResponse expectedResponse = employeeGetResponseList.getFirst();
 
-        BDDMockito.when(repository.findById(idToSearch)).thenReturn(Optional.of(expectedResponseRepository));
+        BDDMockito.when(repository.findWithPhonesById(idToSearch)).thenReturn(Optional.of(expectedResponseRepository));
         BDDMockito.when(mapper.toEmployeeGetResponse(expectedResponseRepository)).thenReturn(expectedResponse);
 
         EmployeeGetResponse response = service.findById(idToSearch);
@@ -131,7 +137,7 @@ class EmployeeServiceTest {
     void findById_ThrowsNotFoundException_WhenIdIsNotFound() {
         Long randomId = 4445511L;
 
-        BDDMockito.when(repository.findById(randomId)).thenReturn(Optional.empty());
+        BDDMockito.when(repository.findWithPhonesById(randomId)).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> service.findById(randomId))
                 .isInstanceOf(NotFoundException.class)
@@ -139,8 +145,38 @@ class EmployeeServiceTest {
     }
     
     @Test
-    @DisplayName("save returns saved employee when successful")
+    @DisplayName("findAllByIdOrThrowsNotFoundException returns found employees when all ids exist")
     @Order(6)
+    void findAllByIdOrThrowsNotFoundException_ReturnsFoundEmployees_WhenAllIdsExist() {
+        List<Employee> expectedResponse = employeeList.subList(0, 2);
+        Set<Long> ids = Set.of(1L, 2L);
+
+        BDDMockito.when(repository.findAllByIdIn(ids)).thenReturn(expectedResponse);
+
+        List<Employee> response = service.findAllByIdOrThrowsNotFoundException(ids);
+
+        Assertions.assertThat(response)
+                .isNotNull()
+                .containsExactlyElementsOf(expectedResponse);
+    }
+
+    @Test
+    @DisplayName("findAllByIdOrThrowsNotFoundException throws NotFoundException when some id is not found")
+    @Order(7)
+    void findAllByIdOrThrowsNotFoundException_ThrowsNotFoundException_WhenSomeIdIsNotFound() {
+        Long randomId = 4445511L;
+        Set<Long> ids = Set.of(1L, randomId);
+
+        BDDMockito.when(repository.findAllByIdIn(ids)).thenReturn(List.of(employeeList.getFirst()));
+
+        Assertions.assertThatThrownBy(() -> service.findAllByIdOrThrowsNotFoundException(ids))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Employee with id '%s' not Found".formatted(randomId));
+    }
+
+    @Test
+    @DisplayName("save returns saved employee when successful")
+    @Order(8)
     void save_ReturnsSavedEmployee_WhenSuccessful() {
         Person personToSave = PersonUtils.newPersonToSave();
         Person personSaved = PersonUtils.newPersonSaved();
@@ -167,7 +203,7 @@ class EmployeeServiceTest {
 
     @Test
     @DisplayName("save throws NotFoundException when given category does not exists")
-    @Order(7)
+    @Order(9)
     void save_ThrowsNotFoundException_WhenGivenCategoryNotExists() {
         long randomCategoryId = 999L;
         EmployeePostRequest employeePostRequest = EmployeeUtils.newEmployeePostRequest().withCategoryId(randomCategoryId);
@@ -180,7 +216,7 @@ class EmployeeServiceTest {
 
     @Test
     @DisplayName("save throws BadRequestException when the phone already exists")
-    @Order(8)
+    @Order(10)
     void save_ThrowsBadRequestException_WhenThePhoneAlreadyExists() {
         Person personToSave = PersonUtils.newPersonToSave().withId(null);
         EmployeePostRequest employeePostRequest = EmployeeUtils.newEmployeePostRequest();
@@ -196,7 +232,7 @@ class EmployeeServiceTest {
 
     @Test
     @DisplayName("update updates employee when successful")
-    @Order(9)
+    @Order(11)
     void update_UpdatesEmployee_WhenSuccessful() {
         Employee employeeNotUpdated = employeeList.getFirst();
 
@@ -218,7 +254,7 @@ class EmployeeServiceTest {
 
     @Test
     @DisplayName("update throws BadRequestException when the url id does not match the request body id")
-    @Order(10)
+    @Order(12)
     void update_ThrowsBadRequestException_WhenTheUrlIdDoesNotMatchTheRequestBodyId () {
         EmployeePutRequest putRequest = EmployeeUtils.newEmployeePutRequest();
         Long randomId = 999L;
@@ -230,7 +266,7 @@ class EmployeeServiceTest {
 
     @Test
     @DisplayName("update throws NotFoundException when employee is not found")
-    @Order(11)
+    @Order(13)
     void update_ThrowsNotFoundException_WhenEmployeeIsNotFound() {
         long randomId = 999L;
         EmployeePutRequest putRequest = EmployeeUtils.newEmployeePutRequest().withId(randomId);
@@ -245,7 +281,7 @@ class EmployeeServiceTest {
 
     @Test
     @DisplayName("update throws NotFoundException when the category is not found")
-    @Order(12)
+    @Order(14)
     void update_ThrowsNotFoundException_WhenTheCategoryIsNotFound() {
         Employee employeeNotUpdated = employeeList.getFirst();
         Long randomCategoryId = 999L;
@@ -260,7 +296,7 @@ class EmployeeServiceTest {
 
     @Test
     @DisplayName("deleteById removes employee when successful")
-    @Order(13)
+    @Order(15)
     void deleteById_RemovesEmployee_WhenSuccessful() {
         Employee employeeToDelete = employeeList.getFirst();
         Long idToDelete = employeeToDelete.getId();
@@ -274,7 +310,7 @@ class EmployeeServiceTest {
 
     @Test
     @DisplayName("deleteById throws NotFoundException when given id is not found")
-    @Order(14)
+    @Order(16)
     void deleteById_ThrowsNotFoundException_WhenGivenIdIsNotFound() {
         Long randomId = 15512366L;
 
@@ -0,0 +1,104 @@
+package com.branches.service;
+
+import com.branches.exception.BadRequestException;
+import com.branches.exception.NotFoundException;
+import com.branches.model.Employee;
+import com.branches.model.Money;
+import com.branches.repository.EmployeeDayUtilization;
+import com.branches.repository.RepairEmployeeRepository;
+import com.branches.response.EmployeeUtilizationGetResponse;
+import com.branches.response.EmployeeUtilizationResponse;
+import com.branches.response.WeekUtilizationResponse;
+import com.branches.utils.EmployeeUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class EmployeeUtilizationServiceTest {
+    private static final LocalDate FROM = LocalDate.of(2025, 2, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 2, 28);
+    @InjectMocks
+    private EmployeeUtilizationService service;
+    @Mock
+    private RepairEmployeeRepository repository;
+    @Mock
+    private EmployeeService employeeService;
+
+    @Test
+    @DisplayName("findAll returns the utilization of every employee in the range")
+    @Order(1)
+    void findAll_ReturnsTheUtilizationOfEveryEmployeeInTheRange() {
+        List<EmployeeUtilizationResponse> utilizations = List.of(new EmployeeUtilizationResponse(1L, "Marcus", "Branches", "Mecânico", 6L, Money.of(300), 3L));
+
+        BDDMockito.when(repository.findAllUtilizationsByEndDateBetween(FROM, TO)).thenReturn(utilizations);
+
+        List<EmployeeUtilizationResponse> response = service.findAll(FROM, TO);
+
+        Assertions.assertThat(response).isEqualTo(utilizations);
+    }
+
+    @Test
+    @DisplayName("findByEmployeeId sums the days of each week starting on monday")
+    @Order(2)
+    void findByEmployeeId_SumsTheDaysOfEachWeekStartingOnMonday() {
+        Employee employee = EmployeeUtils.newEmployeeList().getFirst();
+        Long employeeId = employee.getId();
+
+        BDDMockito.when(employeeService.findByIdOrThrowsNotFoundException(employeeId)).thenReturn(employee);
+        BDDMockito.when(repository.findAllDayUtilizationsByEmployeeIdAndEndDateBetween(employeeId, FROM, TO)).thenReturn(List.of(
+                new EmployeeDayUtilization(LocalDate.of(2025, 2, 10), 5L, BigDecimal.valueOf(250), 2L),
+                new EmployeeDayUtilization(LocalDate.of(2025, 2, 16), 1L, BigDecimal.valueOf(50), 1L),
+                new EmployeeDayUtilization(LocalDate.of(2025, 2, 17), 8L, BigDecimal.valueOf(400), 1L)
+        ));
+
+        EmployeeUtilizationGetResponse response = service.findByEmployeeId(employeeId, FROM, TO);
+
+        Assertions.assertThat(response.getName()).isEqualTo("Marcus");
+        Assertions.assertThat(response.getCategory()).isEqualTo("Mecânico");
+        Assertions.assertThat(response.getHoursWorked()).isEqualTo(14L);
+        Assertions.assertThat(response.getTotalValue()).isEqualTo(Money.of(700));
+        Assertions.assertThat(response.getRepairsCount()).isEqualTo(4L);
+        Assertions.assertThat(response.getWeeks())
+                .extracting(WeekUtilizationResponse::getWeekStart, WeekUtilizationResponse::getHoursWorked, WeekUtilizationResponse::getTotalValue, WeekUtilizationResponse::getRepairsCount)
+                .containsExactly(
+                        Assertions.tuple(LocalDate.of(2025, 2, 10), 6L, Money.of(300), 3L),
+                        Assertions.tuple(LocalDate.of(2025, 2, 17), 8L, Money.of(400), 1L)
+                );
+    }
+
+    @Test
+    @DisplayName("findByEmployeeId throws NotFoundException when employee is not found")
+    @Order(3)
+    void findByEmployeeId_ThrowsNotFoundException_WhenEmployeeIsNotFound() {
+        Long randomId = 25256595L;
+
+        BDDMockito.when(employeeService.findByIdOrThrowsNotFoundException(randomId)).thenThrow(new NotFoundException("Employee with id '%s' not Found".formatted(randomId)));
+
+        Assertions.assertThatThrownBy(() -> service.findByEmployeeId(randomId, FROM, TO))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Employee with id '%s' not Found".formatted(randomId));
+
+        BDDMockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("findAll throws BadRequestException when 'from' is after 'to'")
+    @Order(4)
+    void findAll_ThrowsBadRequestException_WhenFromIsAfterTo() {
+        Assertions.assertThatThrownBy(() -> service.findAll(TO, FROM))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'from' must not be after 'to'");
+
+        BDDMockito.verifyNoInteractions(repository);
+    }
+}
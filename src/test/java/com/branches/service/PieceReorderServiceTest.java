@@ -0,0 +1,89 @@
+package com.branches.service;
+
+import com.branches.exception.BadRequestException;
+import com.branches.model.Piece;
+import com.branches.reorder.PieceReorderEngine;
+import com.branches.reorder.StockoutForecast;
+import com.branches.repository.PieceRepository;
+import com.branches.response.PieceReorderSuggestionResponse;
+import com.branches.utils.PieceUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PieceReorderServiceTest {
+    private PieceReorderService service;
+    @Mock
+    private PieceReorderEngine reorderEngine;
+    @Mock
+    private PieceRepository repository;
+    private List<Piece> pieceList;
+
+    @BeforeEach
+    void init() {
+        service = new PieceReorderService(reorderEngine, repository, Duration.ofDays(14), Duration.ofDays(30));
+        pieceList = PieceUtils.newPieceList();
+    }
+
+    @Test
+    @DisplayName("findSuggestions returns the pieces closest to running out with the quantity to cover the period")
+    @Order(1)
+    void findSuggestions_ReturnsThePiecesClosestToRunningOut_WithTheQuantityToCoverThePeriod() {
+        List<StockoutForecast> forecasts = List.of(
+                new StockoutForecast(2L, 50, 10.004, 4.998),
+                new StockoutForecast(1L, 50, 5, 10)
+        );
+
+        BDDMockito.when(reorderEngine.soonest(20, 14)).thenReturn(forecasts);
+        BDDMockito.when(repository.findAllById(List.of(2L, 1L))).thenReturn(List.of(pieceList.getFirst(), pieceList.get(1)));
+
+        List<PieceReorderSuggestionResponse> response = service.findSuggestions(20);
+
+        Assertions.assertThat(response).containsExactly(
+                PieceReorderSuggestionResponse.builder().pieceId(2L).name("Filtro de ar").stock(50).dailyConsumption(10.0).daysUntilStockout(5.0).suggestedQuantity(251).build(),
+                PieceReorderSuggestionResponse.builder().pieceId(1L).name("Óleo de motor").stock(50).dailyConsumption(5.0).daysUntilStockout(10.0).suggestedQuantity(100).build()
+        );
+    }
+
+    @Test
+    @DisplayName("findSuggestions skips pieces that were deleted meanwhile")
+    @Order(2)
+    void findSuggestions_SkipsPiecesThatWereDeletedMeanwhile() {
+        BDDMockito.when(reorderEngine.soonest(20, 14)).thenReturn(List.of(new StockoutForecast(99L, 1, 1, 1)));
+        BDDMockito.when(repository.findAllById(List.of(99L))).thenReturn(List.of());
+
+        Assertions.assertThat(service.findSuggestions(20)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findSuggestions returns an empty list without querying the pieces when nothing is running out")
+    @Order(3)
+    void findSuggestions_ReturnsEmptyListWithoutQueryingThePieces_WhenNothingIsRunningOut() {
+        BDDMockito.when(reorderEngine.soonest(20, 14)).thenReturn(List.of());
+
+        Assertions.assertThat(service.findSuggestions(20)).isEmpty();
+
+        BDDMockito.verify(repository, BDDMockito.never()).findAllById(ArgumentMatchers.anyIterable());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 101})
+    @DisplayName("findSuggestions throws BadRequestException when the limit is out of range")
+    @Order(4)
+    void findSuggestions_ThrowsBadRequestException_WhenTheLimitIsOutOfRange(int limit) {
+        Assertions.assertThatThrownBy(() -> service.findSuggestions(limit))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'limit' must be between 1 and 100");
+    }
+}
@@ -0,0 +1,264 @@
+package com.branches.service;
+
+import com.branches.config.CacheConfig;
+import com.branches.exception.BadRequestException;
+import com.branches.model.Money;
+import com.branches.model.Piece;
+import com.branches.model.PieceReservation;
+import com.branches.model.Repair;
+import com.branches.repository.EntityIdGenerator;
+import com.branches.repository.PieceRepository;
+import com.branches.repository.PieceReservationRepository;
+import com.branches.repository.RepairRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CacheConfig.class, PieceReservationService.class, EntityIdGenerator.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PieceReservationServiceTest {
+    @Autowired
+    private PieceReservationService service;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private PieceReservationRepository repository;
+    @Autowired
+    private PieceRepository pieceRepository;
+    @Autowired
+    private RepairRepository repairRepository;
+    @Autowired
+    private EntityIdGenerator idGenerator;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void init() {
+        service.load();
+    }
+
+    @Test
+    @DisplayName("reserve holds the quantity until the configured expiration when there is enough stock")
+    @Order(1)
+    void reserve_HoldsTheQuantityUntilTheConfiguredExpiration_WhenThereIsEnoughStock() {
+        Piece oil = entityManager.persist(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Repair repair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+
+        PieceReservation response = service.reserve(repair, oil, 4);
+
+        Assertions.assertThat(response.getQuantity()).isEqualTo(4);
+        Assertions.assertThat(response.getExpiresAt()).isBetween(LocalDateTime.now().plusHours(47), LocalDateTime.now().plusHours(49));
+        Assertions.assertThat(pieceRepository.findById(oil.getId())).get().extracting(Piece::getStock).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("reserve adds the quantity to the existing reservation of the repair")
+    @Order(2)
+    void reserve_AddsTheQuantityToTheExistingReservationOfTheRepair() {
+        Piece oil = entityManager.persist(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Repair repair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+
+        service.reserve(repair, oil, 4);
+        PieceReservation response = service.reserve(repair, oil, 3);
+
+        Assertions.assertThat(response.getQuantity()).isEqualTo(7);
+        Assertions.assertThat(service.findAllActiveByRepair(repair)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("reserve throws BadRequestException when the stock left is reserved by another repair")
+    @Order(3)
+    void reserve_ThrowsBadRequestException_WhenTheStockLeftIsReservedByAnotherRepair() {
+        Piece oil = entityManager.persist(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Repair repair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+        Repair otherRepair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+
+        service.reserve(repair, oil, 4);
+
+        Assertions.assertThatThrownBy(() -> service.reserve(otherRepair, oil, 7))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'Óleo de motor' has insufficient stock. Available: 6, Requested: 7");
+    }
+
+    @Test
+    @DisplayName("consumeAll consumes the reservation of the repair up to the given quantity and keeps the reservations of other repairs")
+    @Order(4)
+    void consumeAll_ConsumesTheReservationOfTheRepairUpToTheGivenQuantity_AndKeepsTheReservationsOfOtherRepairs() {
+        Piece oil = entityManager.persist(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Piece filter = entityManager.persist(Piece.builder().name("Filtro de ar").unitValue(Money.of(80)).stock(10).build());
+        Repair repair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+        Repair otherRepair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+
+        service.reserve(repair, oil, 3);
+        service.reserve(repair, filter, 2);
+        service.reserve(otherRepair, oil, 4);
+
+        service.consumeAll(repair, Map.of(oil.getId(), 2, filter.getId(), 5));
+
+        Assertions.assertThat(service.findAllActiveByRepair(repair))
+                .extracting(reservation -> reservation.getPiece().getId(), PieceReservation::getQuantity)
+                .containsExactly(Assertions.tuple(oil.getId(), 1));
+        Assertions.assertThat(service.findAllActiveByRepair(otherRepair))
+                .extracting(reservation -> reservation.getPiece().getId(), PieceReservation::getQuantity)
+                .containsExactly(Assertions.tuple(oil.getId(), 4));
+    }
+
+    @Test
+    @DisplayName("findAllActiveByRepair ignores the expired reservations")
+    @Order(5)
+    void findAllActiveByRepair_IgnoresTheExpiredReservations() {
+        Piece oil = entityManager.persist(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Piece filter = entityManager.persist(Piece.builder().name("Filtro de ar").unitValue(Money.of(80)).stock(10).build());
+        Repair repair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+
+        repository.upsertIfAvailable(idGenerator.nextId(PieceReservation.class), repair.getId(), oil.getId(), 2, LocalDateTime.now().minusMinutes(1), LocalDateTime.now());
+        repository.upsertIfAvailable(idGenerator.nextId(PieceReservation.class), repair.getId(), filter.getId(), 3, LocalDateTime.now().plusHours(1), LocalDateTime.now());
+
+        List<PieceReservation> response = service.findAllActiveByRepair(repair);
+
+        Assertions.assertThat(response)
+                .extracting(reservation -> reservation.getPiece().getId())
+                .containsExactly(filter.getId());
+    }
+
+    @Test
+    @DisplayName("load holds the quantities already reserved in the table")
+    @Order(6)
+    void load_HoldsTheQuantitiesAlreadyReservedInTheTable() {
+        Piece oil = entityManager.persist(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Repair repair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+        Repair otherRepair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+
+        repository.upsertIfAvailable(idGenerator.nextId(PieceReservation.class), repair.getId(), oil.getId(), 8, LocalDateTime.now().plusHours(1), LocalDateTime.now());
+
+        service.load();
+
+        Assertions.assertThatThrownBy(() -> service.reserve(otherRepair, oil, 3))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Available: 2, Requested: 3");
+    }
+
+    @Test
+    @DisplayName("reserve releases the held quantity when the transaction rolls back")
+    @Order(7)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void reserve_ReleasesTheHeldQuantity_WhenTheTransactionRollsBack() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Piece oil = pieceRepository.save(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Repair repair = repairRepository.save(Repair.builder().totalValue(Money.ZERO).build());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            service.reserve(repair, oil, 8);
+            status.setRollbackOnly();
+        });
+        PieceReservation response = transactionTemplate.execute(status -> service.reserve(repair, oil, 10));
+
+        transactionTemplate.executeWithoutResult(status -> service.removeRepair(repair));
+        repairRepository.deleteById(repair.getId());
+        pieceRepository.deleteById(oil.getId());
+
+        Assertions.assertThat(response.getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("removeExpired deletes the expired reservations and releases their quantity")
+    @Order(8)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void removeExpired_DeletesTheExpiredReservations_AndReleasesTheirQuantity() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        PieceReservationService expiringService = new PieceReservationService(repository, idGenerator, Duration.ofSeconds(-1));
+        Piece oil = pieceRepository.save(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Repair repair = repairRepository.save(Repair.builder().totalValue(Money.ZERO).build());
+        Repair otherRepair = repairRepository.save(Repair.builder().totalValue(Money.ZERO).build());
+
+        transactionTemplate.executeWithoutResult(status -> expiringService.reserve(repair, oil, 10));
+        transactionTemplate.executeWithoutResult(status -> expiringService.removeExpired());
+        PieceReservation response = transactionTemplate.execute(status -> expiringService.reserve(otherRepair, oil, 10));
+        long remainingReservations = repository.count();
+
+        transactionTemplate.executeWithoutResult(status -> expiringService.removeRepair(otherRepair));
+        repairRepository.deleteAllById(List.of(repair.getId(), otherRepair.getId()));
+        pieceRepository.deleteById(oil.getId());
+
+        Assertions.assertThat(response.getQuantity()).isEqualTo(10);
+        Assertions.assertThat(remainingReservations).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("removeExpired syncs the reserved quantities with the reservations made and removed through other instances")
+    @Order(9)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void removeExpired_SyncsTheReservedQuantities_WithTheReservationsMadeAndRemovedThroughOtherInstances() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        PieceReservationService instance = new PieceReservationService(repository, idGenerator, Duration.ofSeconds(-1));
+        PieceReservationService otherInstance = new PieceReservationService(repository, idGenerator, Duration.ofHours(1));
+        Piece oil = pieceRepository.save(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Repair repair = repairRepository.save(Repair.builder().totalValue(Money.ZERO).build());
+        Repair otherRepair = repairRepository.save(Repair.builder().totalValue(Money.ZERO).build());
+        Repair thirdRepair = repairRepository.save(Repair.builder().totalValue(Money.ZERO).build());
+
+        transactionTemplate.executeWithoutResult(status -> instance.reserve(repair, oil, 10));
+        transactionTemplate.executeWithoutResult(status -> otherInstance.removeExpired());
+        transactionTemplate.executeWithoutResult(status -> otherInstance.reserve(otherRepair, oil, 8));
+        transactionTemplate.executeWithoutResult(status -> instance.removeExpired());
+
+        Throwable response = Assertions.catchThrowable(() -> transactionTemplate.executeWithoutResult(status -> instance.reserve(thirdRepair, oil, 3)));
+
+        transactionTemplate.executeWithoutResult(status -> otherInstance.removeRepair(otherRepair));
+        repairRepository.deleteAllById(List.of(repair.getId(), otherRepair.getId(), thirdRepair.getId()));
+        pieceRepository.deleteById(oil.getId());
+
+        Assertions.assertThat(response)
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Available: 2, Requested: 3");
+    }
+
+    @Test
+    @DisplayName("reserve throws BadRequestException when the table has less available stock than the quantities in memory and the given piece")
+    @Order(10)
+    void reserve_ThrowsBadRequestException_WhenTheTableHasLessAvailableStockThanTheQuantitiesInMemoryAndTheGivenPiece() {
+        Piece oil = entityManager.persist(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Repair repair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+        Repair otherRepair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+
+        new PieceReservationService(repository, idGenerator, Duration.ofHours(1)).reserve(repair, oil, 6);
+        Piece staleOil = oil.withStock(20);
+
+        Assertions.assertThatThrownBy(() -> service.reserve(otherRepair, staleOil, 5))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'Óleo de motor' has insufficient stock. Available: 4, Requested: 5");
+        Assertions.assertThat(service.findAllActiveByRepair(otherRepair)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reserve renews an expired reservation of the repair with the new quantity only")
+    @Order(11)
+    void reserve_RenewsAnExpiredReservationOfTheRepair_WithTheNewQuantityOnly() {
+        Piece oil = entityManager.persist(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(10).build());
+        Repair repair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+
+        repository.upsertIfAvailable(idGenerator.nextId(PieceReservation.class), repair.getId(), oil.getId(), 8, LocalDateTime.now().minusMinutes(1), LocalDateTime.now());
+
+        PieceReservation response = service.reserve(repair, oil, 5);
+
+        Assertions.assertThat(response.getQuantity()).isEqualTo(5);
+        Assertions.assertThat(response.getExpiresAt()).isAfter(LocalDateTime.now());
+    }
+}
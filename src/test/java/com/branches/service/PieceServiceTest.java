@@ -4,12 +4,16 @@ import com.branches.exception.BadRequestException;
 import com.branches.exception.NotFoundException;
 import com.branches.mapper.PieceMapper;
 import com.branches.model.Piece;
+import com.branches.reorder.PieceReorderEngine;
+import com.branches.repository.PieceConsumptionRepository;
 import com.branches.repository.PieceRepository;
 import com.branches.request.PiecePostRequest;
 import com.branches.request.PiecePostStockRequest;
 import com.branches.response.PieceGetResponse;
 import com.branches.response.PiecePostResponse;
+import com.branches.search.PieceSearchIndex;
 import com.branches.utils.PieceUtils;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,8 +23,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +37,15 @@ class PieceServiceTest {
     @Mock
     private PieceRepository repository;
     @Mock
+    private PieceConsumptionRepository consumptionRepository;
+    @Mock
     private PieceMapper mapper;
+    @Mock
+    private PieceSearchIndex searchIndex;
+    @Mock
+    private PieceReorderEngine reorderEngine;
+    @Mock
+    private EntityManager entityManager;
     private List<Piece> pieceList;
     private List<PieceGetResponse> pieceGetResponseList;
 
@@ -65,8 +79,10 @@ class PieceServiceTest {
         List<PieceGetResponse> expectedResponse = List.of(pieceToBeFound);
 
         List<Piece> expectedResponseRepository = List.of(pieceList.getFirst());
+        List<Long> rankedIds = List.of(expectedResponseRepository.getFirst().getId());
 
-        BDDMockito.when(repository.findAllByNameContaining(nameToSearch)).thenReturn(expectedResponseRepository);
+        BDDMockito.when(searchIndex.search(nameToSearch)).thenReturn(rankedIds);
+        BDDMockito.when(repository.findAllById(rankedIds)).thenReturn(expectedResponseRepository);
         BDDMockito.when(mapper.toPieceGetResponseList(ArgumentMatchers.anyList())).thenReturn(expectedResponse);
 
         List<PieceGetResponse> response = service.findAll(nameToSearch);
@@ -83,7 +99,7 @@ class PieceServiceTest {
     void findAll_ReturnsEmptyList_WhenGivenArgumentIsNotFound() {
         String randomName = "name invalid";
 
-        BDDMockito.when(repository.findAllByNameContaining(randomName)).thenReturn(Collections.emptyList());
+        BDDMockito.when(searchIndex.search(randomName)).thenReturn(Collections.emptyList());
         BDDMockito.when(mapper.toPieceGetResponseList(ArgumentMatchers.anyList())).thenReturn(Collections.emptyList());
 
         List<PieceGetResponse> response = service.findAll(randomName);
@@ -143,6 +159,9 @@ class PieceServiceTest {
         Assertions.assertThat(response)
                 .isNotNull()
                 .isEqualTo(expectedResponse);
+
+        BDDMockito.verify(searchIndex).putAfterCommit(PieceToSave.getId(), PieceToSave.getName());
+        BDDMockito.verify(reorderEngine).putAfterCommit(PieceToSave.getId(), PieceToSave.getStock(), PieceToSave.getStockVersion());
     }
 
     @Test
@@ -158,10 +177,10 @@ class PieceServiceTest {
         PiecePostStockRequest postStockRequest = PiecePostStockRequest.builder().quantity(quantityToAdd).build();
         PiecePostResponse postResponse = PiecePostResponse.builder().id(pieceId).name(pieceToUpdate.getName()).stock(newStock).unitValue(pieceToUpdate.getUnitValue()).build();
 
-        Piece pieceUpdated = pieceToUpdate.withStock(newStock);
+        Piece pieceUpdated = pieceToUpdate.withStock(newStock).withStockVersion(1);
 
-        BDDMockito.when(repository.findById(pieceId)).thenReturn(Optional.of(pieceToUpdate));
-        BDDMockito.when(repository.save(pieceUpdated)).thenReturn(pieceUpdated);
+        BDDMockito.when(repository.addsStock(pieceId, quantityToAdd)).thenReturn(1);
+        BDDMockito.when(repository.findById(pieceId)).thenReturn(Optional.of(pieceUpdated));
         BDDMockito.when(mapper.toPiecePostResponse(pieceUpdated)).thenReturn(postResponse);
 
         PiecePostResponse response = service.addStock(pieceId, postStockRequest);
@@ -169,6 +188,10 @@ class PieceServiceTest {
         Assertions.assertThat(response)
                 .isNotNull()
                 .isEqualTo(postResponse);
+
+        BDDMockito.verify(repository, BDDMockito.never()).save(ArgumentMatchers.any(Piece.class));
+        BDDMockito.verify(entityManager).refresh(pieceUpdated);
+        BDDMockito.verify(reorderEngine).putAfterCommit(pieceId, newStock, 1);
     }
 
     @Test
@@ -179,7 +202,7 @@ class PieceServiceTest {
 
         PiecePostStockRequest postStockRequest = PiecePostStockRequest.builder().quantity(10).build();
 
-        BDDMockito.when(repository.findById(randomPieceId)).thenReturn(Optional.empty());
+        BDDMockito.when(repository.addsStock(randomPieceId, 10)).thenReturn(0);
 
         Assertions.assertThatThrownBy(() -> service.addStock(randomPieceId, postStockRequest))
                 .isInstanceOf(NotFoundException.class)
@@ -191,18 +214,23 @@ class PieceServiceTest {
     @Order(9)
     void removesStock_ReturnsPieceWithRemovedStock_WhenSuccessful() {
         Piece pieceToRemoveStock = pieceList.getFirst();
+        Long pieceId = pieceToRemoveStock.getId();
         int quantityToRemove = 5;
 
-        Piece expectedResponse = pieceList.getFirst();
-        expectedResponse.setStock(expectedResponse.getStock() - quantityToRemove);
+        Piece expectedResponse = pieceList.getFirst().withStock(pieceToRemoveStock.getStock() - quantityToRemove).withStockVersion(1);
 
-        BDDMockito.when(repository.save(expectedResponse)).thenReturn(expectedResponse);
+        BDDMockito.when(repository.removesStock(ArgumentMatchers.eq(pieceId), ArgumentMatchers.eq(quantityToRemove), ArgumentMatchers.isNull(), ArgumentMatchers.any())).thenReturn(1);
+        BDDMockito.when(repository.findById(pieceId)).thenReturn(Optional.of(expectedResponse));
 
         Piece response = service.removesStock(pieceToRemoveStock, quantityToRemove);
 
         Assertions.assertThat(response)
                 .isNotNull()
                 .isEqualTo(expectedResponse);
+
+        BDDMockito.verify(entityManager).refresh(expectedResponse);
+        BDDMockito.verify(reorderEngine).recordConsumptionAfterCommit(pieceId, quantityToRemove, expectedResponse.getStock(), 1);
+        BDDMockito.verify(consumptionRepository).upsert(LocalDate.now(), pieceId, quantityToRemove);
     }
 
     @Test
@@ -210,18 +238,80 @@ class PieceServiceTest {
     @Order(10)
     void removesStock_ThrowsBadRequestException_WhenQuantityIsGreaterThanStock() {
         Piece pieceToRemoveStock = pieceList.getFirst();
+        Long pieceId = pieceToRemoveStock.getId();
         int quantityToRemove = 555555;
 
-        Piece expectedResponse = pieceList.getFirst();
-        expectedResponse.setStock(expectedResponse.getStock() - quantityToRemove);
+        BDDMockito.when(repository.removesStock(ArgumentMatchers.eq(pieceId), ArgumentMatchers.eq(quantityToRemove), ArgumentMatchers.isNull(), ArgumentMatchers.any())).thenReturn(0);
+        BDDMockito.when(repository.findById(pieceId)).thenReturn(Optional.of(pieceToRemoveStock));
 
         Assertions.assertThatThrownBy(() -> service.removesStock(pieceToRemoveStock, quantityToRemove))
-                .isInstanceOf(BadRequestException.class);
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'%s' has insufficient stock. Available: %s, Requested: %s".formatted(pieceToRemoveStock.getName(), pieceToRemoveStock.getStock(), quantityToRemove));
+
+        BDDMockito.verifyNoInteractions(consumptionRepository);
     }
 
     @Test
-    @DisplayName("deleteById removes piece when successful")
+    @DisplayName("removesStock returns the pieces with the removed stock when all pieces have enough stock")
     @Order(11)
+    void removesStock_ReturnsPiecesWithRemovedStock_WhenAllPiecesHaveEnoughStock() {
+        Map<Long, Integer> quantityByPieceId = Map.of(1L, 5, 2L, 3);
+
+        List<Piece> expectedResponse = List.of(pieceList.getFirst().withStock(45).withStockVersion(1), pieceList.get(1).withStock(47).withStockVersion(1));
+
+        BDDMockito.when(repository.removesStock(ArgumentMatchers.eq(1L), ArgumentMatchers.eq(5), ArgumentMatchers.isNull(), ArgumentMatchers.any())).thenReturn(1);
+        BDDMockito.when(repository.removesStock(ArgumentMatchers.eq(2L), ArgumentMatchers.eq(3), ArgumentMatchers.isNull(), ArgumentMatchers.any())).thenReturn(1);
+        BDDMockito.when(repository.findAllById(quantityByPieceId.keySet())).thenReturn(expectedResponse);
+
+        List<Piece> response = service.removesStock(quantityByPieceId);
+
+        Assertions.assertThat(response)
+                .isNotNull()
+                .containsExactlyElementsOf(expectedResponse);
+
+        BDDMockito.verify(entityManager).refresh(expectedResponse.getFirst());
+        BDDMockito.verify(entityManager).refresh(expectedResponse.get(1));
+        BDDMockito.verify(reorderEngine).recordConsumptionAfterCommit(1L, 5, 45, 1);
+        BDDMockito.verify(reorderEngine).recordConsumptionAfterCommit(2L, 3, 47, 1);
+        BDDMockito.verify(consumptionRepository).upsert(LocalDate.now(), 1L, 5);
+        BDDMockito.verify(consumptionRepository).upsert(LocalDate.now(), 2L, 3);
+    }
+
+    @Test
+    @DisplayName("removesStock throws BadRequestException when some piece has insufficient stock")
+    @Order(12)
+    void removesStock_ThrowsBadRequestException_WhenSomePieceHasInsufficientStock() {
+        Piece pieceToRemoveStock = pieceList.getFirst();
+        Long pieceId = pieceToRemoveStock.getId();
+        int quantityToRemove = 555555;
+
+        BDDMockito.when(repository.removesStock(ArgumentMatchers.eq(pieceId), ArgumentMatchers.eq(quantityToRemove), ArgumentMatchers.isNull(), ArgumentMatchers.any())).thenReturn(0);
+        BDDMockito.when(repository.findById(pieceId)).thenReturn(Optional.of(pieceToRemoveStock));
+
+        Assertions.assertThatThrownBy(() -> service.removesStock(Map.of(pieceId, quantityToRemove)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'%s' has insufficient stock. Available: %s, Requested: %s".formatted(pieceToRemoveStock.getName(), pieceToRemoveStock.getStock(), quantityToRemove));
+
+        BDDMockito.verify(repository, BDDMockito.never()).findAllById(ArgumentMatchers.anyIterable());
+    }
+
+    @Test
+    @DisplayName("removesStock throws NotFoundException when some piece is not found")
+    @Order(13)
+    void removesStock_ThrowsNotFoundException_WhenSomePieceIsNotFound() {
+        Long randomPieceId = 4554444L;
+
+        BDDMockito.when(repository.removesStock(ArgumentMatchers.eq(randomPieceId), ArgumentMatchers.eq(1), ArgumentMatchers.isNull(), ArgumentMatchers.any())).thenReturn(0);
+        BDDMockito.when(repository.findById(randomPieceId)).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> service.removesStock(Map.of(randomPieceId, 1)))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Piece with id '%s' not Found".formatted(randomPieceId));
+    }
+
+    @Test
+    @DisplayName("deleteById removes piece when successful")
+    @Order(14)
     void deleteById_RemovesPiece_WhenSuccessful() {
         Piece pieceToDelete = pieceList.getFirst();
         Long idToDelete = pieceToDelete.getId();
@@ -231,11 +321,14 @@ class PieceServiceTest {
 
         Assertions.assertThatCode(() -> service.deleteById(idToDelete))
                 .doesNotThrowAnyException();
+
+        BDDMockito.verify(searchIndex).removeAfterCommit(idToDelete);
+        BDDMockito.verify(reorderEngine).removeAfterCommit(idToDelete);
     }
 
     @Test
     @DisplayName("deleteById throws NotFoundException when given id is not found")
-    @Order(12)
+    @Order(15)
     void deleteById_ThrowsNotFoundException_WhenGivenIdIsNotFound() {
         Long randomId = 15512366L;
 
@@ -245,4 +338,24 @@ class PieceServiceTest {
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Piece with id '%s' not Found".formatted(randomId));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("removesStock reports the stock left after the reservations of other repairs when the rest is reserved")
+    @Order(16)
+    void removesStock_ReportsTheStockLeftAfterTheReservationsOfOtherRepairs_WhenTheRestIsReserved() {
+        Piece pieceToRemoveStock = pieceList.getFirst();
+        Long pieceId = pieceToRemoveStock.getId();
+        Long repairId = 7L;
+        int reservedByOthers = pieceToRemoveStock.getStock() - 2;
+
+        BDDMockito.when(repository.removesStock(ArgumentMatchers.eq(pieceId), ArgumentMatchers.eq(3), ArgumentMatchers.eq(repairId), ArgumentMatchers.any())).thenReturn(0);
+        BDDMockito.when(repository.findById(pieceId)).thenReturn(Optional.of(pieceToRemoveStock));
+        BDDMockito.when(repository.findReservedByOthers(ArgumentMatchers.eq(pieceId), ArgumentMatchers.eq(repairId), ArgumentMatchers.any())).thenReturn(reservedByOthers);
+
+        Assertions.assertThatThrownBy(() -> service.removesStock(pieceToRemoveStock, 3, repairId))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'%s' has insufficient stock. Available: 2, Requested: 3".formatted(pieceToRemoveStock.getName()));
+
+        BDDMockito.verify(reorderEngine, BDDMockito.never()).recordConsumptionAfterCommit(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt(), ArgumentMatchers.anyLong());
+    }
+}
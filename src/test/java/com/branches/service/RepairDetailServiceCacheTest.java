@@ -0,0 +1,273 @@
+package com.branches.service;
+
+import com.branches.config.CacheConfig;
+import com.branches.exception.NotFoundException;
+import com.branches.mapper.ClientMapper;
+import com.branches.mapper.EmployeeMapper;
+import com.branches.mapper.PersonMapper;
+import com.branches.mapper.RepairEmployeeMapper;
+import com.branches.mapper.RepairMapper;
+import com.branches.mapper.PieceReservationMapper;
+import com.branches.mapper.RepairPieceMapper;
+import com.branches.mapper.VehicleMapper;
+import com.branches.model.Client;
+import com.branches.model.Employee;
+import com.branches.model.Repair;
+import com.branches.model.RepairEmployee;
+import com.branches.model.RepairPiece;
+import com.branches.model.Person;
+import com.branches.model.Vehicle;
+import com.branches.repository.ClientRepository;
+import com.branches.repository.EmployeeRepository;
+import com.branches.repository.EntityIdGenerator;
+import com.branches.repository.RepairEmployeeRepository;
+import com.branches.repository.RepairPieceRepository;
+import com.branches.repository.RepairRepository;
+import com.branches.repository.VehicleRepository;
+import com.branches.request.ClientPutRequest;
+import com.branches.request.EmployeePutRequest;
+import com.branches.response.RepairDetailGetResponse;
+import com.branches.search.ClientSearchIndex;
+import com.branches.search.EmployeeSearchIndex;
+import com.branches.utils.CategoryUtils;
+import com.branches.utils.ClientUtils;
+import com.branches.utils.EmployeeUtils;
+import com.branches.utils.PersonUtils;
+import com.branches.utils.RepairEmployeeUtils;
+import com.branches.utils.RepairPieceUtils;
+import com.branches.utils.RepairUtils;
+import com.branches.utils.VehicleUtils;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+@SpringJUnitConfig
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RepairDetailServiceCacheTest {
+    @Autowired
+    private RepairDetailService service;
+    @Autowired
+    private RepairService repairService;
+    @Autowired
+    private RepairPieceService repairPieceService;
+    @Autowired
+    private RepairEmployeeService repairEmployeeService;
+    @Autowired
+    private CacheManager cacheManager;
+    @MockitoBean
+    private RepairRepository repairRepository;
+    @MockitoBean
+    private RepairPieceRepository repairPieceRepository;
+    @MockitoBean
+    private RepairEmployeeRepository repairEmployeeRepository;
+    @MockitoBean
+    private RepairMapper repairMapper;
+    @MockitoBean
+    private RepairPieceMapper repairPieceMapper;
+    @MockitoBean
+    private RepairEmployeeMapper repairEmployeeMapper;
+    @MockitoBean
+    private EntityIdGenerator idGenerator;
+    @MockitoBean
+    private PieceService pieceService;
+    @Autowired
+    private ClientService clientService;
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private VehicleService vehicleService;
+    @MockitoBean
+    private ClientRepository clientRepository;
+    @MockitoBean
+    private ClientMapper clientMapper;
+    @MockitoBean
+    private ClientSearchIndex clientSearchIndex;
+    @MockitoBean
+    private EmployeeRepository employeeRepository;
+    @MockitoBean
+    private EmployeeMapper employeeMapper;
+    @MockitoBean
+    private EmployeeSearchIndex employeeSearchIndex;
+    @MockitoBean
+    private VehicleRepository vehicleRepository;
+    @MockitoBean
+    private VehicleMapper vehicleMapper;
+    @MockitoBean
+    private PersonMapper personMapper;
+    @MockitoBean
+    private PersonService personService;
+    @MockitoBean
+    private AddressService addressService;
+    @MockitoBean
+    private PhoneService phoneService;
+    @MockitoBean
+    private CategoryService categoryService;
+    @MockitoBean
+    private ClientOverviewService clientOverviewService;
+    @MockitoBean
+    private RevenueService revenueService;
+    @MockitoBean
+    private PieceReservationService pieceReservationService;
+    @MockitoBean
+    private PieceReservationMapper pieceReservationMapper;
+    @MockitoBean
+    private EntityManager entityManager;
+    private Repair repair;
+
+    @Configuration
+    @EnableCaching
+    @Import({RepairDetailService.class, RepairService.class, RepairPieceService.class, RepairEmployeeService.class, ClientService.class, EmployeeService.class, VehicleService.class})
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.REPAIR_DETAILS_CACHE);
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        cacheManager.getCache(CacheConfig.REPAIR_DETAILS_CACHE).clear();
+
+        repair = RepairUtils.newRepairList().getFirst();
+
+        BDDMockito.when(repairRepository.findById(repair.getId())).thenReturn(Optional.of(repair));
+        BDDMockito.when(repairMapper.toRepairGetResponse(repair)).thenReturn(RepairUtils.newRepairGetResponseList().getFirst());
+        BDDMockito.when(repairPieceRepository.findAllByRepair(repair)).thenReturn(RepairPieceUtils.newRepairPieceList());
+        BDDMockito.when(repairEmployeeRepository.findAllByRepair(repair)).thenReturn(RepairEmployeeUtils.newRepairEmployeeList());
+    }
+
+    @Test
+    @DisplayName("findByRepairId returns the cached detail on repeated calls")
+    @Order(1)
+    void findByRepairId_ReturnsTheCachedDetail_OnRepeatedCalls() {
+        RepairDetailGetResponse firstResponse = service.findByRepairId(repair.getId());
+        RepairDetailGetResponse secondResponse = service.findByRepairId(repair.getId());
+
+        Assertions.assertThat(secondResponse).isSameAs(firstResponse);
+        BDDMockito.verify(repairPieceRepository, BDDMockito.times(1)).findAllByRepair(repair);
+    }
+
+    @Test
+    @DisplayName("RepairPieceService.deleteByRepairIdAndPieceId evicts the cached detail of the repair")
+    @Order(2)
+    void repairPieceServiceDelete_EvictsTheCachedDetailOfTheRepair() {
+        RepairPiece repairPiece = RepairPieceUtils.newRepairPieceList().getFirst();
+        Long pieceId = repairPiece.getPiece().getId();
+
+        BDDMockito.when(pieceService.findByIdOrThrowsNotFoundException(pieceId)).thenReturn(repairPiece.getPiece());
+        BDDMockito.when(repairPieceRepository.findByRepair_IdAndPiece_Id(repair.getId(), pieceId)).thenReturn(Optional.of(repairPiece));
+        BDDMockito.when(repairRepository.updateTotalValue(ArgumentMatchers.eq(repair.getId()), ArgumentMatchers.any())).thenReturn(1);
+
+        service.findByRepairId(repair.getId());
+        repairPieceService.deleteByRepairIdAndPieceId(repair.getId(), pieceId);
+        service.findByRepairId(repair.getId());
+
+        BDDMockito.verify(repairPieceRepository, BDDMockito.times(2)).findAllByRepair(repair);
+    }
+
+    @Test
+    @DisplayName("RepairEmployeeService.deleteByRepairIdAndEmployeeId evicts the cached detail of the repair")
+    @Order(3)
+    void repairEmployeeServiceDelete_EvictsTheCachedDetailOfTheRepair() {
+        RepairEmployee repairEmployee = RepairEmployeeUtils.newRepairEmployeeList().getFirst();
+        Long employeeId = repairEmployee.getEmployee().getId();
+
+        BDDMockito.when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(repairEmployee.getEmployee()));
+        BDDMockito.when(repairEmployeeRepository.findByRepair_IdAndEmployee_Id(repair.getId(), employeeId)).thenReturn(Optional.of(repairEmployee));
+        BDDMockito.when(repairRepository.updateTotalValue(ArgumentMatchers.eq(repair.getId()), ArgumentMatchers.any())).thenReturn(1);
+
+        service.findByRepairId(repair.getId());
+        repairEmployeeService.deleteByRepairIdAndEmployeeId(repair.getId(), employeeId);
+        service.findByRepairId(repair.getId());
+
+        BDDMockito.verify(repairEmployeeRepository, BDDMockito.times(2)).findAllByRepair(repair);
+    }
+
+    @Test
+    @DisplayName("RepairService.deleteById evicts the cached detail of the repair")
+    @Order(4)
+    void repairServiceDeleteById_EvictsTheCachedDetailOfTheRepair() {
+        service.findByRepairId(repair.getId());
+        repairService.deleteById(repair.getId());
+
+        Assertions.assertThat(cacheManager.getCache(CacheConfig.REPAIR_DETAILS_CACHE).get(repair.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("findByRepairId does not cache the detail when the repair is not found")
+    @Order(5)
+    void findByRepairId_DoesNotCacheTheDetail_WhenTheRepairIsNotFound() {
+        Long randomId = 131222L;
+
+        BDDMockito.when(repairRepository.findById(randomId)).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> service.findByRepairId(randomId))
+                .isInstanceOf(NotFoundException.class);
+        Assertions.assertThat(cacheManager.getCache(CacheConfig.REPAIR_DETAILS_CACHE).get(randomId)).isNull();
+    }
+
+    @Test
+    @DisplayName("ClientService.update evicts every cached detail, since the client is embedded in its repairs")
+    @Order(6)
+    void clientServiceUpdate_EvictsEveryCachedDetail() {
+        Client client = ClientUtils.newClientList().getFirst();
+        ClientPutRequest putRequest = ClientUtils.newClientPutRequest();
+        Person personToUpdate = PersonUtils.newPersonToUpdate();
+
+        BDDMockito.when(clientRepository.findById(putRequest.getId())).thenReturn(Optional.of(client));
+        BDDMockito.when(clientRepository.findByEmailAndIdNot(putRequest.getEmail(), putRequest.getId())).thenReturn(Optional.empty());
+        BDDMockito.when(personMapper.toPerson(putRequest)).thenReturn(personToUpdate);
+        BDDMockito.when(personService.update(personToUpdate)).thenReturn(personToUpdate);
+
+        service.findByRepairId(repair.getId());
+        clientService.update(putRequest.getId(), putRequest);
+
+        Assertions.assertThat(cacheManager.getCache(CacheConfig.REPAIR_DETAILS_CACHE).get(repair.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("EmployeeService.update evicts every cached detail, since the employee is embedded in its repairs")
+    @Order(7)
+    void employeeServiceUpdate_EvictsEveryCachedDetail() {
+        Employee employee = EmployeeUtils.newEmployeeList().getFirst();
+        EmployeePutRequest putRequest = EmployeeUtils.newEmployeePutRequest();
+        Person personToUpdate = PersonUtils.newPersonToUpdate();
+
+        BDDMockito.when(employeeRepository.findById(putRequest.getId())).thenReturn(Optional.of(employee));
+        BDDMockito.when(categoryService.findByIdOrThrowsNotFoundException(putRequest.getCategoryId())).thenReturn(CategoryUtils.newCategoryList().get(1));
+        BDDMockito.when(personMapper.toPerson(putRequest)).thenReturn(personToUpdate.withId(null));
+        BDDMockito.when(personService.update(ArgumentMatchers.any())).thenReturn(personToUpdate);
+
+        service.findByRepairId(repair.getId());
+        employeeService.update(putRequest.getId(), putRequest);
+
+        Assertions.assertThat(cacheManager.getCache(CacheConfig.REPAIR_DETAILS_CACHE).get(repair.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("VehicleService.deleteById evicts every cached detail, since the vehicle is embedded in its repairs")
+    @Order(8)
+    void vehicleServiceDeleteById_EvictsEveryCachedDetail() {
+        Vehicle vehicle = VehicleUtils.newVehicleList().getFirst();
+
+        BDDMockito.when(vehicleRepository.findById(vehicle.getId())).thenReturn(Optional.of(vehicle));
+
+        service.findByRepairId(repair.getId());
+        vehicleService.deleteById(vehicle.getId());
+
+        Assertions.assertThat(cacheManager.getCache(CacheConfig.REPAIR_DETAILS_CACHE).get(repair.getId())).isNull();
+    }
+}
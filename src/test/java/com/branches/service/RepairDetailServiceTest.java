@@ -0,0 +1,57 @@
+package com.branches.service;
+
+import com.branches.exception.NotFoundException;
+import com.branches.response.RepairDetailGetResponse;
+import com.branches.utils.RepairUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RepairDetailServiceTest {
+    @InjectMocks
+    private RepairDetailService service;
+    @Mock
+    private RepairService repairService;
+    @Mock
+    private RepairPieceService repairPieceService;
+    @Mock
+    private RepairEmployeeService repairEmployeeService;
+
+    @Test
+    @DisplayName("findByRepairId returns the repair with its pieces and employees when successful")
+    @Order(1)
+    void findByRepairId_ReturnsTheRepairWithItsPiecesAndEmployees_WhenSuccessful() {
+        RepairDetailGetResponse expectedResponse = RepairUtils.newRepairDetailGetResponse();
+        Long repairId = expectedResponse.getRepair().getId();
+
+        BDDMockito.when(repairService.findById(repairId)).thenReturn(expectedResponse.getRepair());
+        BDDMockito.when(repairPieceService.findAllByRepairId(repairId)).thenReturn(expectedResponse.getPieces());
+        BDDMockito.when(repairEmployeeService.findAllByRepairId(repairId)).thenReturn(expectedResponse.getEmployees());
+
+        RepairDetailGetResponse response = service.findByRepairId(repairId);
+
+        Assertions.assertThat(response)
+                .isNotNull()
+                .isEqualTo(expectedResponse);
+    }
+
+    @Test
+    @DisplayName("findByRepairId throws NotFoundException when the given repair id is not found")
+    @Order(2)
+    void findByRepairId_ThrowsNotFoundException_WhenTheGivenRepairIdIsNotFound() {
+        Long randomId = 131222L;
+
+        BDDMockito.when(repairService.findById(randomId)).thenThrow(NotFoundException.class);
+
+        Assertions.assertThatThrownBy(() -> service.findByRepairId(randomId))
+                .isInstanceOf(NotFoundException.class);
+
+        BDDMockito.verifyNoInteractions(repairPieceService, repairEmployeeService);
+    }
+}
@@ -2,9 +2,12 @@ package com.branches.service;
 
 import com.branches.exception.NotFoundException;
 import com.branches.mapper.RepairEmployeeMapper;
+import com.branches.model.Category;
 import com.branches.model.Employee;
+import com.branches.model.Money;
 import com.branches.model.Repair;
 import com.branches.model.RepairEmployee;
+import com.branches.repository.EntityIdGenerator;
 import com.branches.repository.RepairEmployeeRepository;
 import com.branches.request.RepairEmployeePostRequest;
 import com.branches.response.RepairEmployeePostResponse;
@@ -14,14 +17,18 @@ import com.branches.utils.RepairUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -36,6 +43,12 @@ class RepairEmployeeServiceTest {
     private EmployeeService employeeService;
     @Mock
     private RepairEmployeeMapper mapper;
+    @Mock
+    private EntityIdGenerator idGenerator;
+    @Mock
+    private ClientOverviewService clientOverviewService;
+    @Mock
+    private RevenueService revenueService;
     private List<RepairEmployee> repairEmployeeList;
 
     @BeforeEach
@@ -137,18 +150,17 @@ class RepairEmployeeServiceTest {
 
         RepairEmployeePostRequest postRequest = RepairEmployeeUtils.newRepairEmployeePostRequest();
         RepairEmployeePostResponse postResponse = RepairEmployeeUtils.newRepairEmployeePostResponse();
+        Long idToReserve = 51L;
 
-        RepairEmployee repairEmployeeToSave = RepairEmployeeUtils.newRepairEmployeeToSave();
-        Employee employee = repairEmployeeToSave.getEmployee();
+        Employee employee = RepairEmployeeUtils.newRepairEmployeeToSave().getEmployee();
         Long employeeId = employee.getId();
-        RepairEmployee savedRepairEmployee = RepairEmployeeUtils.newRepairEmployeeSaved();
-
+        Money valueToAdd = employee.getCategory().getHourlyPrice().times(postRequest.getHoursWorked());
+        RepairEmployee savedRepairEmployee = RepairEmployee.builder().id(idToReserve).repair(repair).employee(employee).category(employee.getCategory()).hoursWorked(postRequest.getHoursWorked()).totalValue(valueToAdd).build();
 
         BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
         BDDMockito.when(employeeService.findByIdOrThrowsNotFoundException(employeeId)).thenReturn(employee);
-        BDDMockito.when(repository.findByRepair_IdAndEmployee_Id(repairId, employeeId)).thenReturn(Optional.empty());
-        BDDMockito.when(repository.save(repairEmployeeToSave)).thenReturn(savedRepairEmployee);
-        BDDMockito.doNothing().when(repairService).updateTotalValue(repairId, savedRepairEmployee.getTotalValue());
+        BDDMockito.when(idGenerator.nextId(RepairEmployee.class)).thenReturn(idToReserve);
+        BDDMockito.when(repository.findAllByRepair_IdAndEmployee_IdIn(repairId, Set.of(employeeId))).thenReturn(List.of(savedRepairEmployee));
         BDDMockito.when(mapper.toRepairEmployeePostResponse(savedRepairEmployee)).thenReturn(postResponse);
 
         RepairEmployeePostResponse response = service.save(repairId, postRequest);
@@ -156,40 +168,50 @@ class RepairEmployeeServiceTest {
         Assertions.assertThat(response)
                 .isNotNull()
                 .isEqualTo(postResponse);
+
+        InOrder inOrder = BDDMockito.inOrder(repository);
+        inOrder.verify(repository).upsertAll(ArgumentMatchers.argThat(additions -> additions.size() == 1 && isAddition(additions.getFirst(), idToReserve, postRequest.getHoursWorked())));
+        inOrder.verify(repository).findAllByRepair_IdAndEmployee_IdIn(repairId, Set.of(employeeId));
+        BDDMockito.verify(repairService).updateTotalValue(repairId, valueToAdd);
+        BDDMockito.verify(revenueService).addLabor(repair, employee.getCategory(), postRequest.getHoursWorked(), valueToAdd);
+        BDDMockito.verify(repository, BDDMockito.never()).save(ArgumentMatchers.any());
     }
 
     @Test
-    @DisplayName("save updates repairEmployee when the given repair already contains the given employee")
+    @DisplayName("save returns the merged repairEmployee read back after the upsert when the given repair already contains the given employee")
     @Order(7)
-    void save_UpdatesRepairEmployee_WhenTheGivenRepairAlreadyContainsTheGivenEmployee() {
+    void save_ReturnsTheMergedRepairEmployeeReadBackAfterTheUpsert_WhenTheGivenRepairAlreadyContainsTheGivenEmployee() {
         RepairEmployee repairEmployeeNotUpdated = repairEmployeeList.getFirst();
 
         Repair repair = repairEmployeeNotUpdated.getRepair();
         Long repairId = repair.getId();
 
         RepairEmployeePostRequest postRequest = RepairEmployeeUtils.newRepairEmployeePostRequest();
-        int totalHoursWorked = postRequest.getHoursWorked() + repairEmployeeNotUpdated.getHoursWorked();
-        double totalValue = repairEmployeeNotUpdated.getEmployee().getCategory().getHourlyPrice() * totalHoursWorked;
-        RepairEmployeePostResponse postResponse = RepairEmployeeUtils.newRepairEmployeePostResponse().withHoursWorked(totalHoursWorked).withTotalValue(totalValue);
+        Long unusedId = 52L;
 
-        RepairEmployee repairEmployeeToSave = RepairEmployeeUtils.newRepairEmployeeToSave().withId(repairEmployeeNotUpdated.getId()).withHoursWorked(totalHoursWorked).withTotalValue(totalValue);
-        Employee employee = repairEmployeeToSave.getEmployee();
+        Employee employee = RepairEmployeeUtils.newRepairEmployeeToSave().getEmployee();
         Long employeeId = employee.getId();
-        RepairEmployee savedRepairEmployee = RepairEmployeeUtils.newRepairEmployeeSaved();
+        Money valueToAdd = repairEmployeeNotUpdated.getCategory().getHourlyPrice().times(postRequest.getHoursWorked());
+        int totalHoursWorked = postRequest.getHoursWorked() + repairEmployeeNotUpdated.getHoursWorked();
+        Money totalValue = repairEmployeeNotUpdated.getTotalValue().plus(valueToAdd);
+        RepairEmployee mergedRepairEmployee = repairEmployeeNotUpdated.withHoursWorked(totalHoursWorked).withTotalValue(totalValue);
 
+        RepairEmployeePostResponse postResponse = RepairEmployeeUtils.newRepairEmployeePostResponse().withHoursWorked(totalHoursWorked).withTotalValue(totalValue);
 
         BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
         BDDMockito.when(employeeService.findByIdOrThrowsNotFoundException(employeeId)).thenReturn(employee);
-        BDDMockito.when(repository.findByRepair_IdAndEmployee_Id(repairId, employeeId)).thenReturn(Optional.of(repairEmployeeNotUpdated));
-        BDDMockito.when(repository.save(repairEmployeeToSave)).thenReturn(savedRepairEmployee);
-        BDDMockito.doNothing().when(repairService).updateTotalValue(repairId, savedRepairEmployee.getTotalValue());
-        BDDMockito.when(mapper.toRepairEmployeePostResponse(savedRepairEmployee)).thenReturn(postResponse);
+        BDDMockito.when(idGenerator.nextId(RepairEmployee.class)).thenReturn(unusedId);
+        BDDMockito.when(repository.findAllByRepair_IdAndEmployee_IdIn(repairId, Set.of(employeeId))).thenReturn(List.of(mergedRepairEmployee));
+        BDDMockito.when(mapper.toRepairEmployeePostResponse(mergedRepairEmployee)).thenReturn(postResponse);
 
         RepairEmployeePostResponse response = service.save(repairId, postRequest);
 
         Assertions.assertThat(response)
                 .isNotNull()
                 .isEqualTo(postResponse);
+
+        BDDMockito.verify(repository).upsertAll(ArgumentMatchers.argThat(additions -> additions.size() == 1 && isAddition(additions.getFirst(), unusedId, postRequest.getHoursWorked())));
+        BDDMockito.verify(repairService).updateTotalValue(repairId, valueToAdd);
     }
 
     @Test
@@ -225,8 +247,87 @@ class RepairEmployeeServiceTest {
     }
 
     @Test
-    @DisplayName("deleteByRepairIdAndEmployeeId removes repairEmployee when successful")
+    @DisplayName("saveAll returns saved repairEmployees adding the total value once when successful")
     @Order(10)
+    void saveAll_ReturnsSavedRepairEmployeesAddingTheTotalValueOnce_WhenSuccessful() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        List<Employee> employees = EmployeeUtils.newEmployeeList().subList(0, 2);
+        Employee firstEmployee = employees.getFirst();
+        Employee secondEmployee = employees.getLast();
+        Money firstHourlyPrice = firstEmployee.getCategory().getHourlyPrice();
+        Money secondHourlyPrice = secondEmployee.getCategory().getHourlyPrice();
+        RepairEmployee foundFirstLine = repairEmployeeList.getFirst();
+        RepairEmployee mergedFirstLine = foundFirstLine.withEmployee(firstEmployee).withCategory(firstEmployee.getCategory())
+                .withHoursWorked(foundFirstLine.getHoursWorked() + 6).withTotalValue(foundFirstLine.getTotalValue().plus(firstHourlyPrice.times(6)));
+        RepairEmployee newSecondLine = RepairEmployee.builder().id(52L).repair(repair).employee(secondEmployee).category(secondEmployee.getCategory()).hoursWorked(3).totalValue(secondHourlyPrice.times(3)).build();
+
+        List<RepairEmployeePostRequest> postRequests = List.of(
+                RepairEmployeePostRequest.builder().employeeId(firstEmployee.getId()).hoursWorked(2).build(),
+                RepairEmployeePostRequest.builder().employeeId(secondEmployee.getId()).hoursWorked(3).build(),
+                RepairEmployeePostRequest.builder().employeeId(firstEmployee.getId()).hoursWorked(4).build()
+        );
+        Map<Long, Integer> hoursWorkedByEmployeeId = Map.of(firstEmployee.getId(), 6, secondEmployee.getId(), 3);
+
+        List<RepairEmployeePostResponse> expectedResponse = List.of(RepairEmployeeUtils.newRepairEmployeePostResponse());
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(employeeService.findAllByIdOrThrowsNotFoundException(hoursWorkedByEmployeeId.keySet())).thenReturn(employees);
+        BDDMockito.when(idGenerator.nextId(RepairEmployee.class)).thenReturn(51L, 52L);
+        BDDMockito.when(repository.findAllByRepair_IdAndEmployee_IdIn(repairId, hoursWorkedByEmployeeId.keySet())).thenReturn(List.of(newSecondLine, mergedFirstLine));
+        BDDMockito.when(mapper.toRepairEmployeePostResponseList(List.of(mergedFirstLine, newSecondLine))).thenReturn(expectedResponse);
+
+        List<RepairEmployeePostResponse> response = service.saveAll(repairId, postRequests);
+
+        Assertions.assertThat(response)
+                .isNotNull()
+                .containsExactlyElementsOf(expectedResponse);
+
+        BDDMockito.verify(repository).upsertAll(ArgumentMatchers.argThat(additions -> additions.size() == 2
+                && isAddition(additions.getFirst(), 51L, 6)
+                && isAddition(additions.getLast(), 52L, 3)));
+        BDDMockito.verify(repairService).updateTotalValue(repairId, firstHourlyPrice.times(6).plus(secondHourlyPrice.times(3)));
+    }
+
+    @Test
+    @DisplayName("saveAll throws NotFoundException when the given repairId is not found")
+    @Order(11)
+    void saveAll_ThrowsNotFoundException_WhenTheGivenRepairIdIsNotFound() {
+        Long randomRepairId = 14281267L;
+
+        List<RepairEmployeePostRequest> postRequests = List.of(RepairEmployeeUtils.newRepairEmployeePostRequest());
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(randomRepairId)).thenThrow(NotFoundException.class);
+
+        Assertions.assertThatThrownBy(() -> service.saveAll(randomRepairId, postRequests))
+                .isInstanceOf(NotFoundException.class);
+
+        BDDMockito.verifyNoInteractions(employeeService, repository);
+    }
+
+    @Test
+    @DisplayName("saveAll throws NotFoundException without saving when some given employee is not found")
+    @Order(12)
+    void saveAll_ThrowsNotFoundExceptionWithoutSaving_WhenSomeGivenEmployeeIsNotFound() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        List<RepairEmployeePostRequest> postRequests = List.of(RepairEmployeeUtils.newRepairEmployeePostRequest().withEmployeeId(999L));
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(employeeService.findAllByIdOrThrowsNotFoundException(Set.of(999L))).thenThrow(NotFoundException.class);
+
+        Assertions.assertThatThrownBy(() -> service.saveAll(repairId, postRequests))
+                .isInstanceOf(NotFoundException.class);
+
+        BDDMockito.verifyNoInteractions(repository);
+        BDDMockito.verify(repairService, BDDMockito.never()).updateTotalValue(ArgumentMatchers.anyLong(), ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("deleteByRepairIdAndEmployeeId removes repairEmployee when successful")
+    @Order(13)
     void deleteByRepairAndEmployee_RemovesRepairIdEmployee_Id_WhenSuccessful() {
         RepairEmployee repairEmployeeToDelete = repairEmployeeList.getFirst();
 
@@ -239,7 +340,7 @@ class RepairEmployeeServiceTest {
         BDDMockito.when(employeeService.findByIdOrThrowsNotFoundException(employeeId)).thenReturn(employee);
         BDDMockito.when(repository.findByRepair_IdAndEmployee_Id(repairId, employeeId)).thenReturn(Optional.of(repairEmployeeToDelete));
         BDDMockito.doNothing().when(repository).deleteById(repairEmployeeToDelete.getId());
-        BDDMockito.doNothing().when(repairService).updateTotalValue(repairId, -repairEmployeeToDelete.getTotalValue());
+        BDDMockito.doNothing().when(repairService).updateTotalValue(repairId, repairEmployeeToDelete.getTotalValue().negate());
 
         Assertions.assertThatNoException()
                 .isThrownBy(() -> service.deleteByRepairIdAndEmployeeId(repairId, employeeId));
@@ -247,7 +348,7 @@ class RepairEmployeeServiceTest {
 
     @Test
     @DisplayName("deleteByRepairIdAndEmployeeId throws NotFoundException when the given repair id is not found")
-    @Order(11)
+    @Order(14)
     void deleteByRepairIdAndEmployeeId_ThrowsNotFoundException_WhenRepairIsNotFound() {
         Long randomRepairId = 5514121L;
 
@@ -262,7 +363,7 @@ class RepairEmployeeServiceTest {
 
     @Test
     @DisplayName("deleteByRepairIdAndEmployeeId throws NotFoundException when the given employee id is not found")
-    @Order(12)
+    @Order(15)
     void deleteByRepairIdAndEmployeeId_ThrowsNotFoundException_WhenEmployeeIsNotFound() {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -278,7 +379,7 @@ class RepairEmployeeServiceTest {
 
     @Test
     @DisplayName("deleteByRepairIdAndEmployeeId throws NotFoundException when employee is not found in the repair")
-    @Order(13)
+    @Order(16)
     void deleteByRepairIdAndEmployeeId_ThrowsNotFoundException_WhenEmployeeIsNotFoundInTheRepair() {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -293,4 +394,56 @@ class RepairEmployeeServiceTest {
         Assertions.assertThatCode(() -> service.deleteByRepairIdAndEmployeeId(repairId, employeeId))
                 .isInstanceOf(NotFoundException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("save prices the added hours with the category recorded on the line when the employee changed category")
+    @Order(17)
+    void save_PricesTheAddedHoursWithTheCategoryRecordedOnTheLine_WhenTheEmployeeChangedCategory() {
+        RepairEmployee foundRepairEmployee = repairEmployeeList.getFirst();
+        Category recordedCategory = foundRepairEmployee.getCategory();
+
+        Repair repair = foundRepairEmployee.getRepair();
+        Long repairId = repair.getId();
+        Employee promotedEmployee = foundRepairEmployee.getEmployee().withCategory(Category.builder().id(99L).name("Eletricista").hourlyPrice(Money.of(90)).build());
+        Long employeeId = promotedEmployee.getId();
+
+        RepairEmployeePostRequest postRequest = RepairEmployeePostRequest.builder().employeeId(employeeId).hoursWorked(2).build();
+        Money valueToAdd = recordedCategory.getHourlyPrice().times(2);
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(employeeService.findByIdOrThrowsNotFoundException(employeeId)).thenReturn(promotedEmployee);
+        BDDMockito.when(idGenerator.nextId(RepairEmployee.class)).thenReturn(52L);
+        BDDMockito.when(repository.findAllByRepair_IdAndEmployee_IdIn(repairId, Set.of(employeeId))).thenReturn(List.of(foundRepairEmployee.withHoursWorked(foundRepairEmployee.getHoursWorked() + 2).withTotalValue(foundRepairEmployee.getTotalValue().plus(valueToAdd))));
+
+        service.save(repairId, postRequest);
+
+        BDDMockito.verify(repository).upsertAll(ArgumentMatchers.argThat(additions -> additions.size() == 1 && isAddition(additions.getFirst(), 52L, 2)));
+        BDDMockito.verify(revenueService).addLabor(repair, recordedCategory, 2, valueToAdd);
+        BDDMockito.verify(repairService).updateTotalValue(repairId, valueToAdd);
+    }
+
+    @Test
+    @DisplayName("deleteByRepairIdAndEmployeeId subtracts the labor revenue from the category recorded on the line when the employee changed category")
+    @Order(18)
+    void deleteByRepairIdAndEmployeeId_SubtractsTheLaborRevenueFromTheCategoryRecordedOnTheLine_WhenTheEmployeeChangedCategory() {
+        RepairEmployee repairEmployeeToDelete = repairEmployeeList.getFirst();
+
+        Repair repair = repairEmployeeToDelete.getRepair();
+        Long repairId = repair.getId();
+        Employee promotedEmployee = repairEmployeeToDelete.getEmployee().withCategory(Category.builder().id(99L).name("Eletricista").hourlyPrice(Money.of(90)).build());
+        Long employeeId = promotedEmployee.getId();
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(employeeService.findByIdOrThrowsNotFoundException(employeeId)).thenReturn(promotedEmployee);
+        BDDMockito.when(repository.findByRepair_IdAndEmployee_Id(repairId, employeeId)).thenReturn(Optional.of(repairEmployeeToDelete));
+
+        service.deleteByRepairIdAndEmployeeId(repairId, employeeId);
+
+        BDDMockito.verify(revenueService).addLabor(repair, repairEmployeeToDelete.getCategory(), -repairEmployeeToDelete.getHoursWorked(), repairEmployeeToDelete.getTotalValue().negate());
+        BDDMockito.verify(repairService).updateTotalValue(repairId, repairEmployeeToDelete.getTotalValue().negate());
+    }
+
+    private static boolean isAddition(RepairEmployee repairEmployee, Long id, int hoursWorked) {
+        return repairEmployee.getId().equals(id) && repairEmployee.getHoursWorked() == hoursWorked;
+    }
+}
@@ -0,0 +1,158 @@
+package com.branches.service;
+
+import com.branches.mapper.RepairMapper;
+import com.branches.model.Repair;
+import com.branches.repository.RepairRepository;
+import com.branches.response.ClientDefaultResponse;
+import com.branches.response.PersonDefaultResponse;
+import com.branches.response.RepairExportFormat;
+import com.branches.response.RepairGetResponse;
+import com.branches.utils.RepairUtils;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RepairExportServiceTest {
+    private static final int FETCH_SIZE = 500;
+    private RepairExportService service;
+    @Mock
+    private RepairRepository repository;
+    @Mock
+    private RepairMapper mapper;
+    @Mock
+    private EntityManager entityManager;
+    private List<Repair> repairList;
+    private List<RepairGetResponse> repairGetResponseList;
+
+    @BeforeEach
+    void init() {
+        service = new RepairExportService(repository, mapper, entityManager, Jackson2ObjectMapperBuilder.json().build(), FETCH_SIZE);
+        repairList = RepairUtils.newRepairList();
+        repairGetResponseList = RepairUtils.newRepairGetResponseList();
+    }
+
+    private void mockRepairs() {
+        BDDMockito.when(repository.streamAllByOrderByIdAsc(FETCH_SIZE)).thenReturn(repairList.stream());
+        for (int i = 0; i < repairList.size(); i++) {
+            BDDMockito.when(mapper.toRepairGetResponse(repairList.get(i))).thenReturn(repairGetResponseList.get(i));
+        }
+    }
+
+    private String export(RepairExportFormat format) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.export(format, outputStream);
+
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("export writes one JSON object per line when format is NDJSON")
+    @Order(1)
+    void export_WritesOneJsonObjectPerLine_WhenFormatIsNdjson() throws Exception {
+        mockRepairs();
+
+        String response = export(RepairExportFormat.NDJSON);
+
+        Assertions.assertThat(response).endsWith("\n");
+        Assertions.assertThat(response.lines().toList())
+                .hasSize(3)
+                .allSatisfy(line -> Assertions.assertThat(line).startsWith("{").endsWith("}").contains("\"endDate\":\"12/02/2025\""))
+                .satisfiesExactly(
+                        line -> Assertions.assertThat(line).startsWith("{\"id\":1,"),
+                        line -> Assertions.assertThat(line).startsWith("{\"id\":2,"),
+                        line -> Assertions.assertThat(line).startsWith("{\"id\":3,")
+                );
+    }
+
+    @Test
+    @DisplayName("export writes a header and one row per repair when format is CSV")
+    @Order(2)
+    void export_WritesAHeaderAndOneRowPerRepair_WhenFormatIsCsv() throws Exception {
+        mockRepairs();
+
+        String response = export(RepairExportFormat.CSV);
+
+        Assertions.assertThat(response.lines().toList()).containsExactly(
+                "id,client_id,client_name,client_last_name,client_email,vehicle_id,vehicle_type,vehicle_brand,vehicle_model,total_value,end_date",
+                "1,1,Marcus,Branches,marcus@gmail.com,1,carro,Fiat,Toro,1000.00,12/02/2025",
+                "2,1,Marcus,Branches,marcus@gmail.com,1,carro,Fiat,Toro,1000.00,12/02/2025",
+                "3,1,Marcus,Branches,marcus@gmail.com,1,carro,Fiat,Toro,1000.00,12/02/2025"
+        );
+    }
+
+    @Test
+    @DisplayName("export quotes CSV values that contain commas or quotes and leaves missing values empty")
+    @Order(3)
+    void export_QuotesCsvValuesThatContainCommasOrQuotes_AndLeavesMissingValuesEmpty() throws Exception {
+        Repair repair = repairList.getFirst();
+        PersonDefaultResponse person = PersonDefaultResponse.builder().id(1L).name("Silva, Marcus").lastName("\"Branches\"").build();
+        RepairGetResponse repairGetResponse = repairGetResponseList.getFirst();
+        repairGetResponse.setClient(ClientDefaultResponse.builder().id(1L).person(person).email("marcus@gmail.com").build());
+        repairGetResponse.setVehicle(null);
+
+        BDDMockito.when(repository.streamAllByOrderByIdAsc(FETCH_SIZE)).thenReturn(Stream.of(repair));
+        BDDMockito.when(mapper.toRepairGetResponse(repair)).thenReturn(repairGetResponse);
+
+        String response = export(RepairExportFormat.CSV);
+
+        Assertions.assertThat(response.lines().toList().getLast())
+                .isEqualTo("1,1,\"Silva, Marcus\",\"\"\"Branches\"\"\",marcus@gmail.com,,,,,1000.00,12/02/2025");
+    }
+
+    @Test
+    @DisplayName("export clears the persistence context periodically and closes the stream when finished")
+    @Order(4)
+    void export_ClearsThePersistenceContextPeriodically_AndClosesTheStreamWhenFinished() throws Exception {
+        int rows = RepairExportService.CLEAR_INTERVAL * 2 + 1;
+        Repair repair = repairList.getFirst();
+        AtomicBoolean streamClosed = new AtomicBoolean();
+
+        BDDMockito.when(repository.streamAllByOrderByIdAsc(FETCH_SIZE))
+                .thenReturn(IntStream.range(0, rows).mapToObj(i -> repair).onClose(() -> streamClosed.set(true)));
+        BDDMockito.when(mapper.toRepairGetResponse(repair)).thenReturn(repairGetResponseList.getFirst());
+
+        String response = export(RepairExportFormat.NDJSON);
+
+        Assertions.assertThat(response.lines()).hasSize(rows);
+        Assertions.assertThat(streamClosed).isTrue();
+        BDDMockito.verify(entityManager, BDDMockito.times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("export rethrows a failure in the middle of the stream keeping only the rows already flushed")
+    @Order(5)
+    void export_RethrowsAFailureInTheMiddleOfTheStream_KeepingOnlyTheRowsAlreadyFlushed() {
+        int rows = RepairExportService.CLEAR_INTERVAL + 10;
+        Repair repair = repairList.getFirst();
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        BDDMockito.when(repository.streamAllByOrderByIdAsc(FETCH_SIZE))
+                .thenReturn(Stream.concat(IntStream.range(0, rows).mapToObj(i -> repair), Stream.generate(() -> {
+                    throw new IllegalStateException("connection lost");
+                })).onClose(() -> streamClosed.set(true)));
+        BDDMockito.when(mapper.toRepairGetResponse(repair)).thenReturn(repairGetResponseList.getFirst());
+
+        Assertions.assertThatThrownBy(() -> service.export(RepairExportFormat.NDJSON, outputStream))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("connection lost");
+
+        Assertions.assertThat(outputStream.toString(StandardCharsets.UTF_8).lines()).hasSize(RepairExportService.CLEAR_INTERVAL);
+        Assertions.assertThat(streamClosed).isTrue();
+    }
+}
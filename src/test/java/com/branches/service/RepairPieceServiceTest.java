@@ -1,23 +1,31 @@
 package com.branches.service;
 
+import com.branches.exception.BadRequestException;
 import com.branches.exception.NotFoundException;
+import com.branches.mapper.PieceReservationMapper;
 import com.branches.mapper.RepairPieceMapper;
 import com.branches.model.*;
+import com.branches.repository.EntityIdGenerator;
 import com.branches.repository.RepairPieceRepository;
 import com.branches.request.RepairPiecePostRequest;
+import com.branches.response.PieceReservationResponse;
 import com.branches.response.RepairPiecePostResponse;
 import com.branches.utils.*;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -32,6 +40,16 @@ class RepairPieceServiceTest {
     private RepairService repairService;
     @Mock
     private RepairPieceMapper mapper;
+    @Mock
+    private EntityIdGenerator idGenerator;
+    @Mock
+    private ClientOverviewService clientOverviewService;
+    @Mock
+    private RevenueService revenueService;
+    @Mock
+    private PieceReservationService reservationService;
+    @Mock
+    private PieceReservationMapper reservationMapper;
     private List<RepairPiece> repairPieceList;
 
     @BeforeEach
@@ -132,20 +150,20 @@ class RepairPieceServiceTest {
         Long repairId = repair.getId();
 
         RepairPiecePostRequest postRequest = RepairPieceUtils.newRepairPiecePostRequest();
+        Long idToReserve = 51L;
 
-        RepairPiece savedRepairPiece = RepairPieceUtils.newRepairPieceSaved();
-
-        RepairPiece repairPieceToSave = RepairPieceUtils.newRepairPieceToSave();
         Piece pieceNotUpdated = PieceUtils.newPieceList().getFirst();
+        Piece piece = RepairPieceUtils.newRepairPieceToSave().getPiece();
+        Money valueToAdd = piece.getUnitValue().times(postRequest.getQuantity());
+        RepairPiece savedRepairPiece = RepairPiece.builder().id(idToReserve).repair(repair).piece(piece).quantity(postRequest.getQuantity()).totalValue(valueToAdd).build();
 
         RepairPiecePostResponse postResponse = RepairPieceUtils.newRepairPiecePostResponse();
 
         BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
         BDDMockito.when(pieceService.findByIdOrThrowsNotFoundException(postRequest.getPieceId())).thenReturn(pieceNotUpdated);
-        BDDMockito.when(pieceService.removesStock(pieceNotUpdated, postRequest.getQuantity())).thenReturn(repairPieceToSave.getPiece());
-        BDDMockito.when(repository.findByRepair_IdAndPiece_Id(repairId, postRequest.getPieceId())).thenReturn(Optional.empty());
-        BDDMockito.when(repository.save(repairPieceToSave)).thenReturn(savedRepairPiece);
-        BDDMockito.doNothing().when(repairService).updateTotalValue(repairId, savedRepairPiece.getTotalValue());
+        BDDMockito.when(pieceService.removesStock(pieceNotUpdated, postRequest.getQuantity(), repairId)).thenReturn(piece);
+        BDDMockito.when(idGenerator.nextId(RepairPiece.class)).thenReturn(idToReserve);
+        BDDMockito.when(repository.findAllByRepair_IdAndPiece_IdIn(repairId, Set.of(piece.getId()))).thenReturn(List.of(savedRepairPiece));
         BDDMockito.when(mapper.toRepairPiecePostResponse(savedRepairPiece)).thenReturn(postResponse);
 
         RepairPiecePostResponse response = service.save(repairId, postRequest);
@@ -153,41 +171,51 @@ class RepairPieceServiceTest {
         Assertions.assertThat(response)
                 .isNotNull()
                 .isEqualTo(postResponse);
+
+        InOrder inOrder = BDDMockito.inOrder(repository);
+        inOrder.verify(repository).upsertAll(ArgumentMatchers.argThat(additions -> additions.size() == 1 && isLine(additions.getFirst(), idToReserve, postRequest.getQuantity(), valueToAdd)));
+        inOrder.verify(repository).findAllByRepair_IdAndPiece_IdIn(repairId, Set.of(piece.getId()));
+        BDDMockito.verify(repairService).updateTotalValue(repairId, valueToAdd);
+        BDDMockito.verify(revenueService).addPiece(repair, piece, postRequest.getQuantity(), valueToAdd);
+        BDDMockito.verify(repository, BDDMockito.never()).save(ArgumentMatchers.any());
     }
 
     @Test
-    @DisplayName("save updates repairPiece when the given repair already contains the given piece")
+    @DisplayName("save returns the merged repairPiece read back after the upsert when the given repair already contains the given piece")
     @Order(7)
-    void save_UpdatesRepairPiece_WhenTheGivenRepairAlreadyContainsTheGivenPiece() {
+    void save_ReturnsTheMergedRepairPieceReadBackAfterTheUpsert_WhenTheGivenRepairAlreadyContainsTheGivenPiece() {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
 
         RepairPiece foundRepairPiece = repairPieceList.getFirst();
 
         RepairPiecePostRequest postRequest = RepairPieceUtils.newRepairPiecePostRequest();
-
-        RepairPiece repairPieceSaved = RepairPieceUtils.newRepairPieceSaved();
-        repairPieceSaved.setId(foundRepairPiece.getId());
+        Long unusedId = 52L;
 
         Piece pieceNotUpdated = PieceUtils.newPieceList().getFirst();
+        Piece piece = RepairPieceUtils.newRepairPieceToSave().getPiece();
+        Money valueToAdd = piece.getUnitValue().times(postRequest.getQuantity());
         int totalQuantity = foundRepairPiece.getQuantity() + postRequest.getQuantity();
-        double totalValue = pieceNotUpdated.getUnitValue() * totalQuantity;
-        RepairPiece repairPieceUpdated = RepairPieceUtils.newRepairPieceToSave().withId(foundRepairPiece.getId()).withQuantity(totalQuantity).withTotalValue(totalValue);
+        Money totalValue = foundRepairPiece.getTotalValue().plus(valueToAdd);
+        RepairPiece mergedRepairPiece = foundRepairPiece.withQuantity(totalQuantity).withTotalValue(totalValue);
 
         RepairPiecePostResponse postResponse = RepairPieceUtils.newRepairPiecePostResponse().withQuantity(totalQuantity).withTotalValue(totalValue);
 
         BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
         BDDMockito.when(pieceService.findByIdOrThrowsNotFoundException(postRequest.getPieceId())).thenReturn(pieceNotUpdated);
-        BDDMockito.when(pieceService.removesStock(pieceNotUpdated, postRequest.getQuantity())).thenReturn(repairPieceUpdated.getPiece());
-        BDDMockito.when(repository.findByRepair_IdAndPiece_Id(repairId, postRequest.getPieceId())).thenReturn(Optional.of(foundRepairPiece));
-        BDDMockito.when(repository.save(repairPieceUpdated)).thenReturn(repairPieceSaved);
-        BDDMockito.when(mapper.toRepairPiecePostResponse(repairPieceUpdated)).thenReturn(postResponse);
+        BDDMockito.when(pieceService.removesStock(pieceNotUpdated, postRequest.getQuantity(), repairId)).thenReturn(piece);
+        BDDMockito.when(idGenerator.nextId(RepairPiece.class)).thenReturn(unusedId);
+        BDDMockito.when(repository.findAllByRepair_IdAndPiece_IdIn(repairId, Set.of(piece.getId()))).thenReturn(List.of(mergedRepairPiece));
+        BDDMockito.when(mapper.toRepairPiecePostResponse(mergedRepairPiece)).thenReturn(postResponse);
 
         RepairPiecePostResponse response = service.save(repairId, postRequest);
 
         Assertions.assertThat(response)
                 .isNotNull()
                 .isEqualTo(postResponse);
+
+        BDDMockito.verify(repository).upsertAll(ArgumentMatchers.argThat(additions -> additions.size() == 1 && isLine(additions.getFirst(), unusedId, postRequest.getQuantity(), valueToAdd)));
+        BDDMockito.verify(repairService).updateTotalValue(repairId, valueToAdd);
     }
 
     @Test
@@ -222,8 +250,84 @@ class RepairPieceServiceTest {
     }
 
     @Test
-    @DisplayName("deleteByRepairIdAndPieceId removes repairPiece when successful")
+    @DisplayName("saveAll returns saved repairPieces adding the total value once when successful")
     @Order(10)
+    void saveAll_ReturnsSavedRepairPiecesAddingTheTotalValueOnce_WhenSuccessful() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        List<Piece> pieces = PieceUtils.newPieceList().subList(0, 2);
+        Piece oil = pieces.getFirst();
+        Piece filter = pieces.getLast();
+        RepairPiece foundOilLine = repairPieceList.getFirst();
+        RepairPiece mergedOilLine = foundOilLine.withQuantity(foundOilLine.getQuantity() + 5).withTotalValue(foundOilLine.getTotalValue().plus(oil.getUnitValue().times(5)));
+        RepairPiece newFilterLine = RepairPiece.builder().id(52L).repair(repair).piece(filter).quantity(3).totalValue(filter.getUnitValue().times(3)).build();
+
+        List<RepairPiecePostRequest> postRequests = List.of(
+                RepairPiecePostRequest.builder().pieceId(oil.getId()).quantity(2).build(),
+                RepairPiecePostRequest.builder().pieceId(filter.getId()).quantity(3).build(),
+                RepairPiecePostRequest.builder().pieceId(oil.getId()).quantity(3).build()
+        );
+        Map<Long, Integer> quantityByPieceId = Map.of(oil.getId(), 5, filter.getId(), 3);
+
+        List<RepairPiecePostResponse> expectedResponse = List.of(RepairPieceUtils.newRepairPiecePostResponse());
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(pieceService.removesStock(quantityByPieceId, repairId)).thenReturn(pieces);
+        BDDMockito.when(idGenerator.nextId(RepairPiece.class)).thenReturn(51L, 52L);
+        BDDMockito.when(repository.findAllByRepair_IdAndPiece_IdIn(repairId, quantityByPieceId.keySet())).thenReturn(List.of(newFilterLine, mergedOilLine));
+        BDDMockito.when(mapper.toRepairPiecePostResponseList(List.of(mergedOilLine, newFilterLine))).thenReturn(expectedResponse);
+
+        List<RepairPiecePostResponse> response = service.saveAll(repairId, postRequests);
+
+        Assertions.assertThat(response)
+                .isNotNull()
+                .containsExactlyElementsOf(expectedResponse);
+
+        BDDMockito.verify(repository).upsertAll(ArgumentMatchers.argThat(additions -> additions.size() == 2
+                && isLine(additions.getFirst(), 51L, 5, oil.getUnitValue().times(5))
+                && isLine(additions.getLast(), 52L, 3, filter.getUnitValue().times(3))));
+        BDDMockito.verify(repairService).updateTotalValue(repairId, oil.getUnitValue().times(5).plus(filter.getUnitValue().times(3)));
+    }
+
+    @Test
+    @DisplayName("saveAll throws NotFoundException when the given repairId is not found")
+    @Order(11)
+    void saveAll_ThrowsNotFoundException_WhenTheGivenRepairIdIsNotFound() {
+        Long randomRepairId = 14281267L;
+
+        List<RepairPiecePostRequest> postRequests = List.of(RepairPieceUtils.newRepairPiecePostRequest());
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(randomRepairId)).thenThrow(NotFoundException.class);
+
+        Assertions.assertThatThrownBy(() -> service.saveAll(randomRepairId, postRequests))
+                .isInstanceOf(NotFoundException.class);
+
+        BDDMockito.verifyNoInteractions(pieceService, repository);
+    }
+
+    @Test
+    @DisplayName("saveAll throws BadRequestException without saving when some piece has insufficient stock")
+    @Order(12)
+    void saveAll_ThrowsBadRequestExceptionWithoutSaving_WhenSomePieceHasInsufficientStock() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        List<RepairPiecePostRequest> postRequests = List.of(RepairPieceUtils.newRepairPiecePostRequest().withQuantity(555555));
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(pieceService.removesStock(ArgumentMatchers.<Map<Long, Integer>>any(), ArgumentMatchers.any())).thenThrow(BadRequestException.class);
+
+        Assertions.assertThatThrownBy(() -> service.saveAll(repairId, postRequests))
+                .isInstanceOf(BadRequestException.class);
+
+        BDDMockito.verifyNoInteractions(repository);
+        BDDMockito.verify(repairService, BDDMockito.never()).updateTotalValue(ArgumentMatchers.anyLong(), ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("deleteByRepairIdAndPieceId removes repairPiece when successful")
+    @Order(13)
     void deleteByRepairIdAndPieceId_RemovesPieceFromRepair_WhenSuccessful() {
         RepairPiece repairPieceToDelete = repairPieceList.getFirst();
 
@@ -239,11 +343,13 @@ class RepairPieceServiceTest {
 
         Assertions.assertThatCode(() -> service.deleteByRepairIdAndPieceId(repairId, pieceId))
                 .doesNotThrowAnyException();
+
+        BDDMockito.verify(revenueService).addPiece(repair, piece, -repairPieceToDelete.getQuantity(), repairPieceToDelete.getTotalValue().negate());
     }
 
     @Test
     @DisplayName("deleteByRepairIdAndPieceId throws NotFoundException when repair is not found")
-    @Order(11)
+    @Order(14)
     void deleteByRepairIdAndPieceId_ThrowsNotFoundException_WhenRepairIsNotFound() {
         Long randomRepairId = 5514121L;
         Piece piece = PieceUtils.newPieceList().getFirst();
@@ -257,7 +363,7 @@ class RepairPieceServiceTest {
 
     @Test
     @DisplayName("deleteByRepairIdAndPieceId throws NotFoundException when piece is not found")
-    @Order(12)
+    @Order(15)
     void deleteByRepairIdAndPieceId_ThrowsNotFoundException_WhenPieceIsNotFound() {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -273,7 +379,7 @@ class RepairPieceServiceTest {
 
     @Test
     @DisplayName("deleteByRepairIdAndPieceId throws NotFoundException when piece is not found in the repair")
-    @Order(13)
+    @Order(16)
     void deleteByRepairIdAndPieceId_ThrowsNotFoundException_WhenPieceIsNotFoundInTheRepair() {
         Repair repair = RepairUtils.newRepairList().getFirst();
         Long repairId = repair.getId();
@@ -289,4 +395,167 @@ class RepairPieceServiceTest {
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("The piece was not found in the repair");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("save releases the reservations of the repair before removing stock on its behalf when successful")
+    @Order(17)
+    void save_ReleasesTheReservationsOfTheRepairBeforeRemovingStockOnItsBehalf_WhenSuccessful() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        RepairPiecePostRequest postRequest = RepairPieceUtils.newRepairPiecePostRequest();
+
+        Piece pieceNotUpdated = PieceUtils.newPieceList().getFirst();
+        Piece piece = RepairPieceUtils.newRepairPieceToSave().getPiece();
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(pieceService.findByIdOrThrowsNotFoundException(postRequest.getPieceId())).thenReturn(pieceNotUpdated);
+        BDDMockito.when(pieceService.removesStock(pieceNotUpdated, postRequest.getQuantity(), repairId)).thenReturn(piece);
+
+        Assertions.assertThatCode(() -> service.save(repairId, postRequest))
+                .doesNotThrowAnyException();
+
+        InOrder inOrder = BDDMockito.inOrder(reservationService, pieceService);
+        inOrder.verify(reservationService).consume(repair, pieceNotUpdated, postRequest.getQuantity());
+        inOrder.verify(pieceService).removesStock(pieceNotUpdated, postRequest.getQuantity(), repairId);
+    }
+
+    @Test
+    @DisplayName("findAllReservationsByRepairId returns the active reservations of the given repair")
+    @Order(18)
+    void findAllReservationsByRepairId_ReturnsTheActiveReservationsOfTheGivenRepair() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        List<PieceReservation> reservations = List.of(RepairPieceUtils.newPieceReservation());
+        List<PieceReservationResponse> expectedResponse = List.of(RepairPieceUtils.newPieceReservationResponse());
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(reservationService.findAllActiveByRepair(repair)).thenReturn(reservations);
+        BDDMockito.when(reservationMapper.toPieceReservationResponseList(reservations)).thenReturn(expectedResponse);
+
+        List<PieceReservationResponse> response = service.findAllReservationsByRepairId(repairId);
+
+        Assertions.assertThat(response)
+                .isNotNull()
+                .containsExactlyElementsOf(expectedResponse);
+    }
+
+    @Test
+    @DisplayName("reserve returns the reservation of the given piece when successful")
+    @Order(19)
+    void reserve_ReturnsTheReservationOfTheGivenPiece_WhenSuccessful() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        RepairPiecePostRequest postRequest = RepairPieceUtils.newRepairPiecePostRequest();
+        Piece piece = PieceUtils.newPieceList().getFirst();
+
+        PieceReservation reservation = RepairPieceUtils.newPieceReservation();
+        PieceReservationResponse expectedResponse = RepairPieceUtils.newPieceReservationResponse();
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(pieceService.findByIdOrThrowsNotFoundException(postRequest.getPieceId())).thenReturn(piece);
+        BDDMockito.when(reservationService.reserve(repair, piece, postRequest.getQuantity())).thenReturn(reservation);
+        BDDMockito.when(reservationMapper.toPieceReservationResponse(reservation)).thenReturn(expectedResponse);
+
+        PieceReservationResponse response = service.reserve(repairId, postRequest);
+
+        Assertions.assertThat(response)
+                .isNotNull()
+                .isEqualTo(expectedResponse);
+
+        BDDMockito.verifyNoInteractions(repository);
+        BDDMockito.verify(pieceService, BDDMockito.never()).removesStock(ArgumentMatchers.any(Piece.class), ArgumentMatchers.anyInt(), ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("reserve throws BadRequestException when the available stock is insufficient")
+    @Order(20)
+    void reserve_ThrowsBadRequestException_WhenTheAvailableStockIsInsufficient() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        RepairPiecePostRequest postRequest = RepairPieceUtils.newRepairPiecePostRequest().withQuantity(555555);
+        Piece piece = PieceUtils.newPieceList().getFirst();
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(pieceService.findByIdOrThrowsNotFoundException(postRequest.getPieceId())).thenReturn(piece);
+        BDDMockito.when(reservationService.reserve(repair, piece, postRequest.getQuantity())).thenThrow(BadRequestException.class);
+
+        Assertions.assertThatThrownBy(() -> service.reserve(repairId, postRequest))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("confirmReservations adds the reserved pieces to the repair when successful")
+    @Order(21)
+    void confirmReservations_AddsTheReservedPiecesToTheRepair_WhenSuccessful() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        PieceReservation reservation = RepairPieceUtils.newPieceReservation();
+        Piece piece = reservation.getPiece();
+        Map<Long, Integer> quantityByPieceId = Map.of(piece.getId(), reservation.getQuantity());
+        Money valueToAdd = piece.getUnitValue().times(reservation.getQuantity());
+        RepairPiece savedRepairPiece = RepairPiece.builder().id(51L).repair(repair).piece(piece).quantity(reservation.getQuantity()).totalValue(valueToAdd).build();
+
+        List<RepairPiecePostResponse> expectedResponse = List.of(RepairPieceUtils.newRepairPiecePostResponse());
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(reservationService.findAllActiveByRepair(repair)).thenReturn(List.of(reservation));
+        BDDMockito.when(pieceService.removesStock(quantityByPieceId, repairId)).thenReturn(List.of(piece));
+        BDDMockito.when(idGenerator.nextId(RepairPiece.class)).thenReturn(51L);
+        BDDMockito.when(repository.findAllByRepair_IdAndPiece_IdIn(repairId, quantityByPieceId.keySet())).thenReturn(List.of(savedRepairPiece));
+        BDDMockito.when(mapper.toRepairPiecePostResponseList(List.of(savedRepairPiece))).thenReturn(expectedResponse);
+
+        List<RepairPiecePostResponse> response = service.confirmReservations(repairId);
+
+        Assertions.assertThat(response)
+                .isNotNull()
+                .containsExactlyElementsOf(expectedResponse);
+
+        BDDMockito.verify(repository).upsertAll(ArgumentMatchers.argThat(additions -> additions.size() == 1 && isLine(additions.getFirst(), 51L, reservation.getQuantity(), valueToAdd)));
+        BDDMockito.verify(revenueService).addPiece(repair, piece, reservation.getQuantity(), valueToAdd);
+        BDDMockito.verify(repairService).updateTotalValue(repairId, valueToAdd);
+    }
+
+    @Test
+    @DisplayName("confirmReservations throws BadRequestException when the repair has no active reservations")
+    @Order(22)
+    void confirmReservations_ThrowsBadRequestException_WhenTheRepairHasNoActiveReservations() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(reservationService.findAllActiveByRepair(repair)).thenReturn(Collections.emptyList());
+
+        Assertions.assertThatThrownBy(() -> service.confirmReservations(repairId))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("The repair has no active reservations");
+
+        BDDMockito.verifyNoInteractions(pieceService, repository);
+    }
+
+    @Test
+    @DisplayName("deleteReservationByRepairIdAndPieceId releases the reservation when successful")
+    @Order(23)
+    void deleteReservationByRepairIdAndPieceId_ReleasesTheReservation_WhenSuccessful() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Long repairId = repair.getId();
+        Piece piece = PieceUtils.newPieceList().getFirst();
+        Long pieceId = piece.getId();
+
+        BDDMockito.when(repairService.findByIdOrThrowsNotFoundException(repairId)).thenReturn(repair);
+        BDDMockito.when(pieceService.findByIdOrThrowsNotFoundException(pieceId)).thenReturn(piece);
+
+        Assertions.assertThatCode(() -> service.deleteReservationByRepairIdAndPieceId(repairId, pieceId))
+                .doesNotThrowAnyException();
+
+        BDDMockito.verify(reservationService).release(repair, piece);
+    }
+
+    private static boolean isLine(RepairPiece repairPiece, Long id, int quantity, Money totalValue) {
+        return repairPiece.getId().equals(id) && repairPiece.getQuantity() == quantity && repairPiece.getTotalValue().equals(totalValue);
+    }
+}
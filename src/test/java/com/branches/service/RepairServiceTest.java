@@ -1,5 +1,6 @@
 package com.branches.service;
 
+import com.branches.exception.BadRequestException;
 import com.branches.exception.NotFoundException;
 import com.branches.mapper.RepairEmployeeMapper;
 import com.branches.mapper.RepairMapper;
@@ -8,8 +9,10 @@ import com.branches.model.*;
 import com.branches.repository.RepairRepository;
 import com.branches.request.RepairPostRequest;
 import com.branches.response.RepairGetResponse;
+import com.branches.response.RepairPageGetResponse;
 import com.branches.response.RepairPostResponse;
 import com.branches.utils.*;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +20,7 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.Collections;
@@ -36,6 +40,14 @@ class RepairServiceTest {
     private ClientService clientService;
     @Mock
     private VehicleService vehicleService;
+    @Mock
+    private ClientOverviewService clientOverviewService;
+    @Mock
+    private RevenueService revenueService;
+    @Mock
+    private PieceReservationService reservationService;
+    @Mock
+    private EntityManager entityManager;
     private List<Repair> repairList;
     private List<RepairGetResponse> repairGetResponseList;
 
@@ -94,8 +106,75 @@ class RepairServiceTest {
     }
 
     @Test
-    @DisplayName("findById returns found repair when successful")
+    @DisplayName("findAllPaginated returns the first page and the next cursor when there are more repairs")
     @Order(4)
+    void findAllPaginated_ReturnsFirstPageAndNextCursor_WhenThereAreMoreRepairs() {
+        int limit = 2;
+        List<Repair> expectedPage = repairList.subList(0, limit);
+        List<RepairGetResponse> expectedContent = repairGetResponseList.subList(0, limit);
+
+        BDDMockito.when(repository.findAllByIdGreaterThanOrderByIdAsc(0L, Limit.of(limit + 1))).thenReturn(repairList);
+        BDDMockito.when(mapper.toRepairGetResponseList(expectedPage)).thenReturn(expectedContent);
+
+        RepairPageGetResponse response = service.findAllPaginated(null, null, limit);
+
+        Assertions.assertThat(response).isNotNull();
+        Assertions.assertThat(response.getContent()).containsExactlyElementsOf(expectedContent);
+        Assertions.assertThat(response.getNextCursor()).isEqualTo(expectedPage.getLast().getId());
+    }
+
+    @Test
+    @DisplayName("findAllPaginated returns the last page without next cursor when there are no more repairs")
+    @Order(5)
+    void findAllPaginated_ReturnsLastPageWithoutNextCursor_WhenThereAreNoMoreRepairs() {
+        int limit = 2;
+        Long afterId = 2L;
+        List<Repair> expectedPage = repairList.subList(2, 3);
+        List<RepairGetResponse> expectedContent = repairGetResponseList.subList(2, 3);
+
+        BDDMockito.when(repository.findAllByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit + 1))).thenReturn(expectedPage);
+        BDDMockito.when(mapper.toRepairGetResponseList(expectedPage)).thenReturn(expectedContent);
+
+        RepairPageGetResponse response = service.findAllPaginated(null, afterId, limit);
+
+        Assertions.assertThat(response).isNotNull();
+        Assertions.assertThat(response.getContent()).containsExactlyElementsOf(expectedContent);
+        Assertions.assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("findAllPaginated returns repairs in date range when date is given")
+    @Order(6)
+    void findAllPaginated_ReturnsRepairsInDateRange_WhenDateIsGiven() {
+        int limit = 5;
+        LocalDate dateToSearch = LocalDate.of(2025, 2, 12);
+
+        BDDMockito.when(repository.findAllByIdGreaterThanAndEndDateGreaterThanEqualOrderByIdAsc(0L, dateToSearch, Limit.of(limit + 1))).thenReturn(repairList);
+        BDDMockito.when(mapper.toRepairGetResponseList(repairList)).thenReturn(repairGetResponseList);
+
+        RepairPageGetResponse response = service.findAllPaginated(dateToSearch, null, limit);
+
+        Assertions.assertThat(response).isNotNull();
+        Assertions.assertThat(response.getContent()).containsExactlyElementsOf(repairGetResponseList);
+        Assertions.assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("findAllPaginated throws BadRequestException when limit is out of range")
+    @Order(7)
+    void findAllPaginated_ThrowsBadRequestException_WhenLimitIsOutOfRange() {
+        Assertions.assertThatThrownBy(() -> service.findAllPaginated(null, null, 0))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'limit' must be between 1 and 100");
+
+        Assertions.assertThatThrownBy(() -> service.findAllPaginated(null, null, 101))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'limit' must be between 1 and 100");
+    }
+
+    @Test
+    @DisplayName("findById returns found repair when successful")
+    @Order(8)
     void findById_ReturnsFoundRepair_WhenSuccessful() {
         Repair expectedResponseRepository = repairList.getFirst();
         Long idToSearch = expectedResponseRepository.getId();
@@ -114,7 +193,7 @@ class RepairServiceTest {
 
     @Test
     @DisplayName("findById throws NotFoundException when id is not found")
-    @Order(5)
+    @Order(9)
     void findById_ThrowsNotFoundException_WhenIdIsNotFound() {
         Long randomId = 4445511L;
 
@@ -127,7 +206,7 @@ class RepairServiceTest {
 
     @Test
     @DisplayName("findAllByClientId returns all client vehicles when successful")
-    @Order(6)
+    @Order(10)
     void findAllByClientId_ReturnsAllClientRepairs_WhenSuccessful() {
         Client client = repairList.getFirst().getClient();
         Long clientId = client.getId();
@@ -146,7 +225,7 @@ class RepairServiceTest {
 
     @Test
     @DisplayName("findAllByClientId returns an empty list when client doesn't have repairs")
-    @Order(7)
+    @Order(11)
     void findAllByClientId_ReturnsEmptyList_WhenClientDoesNotHaveRepair() {
         Client client = ClientUtils.newClientList().getLast();
         Long clientId = client.getId();
@@ -164,7 +243,7 @@ class RepairServiceTest {
 
     @Test
     @DisplayName("findAllByClientId throws NotFoundException when client is not found")
-    @Order(8)
+    @Order(12)
     void findAllByClientId_ThrowsNotFoundException_WhenClientIsNotFound() {
         Long randomId = 1515151L;
 
@@ -176,7 +255,7 @@ class RepairServiceTest {
 
     @Test
     @DisplayName("save returns saved repair when successful")
-    @Order(9)
+    @Order(13)
     void save_ReturnsSavedRepair_WhenSuccessful() {
         RepairPostRequest postRequest = RepairUtils.newRepairPostRequest();
         RepairPostResponse postResponse = RepairUtils.newRepairPostResponse();
@@ -200,7 +279,7 @@ class RepairServiceTest {
 
     @Test
     @DisplayName("save throws NotFoundException when client is not found")
-    @Order(10)
+    @Order(14)
     void save_ThrowsNotFoundException_WhenClientIsNotFound() {
         RepairPostRequest postRequest = RepairUtils.newRepairPostRequest();
 
@@ -212,7 +291,7 @@ class RepairServiceTest {
 
     @Test
     @DisplayName("save throws NotFoundException when vehicle is not found")
-    @Order(11)
+    @Order(15)
     void save_ThrowsNotFoundException_WhenVehicleIsNotFound() {
         RepairPostRequest postRequest = RepairUtils.newRepairPostRequest().withClientId(999L);
 
@@ -225,7 +304,7 @@ class RepairServiceTest {
 
     @Test
     @DisplayName("deleteById removes repair when successful")
-    @Order(12)
+    @Order(16)
     void deleteById_RemovesRepair_WhenSuccessful() {
         Repair repairToDelete = repairList.getFirst();
         Long idToDelete = repairToDelete.getId();
@@ -235,11 +314,14 @@ class RepairServiceTest {
 
         Assertions.assertThatCode(() -> service.deleteById(idToDelete))
                 .doesNotThrowAnyException();
+
+        BDDMockito.verify(revenueService).removeRepair(repairToDelete);
+        BDDMockito.verify(reservationService).removeRepair(repairToDelete);
     }
 
     @Test
     @DisplayName("deleteById throws NotFoundException when given id is not found")
-    @Order(13)
+    @Order(17)
     void deleteById_ThrowsNotFoundException_WhenGivenIdIsNotFound() {
         Long randomId = 15512366L;
 
@@ -252,31 +334,34 @@ class RepairServiceTest {
 
     @Test
     @DisplayName("updateTotalValue updates total value when successful")
-    @Order(14)
+    @Order(18)
     void updateTotalValue_UpdatesRepairTotalValue_WhenSuccessful() {
-        Repair repairToUpdateTotalValue = repairList.getFirst();
-        Long repairId = repairToUpdateTotalValue.getId();
-        double valueToSum = 1000D;
-        Repair repairUpdated = repairToUpdateTotalValue.withTotalValue(repairToUpdateTotalValue.getTotalValue() + valueToSum);
+        Long repairId = repairList.getFirst().getId();
+        Money valueToSum = Money.of(1000);
 
-        BDDMockito.when(repository.findById(repairId)).thenReturn(Optional.of(repairToUpdateTotalValue));
-        BDDMockito.when(repository.save(repairUpdated)).thenReturn(repairUpdated);
+        Repair loadedRepair = repairList.getFirst();
+
+        BDDMockito.when(repository.updateTotalValue(repairId, valueToSum.toBigDecimal())).thenReturn(1);
+        BDDMockito.when(entityManager.getReference(Repair.class, repairId)).thenReturn(loadedRepair);
 
         Assertions.assertThatNoException()
                 .isThrownBy(() -> service.updateTotalValue(repairId, valueToSum));
+
+        BDDMockito.verify(repository).updateTotalValue(repairId, valueToSum.toBigDecimal());
+        BDDMockito.verify(entityManager).refresh(loadedRepair);
     }
 
     @Test
     @DisplayName("updateTotalValue throws NotFoundException when the given repair id is not found")
-    @Order(15)
+    @Order(19)
     void updateTotalValue_ThrowsNotFoundException_WhenTheGivenRepairIdIsNotFound() {
         Long randomRepairId = 999L;
-        double valueToSum = 1000D;
+        Money valueToSum = Money.of(1000);
 
-        BDDMockito.when(repository.findById(randomRepairId)).thenReturn(Optional.empty());
+        BDDMockito.when(repository.updateTotalValue(randomRepairId, valueToSum.toBigDecimal())).thenReturn(0);
 
         Assertions.assertThatThrownBy(() -> service.updateTotalValue(randomRepairId, valueToSum))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Repair with id '%s' not Found".formatted(randomRepairId));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,157 @@
+package com.branches.service;
+
+import com.branches.config.CacheConfig;
+import com.branches.exception.BadRequestException;
+import com.branches.model.*;
+import com.branches.response.RevenueByCategoryResponse;
+import com.branches.response.RevenueByPieceResponse;
+import com.branches.response.RevenueGranularity;
+import com.branches.response.RevenuePeriodResponse;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CacheConfig.class, RevenueService.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RevenueServiceTest {
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 12, 31);
+    @Autowired
+    private RevenueService service;
+    @Autowired
+    private TestEntityManager entityManager;
+    private Piece oil;
+    private Piece filter;
+    private Category mechanic;
+    private Repair februaryRepair;
+    private Repair marchRepair;
+
+    @BeforeEach
+    void init() {
+        oil = entityManager.persist(Piece.builder().name("Óleo de motor").unitValue(Money.of(50)).stock(100).build());
+        filter = entityManager.persist(Piece.builder().name("Filtro de ar").unitValue(Money.of(80)).stock(100).build());
+        mechanic = entityManager.persist(Category.builder().name("Mecânico").hourlyPrice(Money.of(40)).build());
+
+        februaryRepair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).endDate(LocalDate.of(2025, 2, 10)).build());
+        marchRepair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).endDate(LocalDate.of(2025, 3, 10)).build());
+
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("findAllByPeriod returns the pieces and labor revenue of each day in the range")
+    @Order(1)
+    void findAllByPeriod_ReturnsThePiecesAndLaborRevenueOfEachDayInTheRange() {
+        service.addPiece(februaryRepair, oil, 2, Money.of(100));
+        service.addPiece(februaryRepair, oil, 1, Money.of(50));
+        service.addLabor(februaryRepair, mechanic, 3, Money.of(120));
+        service.addPiece(marchRepair, filter, 1, Money.of(80));
+
+        List<RevenuePeriodResponse> response = service.findAllByPeriod(FROM, TO, RevenueGranularity.DAY);
+
+        Assertions.assertThat(response)
+                .extracting(RevenuePeriodResponse::getPeriod, RevenuePeriodResponse::getPiecesValue, RevenuePeriodResponse::getLaborValue, RevenuePeriodResponse::getTotalValue)
+                .containsExactly(
+                        Assertions.tuple("2025-02-10", Money.of(150), Money.of(120), Money.of(270)),
+                        Assertions.tuple("2025-03-10", Money.of(80), Money.ZERO, Money.of(80))
+                );
+    }
+
+    @Test
+    @DisplayName("findAllByPeriod sums the days of each month when the granularity is month")
+    @Order(2)
+    void findAllByPeriod_SumsTheDaysOfEachMonth_WhenTheGranularityIsMonth() {
+        Repair otherFebruaryRepair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).endDate(LocalDate.of(2025, 2, 20)).build());
+
+        service.addPiece(februaryRepair, oil, 2, Money.of(100));
+        service.addLabor(otherFebruaryRepair, mechanic, 1, Money.of(40));
+        service.addPiece(marchRepair, filter, 1, Money.of(80));
+
+        List<RevenuePeriodResponse> response = service.findAllByPeriod(FROM, TO, RevenueGranularity.MONTH);
+
+        Assertions.assertThat(response)
+                .extracting(RevenuePeriodResponse::getPeriod, RevenuePeriodResponse::getTotalValue)
+                .containsExactly(
+                        Assertions.tuple("2025-02", Money.of(140)),
+                        Assertions.tuple("2025-03", Money.of(80))
+                );
+    }
+
+    @Test
+    @DisplayName("findAllByPiece and findAllByCategory return the quantity and revenue of each source")
+    @Order(3)
+    void findAllByPieceAndFindAllByCategory_ReturnTheQuantityAndRevenueOfEachSource() {
+        service.addPiece(februaryRepair, oil, 2, Money.of(100));
+        service.addPiece(marchRepair, oil, 1, Money.of(50));
+        service.addPiece(marchRepair, filter, 1, Money.of(80));
+        service.addLabor(februaryRepair, mechanic, 3, Money.of(120));
+
+        List<RevenueByPieceResponse> pieces = service.findAllByPiece(FROM, TO);
+        List<RevenueByCategoryResponse> categories = service.findAllByCategory(FROM, TO);
+
+        Assertions.assertThat(pieces)
+                .extracting(RevenueByPieceResponse::getName, RevenueByPieceResponse::getQuantity, RevenueByPieceResponse::getTotalValue)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple("Óleo de motor", 3L, Money.of(150)),
+                        Assertions.tuple("Filtro de ar", 1L, Money.of(80))
+                );
+        Assertions.assertThat(categories)
+                .extracting(RevenueByCategoryResponse::getName, RevenueByCategoryResponse::getHoursWorked, RevenueByCategoryResponse::getTotalValue)
+                .containsExactly(Assertions.tuple("Mecânico", 3L, Money.of(120)));
+    }
+
+    @Test
+    @DisplayName("removeRepair subtracts every piece and employee of the repair from the rollup")
+    @Order(4)
+    void removeRepair_SubtractsEveryPieceAndEmployeeOfTheRepairFromTheRollup() {
+        Person person = entityManager.persist(Person.builder().name("Marcus").lastName("Branches").build());
+        Employee employee = entityManager.persist(Employee.builder().person(person).category(mechanic).build());
+        entityManager.persist(RepairPiece.builder().repair(februaryRepair).piece(oil).quantity(2).totalValue(Money.of(100)).build());
+        entityManager.persist(RepairEmployee.builder().repair(februaryRepair).employee(employee).category(mechanic).hoursWorked(3).totalValue(Money.of(120)).build());
+        entityManager.flush();
+
+        service.addPiece(februaryRepair, oil, 2, Money.of(100));
+        service.addLabor(februaryRepair, mechanic, 3, Money.of(120));
+        service.addPiece(marchRepair, filter, 1, Money.of(80));
+
+        service.removeRepair(februaryRepair);
+
+        Assertions.assertThat(service.findAllByPeriod(FROM, TO, RevenueGranularity.MONTH))
+                .extracting(RevenuePeriodResponse::getPeriod, RevenuePeriodResponse::getTotalValue)
+                .containsExactly(
+                        Assertions.tuple("2025-02", Money.ZERO),
+                        Assertions.tuple("2025-03", Money.of(80))
+                );
+    }
+
+    @Test
+    @DisplayName("addPiece ignores the repair when it has no end date")
+    @Order(5)
+    void addPiece_IgnoresTheRepair_WhenItHasNoEndDate() {
+        Repair openRepair = entityManager.persist(Repair.builder().totalValue(Money.ZERO).build());
+
+        service.addPiece(openRepair, oil, 2, Money.of(100));
+
+        Assertions.assertThat(service.findAllByPeriod(FROM, TO, RevenueGranularity.DAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAllByPeriod throws BadRequestException when 'from' is after 'to'")
+    @Order(6)
+    void findAllByPeriod_ThrowsBadRequestException_WhenFromIsAfterTo() {
+        Assertions.assertThatThrownBy(() -> service.findAllByPeriod(TO, FROM, RevenueGranularity.DAY))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'from' must not be after 'to'");
+    }
+}
@@ -35,6 +35,8 @@ class VehicleServiceTest {
     private VehicleMapper mapper;
     @Mock
     private ClientService clientService;
+    @Mock
+    private ClientOverviewService clientOverviewService;
     private List<Vehicle> vehicleList;
     private List<VehicleGetResponse> vehicleGetResponseList;
 
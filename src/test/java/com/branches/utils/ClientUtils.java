@@ -5,6 +5,7 @@ import com.branches.request.ClientPostRequest;
 import com.branches.request.ClientPutRequest;
 import com.branches.response.*;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -106,4 +107,21 @@ public class ClientUtils {
 
         return newClientList().getFirst().withPerson(personToUpdate);
     }
+
+    public static ClientOverviewGetResponse newClientOverviewGetResponse() {
+        Person person = PersonUtils.newPersonList().getFirst();
+        VehicleOverviewResponse vehicle = VehicleOverviewResponse.builder().id(1L).vehicleType(VehicleType.carro).brand("Fiat").model("Toro").repairsCount(2L).totalValue(Money.of(1500)).build();
+        RepairOverviewResponse repair1 = RepairOverviewResponse.builder().id(1L).vehicleId(1L).totalValue(Money.of(1000)).endDate(LocalDate.of(2025, 2, 12)).build();
+        RepairOverviewResponse repair2 = RepairOverviewResponse.builder().id(2L).vehicleId(1L).totalValue(Money.of(500)).endDate(LocalDate.of(2025, 3, 12)).build();
+
+        return ClientOverviewGetResponse.builder()
+                .id(1L)
+                .person(person)
+                .email("marcus@gmail.com")
+                .vehicles(List.of(vehicle))
+                .totalValue(Money.of(1500))
+                .repairs(List.of(repair1, repair2))
+                .nextRepairsCursor(2L)
+                .build();
+    }
 }
@@ -5,6 +5,7 @@ import com.branches.request.EmployeePostRequest;
 import com.branches.request.EmployeePutRequest;
 import com.branches.response.*;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -129,4 +130,25 @@ public class EmployeeUtils {
 
         return newEmployeeList().getFirst().withPerson(personToUpdate).withCategory(categoryToUpdate);
     }
+
+    public static List<EmployeeUtilizationResponse> newEmployeeUtilizationResponseList() {
+        EmployeeUtilizationResponse utilization = new EmployeeUtilizationResponse(1L, "Marcus", "Branches", "Mecânico", 6L, Money.of(300), 3L);
+
+        return new ArrayList<>(List.of(utilization));
+    }
+
+    public static EmployeeUtilizationGetResponse newEmployeeUtilizationGetResponse() {
+        WeekUtilizationResponse week = WeekUtilizationResponse.builder().weekStart(LocalDate.of(2025, 2, 10)).hoursWorked(6L).totalValue(Money.of(300)).repairsCount(3L).build();
+
+        return EmployeeUtilizationGetResponse.builder()
+                .employeeId(1L)
+                .name("Marcus")
+                .lastName("Branches")
+                .category("Mecânico")
+                .hoursWorked(6L)
+                .totalValue(Money.of(300))
+                .repairsCount(3L)
+                .weeks(List.of(week))
+                .build();
+    }
 }
@@ -17,11 +17,11 @@ public class RepairEmployeeUtils {
         int hoursWorked = 1;
 
         Employee employee1 = employeeList.getFirst();
-        RepairEmployee repairEmployee1 = RepairEmployee.builder().repair(repair).id(1L).employee(employee1).hoursWorked(hoursWorked).totalValue(employee1.getCategory().getHourlyPrice() * hoursWorked).build();
+        RepairEmployee repairEmployee1 = RepairEmployee.builder().repair(repair).id(1L).employee(employee1).category(employee1.getCategory()).hoursWorked(hoursWorked).totalValue(employee1.getCategory().getHourlyPrice().times(hoursWorked)).build();
         Employee employee2 = employeeList.get(1);
-        RepairEmployee repairEmployee2 = RepairEmployee.builder().repair(repair).id(2L).employee(employee2).hoursWorked(hoursWorked).totalValue(employee2.getCategory().getHourlyPrice() * hoursWorked).build();
+        RepairEmployee repairEmployee2 = RepairEmployee.builder().repair(repair).id(2L).employee(employee2).category(employee2.getCategory()).hoursWorked(hoursWorked).totalValue(employee2.getCategory().getHourlyPrice().times(hoursWorked)).build();
         Employee employee3 = employeeList.getLast();
-        RepairEmployee repairEmployee3 = RepairEmployee.builder().repair(repair).id(3L).employee(employee3).hoursWorked(hoursWorked).totalValue(employee3.getCategory().getHourlyPrice() * hoursWorked).build();
+        RepairEmployee repairEmployee3 = RepairEmployee.builder().repair(repair).id(3L).employee(employee3).category(employee3.getCategory()).hoursWorked(hoursWorked).totalValue(employee3.getCategory().getHourlyPrice().times(hoursWorked)).build();
 
         return List.of(repairEmployee1, repairEmployee2, repairEmployee3);
     }
@@ -39,14 +39,14 @@ public class RepairEmployeeUtils {
         EmployeeByRepairResponse employee = EmployeeUtils.newEmployeeByRepairPostResponse();
         Category employeeCategory = employee.getCategory();
 
-        return RepairEmployeePostResponse.builder().employee(employee).hoursWorked(5).totalValue(employeeCategory.getHourlyPrice() * 5).build();
+        return RepairEmployeePostResponse.builder().employee(employee).hoursWorked(5).totalValue(employeeCategory.getHourlyPrice().times(5)).build();
     }
 
     public static RepairEmployeePostResponse newRepairEmployeePostResponse() {
         EmployeeByRepairResponse employee = EmployeeUtils.newEmployeeByRepairByAddEmployee();
         Category employeeCategory = employee.getCategory();
 
-        return RepairEmployeePostResponse.builder().employee(employee).hoursWorked(5).totalValue(employeeCategory.getHourlyPrice() * 5).build();
+        return RepairEmployeePostResponse.builder().employee(employee).hoursWorked(5).totalValue(employeeCategory.getHourlyPrice().times(5)).build();
     }
 
     public static RepairEmployeePostResponse newRepairEmployeeByRepairGetEmployees() {
@@ -56,7 +56,7 @@ public class RepairEmployeeUtils {
         return RepairEmployeePostResponse.builder()
                 .employee(EmployeeUtils.newEmployeeByRepairGetEmployees())
                 .hoursWorked(hoursWorked)
-                .totalValue(employee.getCategory().getHourlyPrice() * hoursWorked)
+                .totalValue(employee.getCategory().getHourlyPrice().times(hoursWorked))
                 .build();
     }
 
@@ -64,14 +64,14 @@ public class RepairEmployeeUtils {
         Employee employee = EmployeeUtils.newEmployeeList().getFirst();
         Category employeeCategory = employee.getCategory();
 
-        return RepairEmployee.builder().employee(employee).hoursWorked(5).totalValue(employeeCategory.getHourlyPrice() * 5).build();
+        return RepairEmployee.builder().employee(employee).category(employeeCategory).hoursWorked(5).totalValue(employeeCategory.getHourlyPrice().times(5)).build();
     }
 
     public static RepairEmployee newRepairEmployeeSaved() {
         RepairEmployee repairEmployee = newRepairEmployeeToSave();
 
         Category category = repairEmployee.getEmployee().getCategory();
-        return repairEmployee.withId(4L).withTotalValue(category.getHourlyPrice() * repairEmployee.getHoursWorked());
+        return repairEmployee.withId(4L).withTotalValue(category.getHourlyPrice().times(repairEmployee.getHoursWorked()));
 
     }
 }
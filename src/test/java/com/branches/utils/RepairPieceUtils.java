@@ -1,11 +1,14 @@
 package com.branches.utils;
 
 import com.branches.model.Piece;
+import com.branches.model.PieceReservation;
 import com.branches.model.Repair;
 import com.branches.model.RepairPiece;
 import com.branches.request.RepairPiecePostRequest;
+import com.branches.response.PieceReservationResponse;
 import com.branches.response.RepairPiecePostResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class RepairPieceUtils {
@@ -14,17 +17,30 @@ public class RepairPieceUtils {
         int quantity = 5;
 
         Piece piece1 = PieceUtils.newPieceList().getFirst();
-        RepairPiece repairPiece1 = RepairPiece.builder().id(1L).repair(repair).piece(piece1).quantity(quantity).totalValue(piece1.getUnitValue() * quantity).build();
+        RepairPiece repairPiece1 = RepairPiece.builder().id(1L).repair(repair).piece(piece1).quantity(quantity).totalValue(piece1.getUnitValue().times(quantity)).build();
 
         Piece piece2 = PieceUtils.newPieceList().get(1);
-        RepairPiece repairPiece2 = RepairPiece.builder().id(2L).repair(repair).piece(piece2).quantity(quantity).totalValue(piece2.getUnitValue() * quantity).build();
+        RepairPiece repairPiece2 = RepairPiece.builder().id(2L).repair(repair).piece(piece2).quantity(quantity).totalValue(piece2.getUnitValue().times(quantity)).build();
 
         Piece piece3 = PieceUtils.newPieceList().getLast();
-        RepairPiece repairPiece3 = RepairPiece.builder().id(3L).repair(repair).piece(piece3).quantity(quantity).totalValue(piece3.getUnitValue() * quantity).build();
+        RepairPiece repairPiece3 = RepairPiece.builder().id(3L).repair(repair).piece(piece3).quantity(quantity).totalValue(piece3.getUnitValue().times(quantity)).build();
 
         return List.of(repairPiece1, repairPiece2, repairPiece3);
     }
 
+    public static PieceReservation newPieceReservation() {
+        Repair repair = RepairUtils.newRepairList().getFirst();
+        Piece piece = PieceUtils.newPieceList().getFirst();
+
+        return PieceReservation.builder().id(1L).repair(repair).piece(piece).quantity(5).expiresAt(LocalDateTime.of(2025, 3, 3, 12, 0)).build();
+    }
+
+    public static PieceReservationResponse newPieceReservationResponse() {
+        Piece piece = PieceUtils.newPieceList().getFirst();
+
+        return PieceReservationResponse.builder().piece(piece).quantity(5).expiresAt(LocalDateTime.of(2025, 3, 3, 12, 0)).build();
+    }
+
     public static RepairPiecePostRequest newRepairPiecePostRequest() {
         return RepairPiecePostRequest.builder().pieceId(1L).quantity(5).build();
     }
@@ -42,13 +58,13 @@ public class RepairPieceUtils {
 
         Repair repair = RepairUtils.newRepairList().getFirst();
 
-        return repairPiece.withId(4L).withRepair(repair).withTotalValue(repairPiece.getPiece().getUnitValue() * repairPiece.getQuantity());
+        return repairPiece.withId(4L).withRepair(repair).withTotalValue(repairPiece.getPiece().getUnitValue().times(repairPiece.getQuantity()));
     }
 
     public static RepairPiecePostResponse newRepairPiecePostResponse() {
         Piece piece = PieceUtils.newPieceList().getFirst();
 
-        return RepairPiecePostResponse.builder().piece(piece).quantity(5).totalValue(piece.getUnitValue() * 5).build();
+        return RepairPiecePostResponse.builder().piece(piece).quantity(5).totalValue(piece.getUnitValue().times(5)).build();
     }
 
     public static RepairPiecePostResponse newRepairPieceByRepairGetPieces() {
@@ -59,7 +75,7 @@ public class RepairPieceUtils {
         return RepairPiecePostResponse.builder()
                 .piece(piece)
                 .quantity(quantity)
-                .totalValue(piece.getUnitValue() * quantity)
+                .totalValue(piece.getUnitValue().times(quantity))
                 .build();
     }
 }
@@ -1,6 +1,7 @@
 package com.branches.utils;
 
 import com.branches.model.Client;
+import com.branches.model.Money;
 import com.branches.model.Piece;
 import com.branches.model.Repair;
 import com.branches.model.Vehicle;
@@ -19,9 +20,9 @@ public class RepairUtils {
         Vehicle vehicle = VehicleUtils.newVehicleList().getFirst();
         LocalDate date = LocalDate.of(2025, 2, 12);
 
-        Repair repair1 = Repair.builder().id(1L).client(client).vehicle(vehicle).totalValue(1000).endDate(date).build();
-        Repair repair2 = Repair.builder().id(2L).client(client).vehicle(vehicle).totalValue(1000).endDate(date).build();
-        Repair repair3 = Repair.builder().id(3L).client(client).vehicle(vehicle).totalValue(1000).endDate(date).build();
+        Repair repair1 = Repair.builder().id(1L).client(client).vehicle(vehicle).totalValue(Money.of(1000)).endDate(date).build();
+        Repair repair2 = Repair.builder().id(2L).client(client).vehicle(vehicle).totalValue(Money.of(1000)).endDate(date).build();
+        Repair repair3 = Repair.builder().id(3L).client(client).vehicle(vehicle).totalValue(Money.of(1000)).endDate(date).build();
 
         return new ArrayList<>(List.of(repair1, repair2, repair3));
     }
@@ -31,9 +32,9 @@ public class RepairUtils {
         VehicleDefaultResponse vehicle = VehicleUtils.newVehicleDefaultResponse();
         LocalDate date = LocalDate.of(2025, 2, 12);
 
-        RepairGetResponse repair1 = RepairGetResponse.builder().id(1L).client(client).vehicle(vehicle).totalValue(1000).endDate(date).build();
-        RepairGetResponse repair2 = RepairGetResponse.builder().id(2L).client(client).vehicle(vehicle).totalValue(1000).endDate(date).build();
-        RepairGetResponse repair3 = RepairGetResponse.builder().id(3L).client(client).vehicle(vehicle).totalValue(1000).endDate(date).build();
+        RepairGetResponse repair1 = RepairGetResponse.builder().id(1L).client(client).vehicle(vehicle).totalValue(Money.of(1000)).endDate(date).build();
+        RepairGetResponse repair2 = RepairGetResponse.builder().id(2L).client(client).vehicle(vehicle).totalValue(Money.of(1000)).endDate(date).build();
+        RepairGetResponse repair3 = RepairGetResponse.builder().id(3L).client(client).vehicle(vehicle).totalValue(Money.of(1000)).endDate(date).build();
 
         return new ArrayList<>(List.of(repair1, repair2, repair3));
     }
@@ -56,6 +57,7 @@ public class RepairUtils {
         return Repair.builder()
                 .client(client)
                 .vehicle(vehicle)
+                .totalValue(Money.ZERO)
                 .endDate(date)
                 .build();
     }
@@ -71,8 +73,16 @@ public class RepairUtils {
                 .id(4L)
                 .client(ClientUtils.newClientByRepairPostResponse())
                 .vehicle(VehicleUtils.newVehicleDefaultResponse())
-                .totalValue(0D)
+                .totalValue(Money.ZERO)
                 .endDate(date)
                 .build();
     }
+
+    public static RepairDetailGetResponse newRepairDetailGetResponse() {
+        return RepairDetailGetResponse.builder()
+                .repair(newRepairGetResponseList().getFirst())
+                .pieces(List.of(RepairPieceUtils.newRepairPieceByRepairGetPieces()))
+                .employees(List.of(RepairEmployeeUtils.newRepairEmployeeByRepairGetEmployees()))
+                .build();
+    }
 }
@@ -1,7 +1,3 @@
-CREATE DATABASE IF NOT EXISTS departamento;
-
-USE departamento;
-
 CREATE TABLE IF NOT EXISTS endereco (
 	idendereco BIGINT PRIMARY KEY AUTO_INCREMENT,
     rua VARCHAR(30) NOT NULL,